@@ -13,6 +13,7 @@ import com.colin.beastmode.listeners.SignListener;
 import com.colin.beastmode.placeholder.TimeTrialPlaceholder;
 import com.colin.beastmode.setup.SetupSessionManager;
 import com.colin.beastmode.storage.ArenaStorage;
+import com.colin.beastmode.storage.SignStorage;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.plugin.PluginManager;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -24,6 +25,7 @@ public final class Beastmode extends JavaPlugin {
     private ArenaEditMenu arenaEditMenu;
     private ArenaMenu arenaMenu;
     private GameManager gameManager;
+    private SignListener signListener;
     private String messagePrefix;
 
     @Override
@@ -47,6 +49,9 @@ public final class Beastmode extends JavaPlugin {
         if (setupSessionManager != null) {
             setupSessionManager.endAllSessions();
         }
+        if (signListener != null) {
+            signListener.flushPendingSave();
+        }
         if (gameManager != null) {
             gameManager.shutdown();
         }
@@ -94,8 +99,9 @@ public final class Beastmode extends JavaPlugin {
         pluginManager.registerEvents(new ChatInputListener(this, setupSessionManager), this);
         pluginManager.registerEvents(new ArenaMenuListener(arenaMenu), this);
         pluginManager.registerEvents(new ArenaEditMenuListener(arenaEditMenu), this);
-    pluginManager.registerEvents(new SignListener(this, arenaStorage, gameManager, messagePrefix), this);
-        pluginManager.registerEvents(new GameListener(gameManager), this);
+        this.signListener = new SignListener(arenaStorage, new SignStorage(this), gameManager, messagePrefix);
+        pluginManager.registerEvents(signListener, this);
+        pluginManager.registerEvents(new GameListener(gameManager, signListener), this);
     }
 
     private void registerPlaceholders() {
@@ -35,6 +35,10 @@ public class BeastmodeCommand implements CommandExecutor, TabCompleter {
     private static final String SUB_TRIAL = "trial";
     private static final String SUB_TRIAL_CLEAR = "trialclear";
     private static final String SUB_EDIT = "edit";
+    private static final String SUB_TASKS = "tasks";
+    private static final String SUB_RELOAD = "reload";
+    private static final String SUB_PLAY = "play";
+    private static final String PLAY_LEAVE = "leave";
     private static final String ROLE_RUNNER = "runner";
     private static final String ROLE_BEAST = "beast";
     private static final String ROLE_ANY = "any";
@@ -79,6 +83,9 @@ public class BeastmodeCommand implements CommandExecutor, TabCompleter {
             case SUB_JOIN:
                 handleJoin(player, args);
                 return true;
+            case SUB_PLAY:
+                handlePlay(player, args);
+                return true;
             case SUB_TRIAL:
                 handleTrial(player, args);
                 return true;
@@ -94,12 +101,37 @@ public class BeastmodeCommand implements CommandExecutor, TabCompleter {
             case SUB_EDIT:
                 handleEdit(player, args);
                 return true;
+            case SUB_TASKS:
+                handleTasks(player);
+                return true;
+            case SUB_RELOAD:
+                handleReload(player);
+                return true;
             default:
-                sessionManager.sendPrefixed(player, ChatColor.RED + "Unknown subcommand. Try /beastmode create, /beastmode setspawn, /beastmode setwaiting, /beastmode join, /beastmode cancel, /beastmode delete, or /beastmode edit.");
+                sessionManager.sendPrefixed(player, ChatColor.RED + "Unknown subcommand. Try /beastmode create, /beastmode setspawn, /beastmode setwaiting, /beastmode join, /beastmode play, /beastmode cancel, /beastmode delete, /beastmode edit, /beastmode tasks, or /beastmode reload.");
                 return false;
         }
     }
 
+    private void handleTasks(Player player) {
+        if (!player.hasPermission("beastmode.command")) {
+            sessionManager.sendPrefixed(player, ChatColor.RED + "You do not have permission to inspect plugin tasks.");
+            return;
+        }
+        for (String line : gameManager.describeTasks()) {
+            sessionManager.sendPrefixed(player, line);
+        }
+    }
+
+    private void handleReload(Player player) {
+        if (!player.hasPermission("beastmode.command")) {
+            sessionManager.sendPrefixed(player, ChatColor.RED + "You do not have permission to reload the configuration.");
+            return;
+        }
+        gameManager.reloadConfiguration();
+        sessionManager.sendPrefixed(player, ChatColor.GREEN + "Reloaded kits and messages from config.yml.");
+    }
+
     private void handleEdit(Player player, String[] args) {
         if (args.length == 1) {
             arenaMenu.open(player);
@@ -213,6 +245,30 @@ public class BeastmodeCommand implements CommandExecutor, TabCompleter {
         gameManager.joinArena(player, arenaName, preference);
     }
 
+    private void handlePlay(Player player, String[] args) {
+        if (args.length >= 2 && args[1].equalsIgnoreCase(PLAY_LEAVE)) {
+            if (gameManager.leaveMatchmaking(player)) {
+                sessionManager.sendPrefixed(player, ChatColor.YELLOW + "You stopped searching for a hunt.");
+            } else {
+                sessionManager.sendPrefixed(player, ChatColor.RED + "You are not searching for a hunt.");
+            }
+            return;
+        }
+        GameManager.RolePreference preference = GameManager.RolePreference.ANY;
+        if (args.length >= 2) {
+            preference = parsePreference(args[1]);
+            if (preference == null) {
+                sessionManager.sendPrefixed(player, ChatColor.RED + "Usage: /beastmode play [runner|beast|any|leave]");
+                return;
+            }
+            if (preference != GameManager.RolePreference.ANY && !gameManager.canChoosePreference(player)) {
+                sessionManager.sendPrefixed(player, ChatColor.RED + "Only VIP or NJOG players can choose a role preference. Joining with random role.");
+                preference = GameManager.RolePreference.ANY;
+            }
+        }
+        gameManager.playMatchmaking(player, preference);
+    }
+
     private void handleTrial(Player player, String[] args) {
         if (args.length < 2) {
             sessionManager.sendPrefixed(player, ChatColor.RED + "Usage: /beastmode trial <arenaName>");
@@ -307,7 +363,7 @@ public class BeastmodeCommand implements CommandExecutor, TabCompleter {
         }
 
         if (args.length == 1) {
-            List<String> options = List.of(SUB_CREATE, SUB_SETSPAWN, SUB_SETWAITING, SUB_JOIN, SUB_TRIAL, SUB_TRIAL_CLEAR, SUB_CANCEL, SUB_DELETE, SUB_EDIT);
+            List<String> options = List.of(SUB_CREATE, SUB_SETSPAWN, SUB_SETWAITING, SUB_JOIN, SUB_PLAY, SUB_TRIAL, SUB_TRIAL_CLEAR, SUB_CANCEL, SUB_DELETE, SUB_EDIT, SUB_TASKS, SUB_RELOAD);
             return StringUtil.copyPartialMatches(args[0], options, new ArrayList<>());
         }
 
@@ -359,6 +415,16 @@ public class BeastmodeCommand implements CommandExecutor, TabCompleter {
             return StringUtil.copyPartialMatches(args[2], options, new ArrayList<>());
         }
 
+        if (args.length == 2 && sub.equals(SUB_PLAY)) {
+            List<String> options;
+            if (gameManager.canChoosePreference((Player) sender)) {
+                options = List.of(ROLE_RUNNER, ROLE_BEAST, ROLE_ANY, PLAY_LEAVE);
+            } else {
+                options = List.of(ROLE_ANY, PLAY_LEAVE);
+            }
+            return StringUtil.copyPartialMatches(args[1], options, new ArrayList<>());
+        }
+
         if (args.length == 3 && sub.equals(SUB_JOIN)) {
             Player player = (Player) sender;
             List<String> options;
@@ -2,117 +2,243 @@ package com.colin.beastmode.game;
 
 import com.colin.beastmode.model.ArenaDefinition;
 import com.colin.beastmode.game.GameManager.RolePreference;
+import org.bukkit.Bukkit;
 import org.bukkit.block.BlockState;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 final class ActiveArena {
 
     private final ArenaDefinition arena;
+    private final String key;
+    private final String baseKey;
+    private final int instance;
     private final Set<UUID> players = new LinkedHashSet<>();
+    private List<Player> roster;
     private final Set<UUID> runners = new HashSet<>();
-    private final Set<BukkitTask> trackedTasks = new HashSet<>();
     private final Set<UUID> spectatingRunners = new HashSet<>();
     private final Map<UUID, RolePreference> preferences = new ConcurrentHashMap<>();
-    private final Map<UUID, Long> timeTrialStarts = new ConcurrentHashMap<>();
+    private final Map<UUID, TimeTrialRun> timeTrialRuns = new ConcurrentHashMap<>();
+    private final Map<UUID, ArenaTimer> timeTrialCountdowns = new HashMap<>();
+    private ArenaTimer timeTrialHud;
     private List<BlockState> runnerWallSnapshot;
     private List<BlockState> beastWallSnapshot;
-    private boolean running;
+    private MatchPreparation preparation;
+    private final ArenaClock clock;
+    private final ArenaHud hud;
+    private final ArenaSidebar sidebar = new ArenaSidebar();
+    private ArenaPhase phase = ArenaPhase.IDLE;
+    private long phaseSerial;
+    private long phaseStartedNanos = System.nanoTime();
     private boolean runnerWallOpened;
     private boolean beastWallOpened;
-    private boolean selecting;
-    private boolean matchActive;
-    private boolean finalPhase;
     private boolean rewardSuppressed;
     private long invulnerabilityUntilMillis;
     private UUID beastId;
     private GameModeType mode = GameModeType.HUNT;
+    private Consumer<ActiveArena> changeListener;
 
-    ActiveArena(ArenaDefinition arena) {
+    ActiveArena(ArenaDefinition arena, ArenaClock clock, String key, int instance) {
         this.arena = arena;
+        this.key = key;
+        this.baseKey = arena.getName().toLowerCase(Locale.ENGLISH);
+        this.instance = instance;
+        this.clock = clock;
+        this.hud = new ArenaHud(clock);
     }
 
     ArenaDefinition getArena() {
         return arena;
     }
 
+    /**
+     * Directory key: the arena name for the primary instance, {@code name#n} for the others.
+     */
+    String getKey() {
+        return key;
+    }
+
+    int getInstance() {
+        return instance;
+    }
+
+    String getBaseKey() {
+        return baseKey;
+    }
+
+    /**
+     * Receives this arena whenever a change visible in its status (roster, phase, roles or mode) happens.
+     */
+    void setChangeListener(Consumer<ActiveArena> changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    private void changed() {
+        Consumer<ActiveArena> listener = changeListener;
+        if (listener != null) {
+            listener.accept(this);
+        }
+    }
+
     boolean addPlayer(Player player) {
-        return players.add(player.getUniqueId());
+        boolean added = players.add(player.getUniqueId());
+        if (added) {
+            roster = null;
+            hud.addViewer(player);
+            changed();
+        }
+        return added;
     }
 
     boolean contains(UUID uuid) {
         return players.contains(uuid);
     }
 
+    /**
+     * Read-only view of the member ids in join order.
+     */
     Set<UUID> getPlayerIds() {
-        return players;
+        return Collections.unmodifiableSet(players);
+    }
+
+    /**
+     * Online participants in join order, resolved once and reused until the roster is invalidated; players found
+     * offline while resolving are dropped from the arena. The returned list is immutable.
+     */
+    List<Player> getRoster() {
+        List<Player> cached = roster;
+        if (cached != null) {
+            return cached;
+        }
+        List<Player> resolved = new ArrayList<>(players.size());
+        boolean dropped = false;
+        Iterator<UUID> iterator = players.iterator();
+        while (iterator.hasNext()) {
+            UUID id = iterator.next();
+            Player player = Bukkit.getPlayer(id);
+            if (player == null || !player.isOnline()) {
+                iterator.remove();
+                preferences.remove(id);
+                runners.remove(id);
+                dropped = true;
+                continue;
+            }
+            resolved.add(player);
+        }
+        roster = List.copyOf(resolved);
+        if (dropped) {
+            changed();
+        }
+        return roster;
+    }
+
+    /**
+     * Members currently online, counted without resolving or pruning the roster.
+     */
+    int countOnline() {
+        List<Player> cached = roster;
+        if (cached != null) {
+            return cached.size();
+        }
+        int online = 0;
+        for (UUID id : players) {
+            Player player = Bukkit.getPlayer(id);
+            if (player != null && player.isOnline()) {
+                online++;
+            }
+        }
+        return online;
+    }
+
+    /**
+     * Drops the cached roster; called when a member leaves the server.
+     */
+    void invalidateRoster() {
+        roster = null;
     }
 
     void clearPlayers() {
         players.clear();
+        roster = null;
         preferences.clear();
+        hud.dispose();
+        sidebar.dispose();
         clearMatchState();
+        transitionTo(ArenaPhase.IDLE);
         mode = GameModeType.HUNT;
+        changed();
     }
 
-    void registerTask(BukkitTask task) {
-        if (task != null) {
-            trackedTasks.add(task);
-        }
+    ArenaClock getClock() {
+        return clock;
     }
 
-    void unregisterTask(BukkitTask task) {
-        if (task != null) {
-            trackedTasks.remove(task);
-        }
+    ArenaHud getHud() {
+        return hud;
+    }
+
+    ArenaSidebar getSidebar() {
+        return sidebar;
     }
 
     void cancelTasks() {
-        for (BukkitTask task : new HashSet<>(trackedTasks)) {
-            task.cancel();
-        }
-        trackedTasks.clear();
+        clock.cancelAll();
+        hud.clear();
+        timeTrialCountdowns.clear();
+        timeTrialHud = null;
     }
 
-    boolean isRunning() {
-        return running;
+    ArenaPhase getPhase() {
+        return phase;
     }
 
-    void setRunning(boolean running) {
-        this.running = running;
+    long getPhaseSerial() {
+        return phaseSerial;
     }
 
-    boolean isSelecting() {
-        return selecting;
+    long getPhaseStartedNanos() {
+        return phaseStartedNanos;
     }
 
-    void setSelecting(boolean selecting) {
-        this.selecting = selecting;
+    boolean transitionTo(ArenaPhase next) {
+        if (!phase.canTransitionTo(next)) {
+            return false;
+        }
+        phase = next;
+        phaseSerial++;
+        phaseStartedNanos = System.nanoTime();
+        changed();
+        return true;
     }
 
-    boolean isMatchActive() {
-        return matchActive;
+    boolean isRunning() {
+        return phase != ArenaPhase.IDLE;
     }
 
-    void setMatchActive(boolean matchActive) {
-        this.matchActive = matchActive;
+    boolean isSelecting() {
+        return phase == ArenaPhase.SELECTING || phase == ArenaPhase.WHEEL;
     }
 
-    boolean isFinalPhase() {
-        return finalPhase;
+    boolean isMatchActive() {
+        return phase == ArenaPhase.ACTIVE || phase == ArenaPhase.FINAL;
     }
 
-    void setFinalPhase(boolean finalPhase) {
-        this.finalPhase = finalPhase;
+    boolean isFinalPhase() {
+        return phase == ArenaPhase.FINAL;
     }
 
     boolean isRewardSuppressed() {
@@ -155,6 +281,7 @@ final class ActiveArena {
 
     void setBeastId(UUID beastId) {
         this.beastId = beastId;
+        changed();
     }
 
     void setRunners(Collection<UUID> runnerIds) {
@@ -162,6 +289,7 @@ final class ActiveArena {
         if (runnerIds != null) {
             runners.addAll(runnerIds);
         }
+        changed();
     }
 
     boolean isRunner(UUID uuid) {
@@ -169,12 +297,16 @@ final class ActiveArena {
     }
 
     boolean removeRunner(UUID uuid) {
-        return runners.remove(uuid);
+        boolean removed = runners.remove(uuid);
+        if (removed) {
+            changed();
+        }
+        return removed;
     }
 
     void addRunner(UUID uuid) {
-        if (uuid != null) {
-            runners.add(uuid);
+        if (uuid != null && runners.add(uuid)) {
+            changed();
         }
     }
 
@@ -188,12 +320,20 @@ final class ActiveArena {
 
     boolean removePlayer(UUID uuid) {
         boolean removed = players.remove(uuid);
+        if (removed) {
+            roster = null;
+        }
         preferences.remove(uuid);
+        hud.removeViewer(uuid);
+        sidebar.removeViewer(uuid);
         runners.remove(uuid);
         if (beastId != null && beastId.equals(uuid)) {
             beastId = null;
         }
         spectatingRunners.remove(uuid);
+        if (removed) {
+            changed();
+        }
         return removed;
     }
 
@@ -246,15 +386,13 @@ final class ActiveArena {
     }
 
     void clearMatchState() {
-        selecting = false;
-        matchActive = false;
-        finalPhase = false;
         rewardSuppressed = false;
         clearDamageProtection();
         beastId = null;
         runners.clear();
         spectatingRunners.clear();
-        timeTrialStarts.clear();
+        timeTrialRuns.clear();
+        preparation = null;
     }
 
     GameModeType getMode() {
@@ -262,32 +400,60 @@ final class ActiveArena {
     }
 
     void setMode(GameModeType mode) {
-        this.mode = mode != null ? mode : GameModeType.HUNT;
+        GameModeType next = mode != null ? mode : GameModeType.HUNT;
+        if (this.mode != next) {
+            this.mode = next;
+            changed();
+        }
     }
 
     boolean isTimeTrial() {
         return mode == GameModeType.TIME_TRIAL;
     }
 
-    void setTimeTrialStart(UUID uuid, long startMillis) {
-        if (uuid != null) {
-            timeTrialStarts.put(uuid, startMillis);
+    void putTimeTrialRun(TimeTrialRun run) {
+        if (run != null) {
+            timeTrialRuns.put(run.getPlayerId(), run);
         }
     }
 
-    Long removeTimeTrialStart(UUID uuid) {
+    TimeTrialRun removeTimeTrialRun(UUID uuid) {
         if (uuid == null) {
             return null;
         }
-        return timeTrialStarts.remove(uuid);
+        return timeTrialRuns.remove(uuid);
     }
 
-    void clearTimeTrialStarts() {
-        timeTrialStarts.clear();
+    void putTimeTrialCountdown(UUID uuid, ArenaTimer countdown) {
+        if (uuid != null && countdown != null) {
+            timeTrialCountdowns.put(uuid, countdown);
+        }
     }
 
-    java.util.Map<java.util.UUID, Long> getTimeTrialStartSnapshot() {
-        return new java.util.HashMap<>(timeTrialStarts);
+    ArenaTimer removeTimeTrialCountdown(UUID uuid) {
+        return uuid != null ? timeTrialCountdowns.remove(uuid) : null;
+    }
+
+    void removeTimeTrialCountdown(UUID uuid, ArenaTimer countdown) {
+        if (uuid != null) {
+            timeTrialCountdowns.remove(uuid, countdown);
+        }
+    }
+
+    ArenaTimer getTimeTrialHud() {
+        return timeTrialHud;
+    }
+
+    void setTimeTrialHud(ArenaTimer timeTrialHud) {
+        this.timeTrialHud = timeTrialHud;
+    }
+
+    void clearTimeTrialRuns() {
+        timeTrialRuns.clear();
+    }
+
+    Collection<TimeTrialRun> getTimeTrialRuns() {
+        return timeTrialRuns.values();
     }
 
     List<BlockState> getRunnerWallSnapshot() {
@@ -305,4 +471,12 @@ final class ActiveArena {
     void setBeastWallSnapshot(List<BlockState> beastWallSnapshot) {
         this.beastWallSnapshot = beastWallSnapshot;
     }
+
+    MatchPreparation getPreparation() {
+        return preparation;
+    }
+
+    void setPreparation(MatchPreparation preparation) {
+        this.preparation = preparation;
+    }
 }
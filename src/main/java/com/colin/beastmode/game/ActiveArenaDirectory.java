@@ -1,36 +1,98 @@
 package com.colin.beastmode.game;
 
+import com.colin.beastmode.model.ArenaDefinition;
+
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.function.Supplier;
+import java.util.function.Consumer;
 
 /**
  * Provides shared access to active arena instances and lookup utilities.
  */
 final class ActiveArenaDirectory {
 
+    private final TaskRegistry tasks;
     private final ConcurrentMap<String, ActiveArena> arenas;
+    private volatile Consumer<ActiveArena> changeListener;
 
-    ActiveArenaDirectory() {
-        this(new ConcurrentHashMap<>());
+    ActiveArenaDirectory(TaskRegistry tasks) {
+        this(tasks, new ConcurrentHashMap<>());
     }
 
-    ActiveArenaDirectory(ConcurrentMap<String, ActiveArena> arenas) {
+    ActiveArenaDirectory(TaskRegistry tasks, ConcurrentMap<String, ActiveArena> arenas) {
+        this.tasks = tasks;
         this.arenas = arenas;
     }
 
+    /**
+     * Installed on every arena created from now on; see {@link ActiveArena#setChangeListener(Consumer)}.
+     */
+    void setChangeListener(Consumer<ActiveArena> changeListener) {
+        this.changeListener = changeListener;
+        for (ActiveArena activeArena : arenas.values()) {
+            activeArena.setChangeListener(changeListener);
+        }
+    }
+
     ActiveArena get(String key) {
         return key != null ? arenas.get(key) : null;
     }
 
-    ActiveArena computeIfAbsent(String key, Supplier<ActiveArena> supplier) {
-        if (key == null || supplier == null) {
+    ActiveArena computeIfAbsent(String key, ArenaDefinition arena) {
+        if (key == null || arena == null) {
             return null;
         }
-        return arenas.computeIfAbsent(key, k -> supplier.get());
+        return computeIfAbsent(key, 0, arena);
+    }
+
+    /**
+     * Returns the arena registered under {@code key}, creating it as instance {@code index} of {@code arena}.
+     */
+    ActiveArena computeIfAbsent(String key, int index, ArenaDefinition arena) {
+        if (key == null || arena == null) {
+            return null;
+        }
+        return arenas.computeIfAbsent(key, k -> {
+            ActiveArena created = new ActiveArena(arena, new ArenaClock(tasks, k), k, index);
+            created.setChangeListener(changeListener);
+            return created;
+        });
+    }
+
+    /**
+     * Re-registers a pooled arena under its own key; false if that key is already taken.
+     */
+    boolean restore(ActiveArena activeArena) {
+        return activeArena != null && arenas.putIfAbsent(activeArena.getKey(), activeArena) == null;
+    }
+
+    /**
+     * Every registered instance of the arena whose primary key is {@code baseKey}.
+     */
+    List<ActiveArena> instancesOf(String baseKey) {
+        List<ActiveArena> instances = new ArrayList<>();
+        if (baseKey == null) {
+            return instances;
+        }
+        for (ActiveArena activeArena : arenas.values()) {
+            if (activeArena.getBaseKey().equals(baseKey)) {
+                instances.add(activeArena);
+            }
+        }
+        return instances;
+    }
+
+    /**
+     * True while {@code key} still maps to the arena driven by {@code clock}.
+     */
+    boolean ownsClock(String key, Object clock) {
+        ActiveArena arena = get(key);
+        return arena != null && arena.getClock() == clock;
     }
 
     boolean contains(String key) {
@@ -0,0 +1,207 @@
+package com.colin.beastmode.game;
+
+import com.colin.beastmode.Beastmode;
+import com.colin.beastmode.model.ArenaDefinition;
+import com.colin.beastmode.model.Cuboid;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Holds plugin chunk tickets on an arena's spawn, wall and finish chunks from the first queue join until cleanup,
+ * loading any missing chunk a few per tick so teleports and wall edits never pay for a synchronous load.
+ * Main-thread only.
+ */
+final class ArenaChunkWarmer {
+
+    static final int LOADS_PER_TICK = 2;
+    private static final int SPAWN_RADIUS = 1;
+    private static final int MAX_CHUNKS_PER_ARENA = 256;
+
+    private final Beastmode plugin;
+    private final TaskRegistry tasks;
+    private final Map<ActiveArena, Warmup> warmups = new IdentityHashMap<>();
+    private final Map<ChunkRef, Integer> tickets = new HashMap<>();
+    private TaskRegistry.Handle drainTask;
+    private long loadedAhead;
+    private long loadNanos;
+    private long alreadyLoaded;
+
+    ArenaChunkWarmer(Beastmode plugin, TaskRegistry tasks) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+        this.tasks = Objects.requireNonNull(tasks, "tasks");
+    }
+
+    /**
+     * Starts warming {@code activeArena}'s chunks; a no-op while it already holds its tickets.
+     */
+    void warm(ActiveArena activeArena) {
+        if (activeArena == null || warmups.containsKey(activeArena)) {
+            return;
+        }
+        warmups.put(activeArena, new Warmup(collectChunks(activeArena.getArena())));
+        if (drainTask == null || drainTask.isCancelled()) {
+            drainTask = tasks.runGlobal("chunk-warm", 1L, 1L, this::drain);
+        }
+    }
+
+    /**
+     * Releases every ticket held for {@code activeArena}, including chunks still waiting to be loaded.
+     */
+    void release(ActiveArena activeArena) {
+        Warmup warmup = activeArena != null ? warmups.remove(activeArena) : null;
+        if (warmup != null) {
+            release(warmup);
+        }
+    }
+
+    void shutdown() {
+        for (ChunkRef chunk : tickets.keySet()) {
+            chunk.world.removePluginChunkTicket(chunk.x, chunk.z, plugin);
+        }
+        tickets.clear();
+        warmups.clear();
+    }
+
+    int ticketedChunks() {
+        return tickets.size();
+    }
+
+    int warmingArenas() {
+        return warmups.size();
+    }
+
+    long chunksLoadedAhead() {
+        return loadedAhead;
+    }
+
+    /**
+     * Main-thread time spent on loads done ahead of the match, i.e. time the countdown no longer pays.
+     */
+    double millisLoadedAhead() {
+        return loadNanos / 1_000_000.0D;
+    }
+
+    long chunksAlreadyLoaded() {
+        return alreadyLoaded;
+    }
+
+    private void drain() {
+        int budget = LOADS_PER_TICK;
+        boolean pending = false;
+        for (Warmup warmup : warmups.values()) {
+            while (budget > 0 && warmup.next < warmup.chunks.size()) {
+                ChunkRef chunk = warmup.chunks.get(warmup.next++);
+                if (tickets.merge(chunk, 1, Integer::sum) > 1) {
+                    alreadyLoaded++;
+                    continue;
+                }
+                if (chunk.world.isChunkLoaded(chunk.x, chunk.z)) {
+                    alreadyLoaded++;
+                    chunk.world.addPluginChunkTicket(chunk.x, chunk.z, plugin);
+                    continue;
+                }
+                long started = System.nanoTime();
+                chunk.world.addPluginChunkTicket(chunk.x, chunk.z, plugin);
+                chunk.world.getChunkAt(chunk.x, chunk.z);
+                loadNanos += System.nanoTime() - started;
+                loadedAhead++;
+                budget--;
+            }
+            pending |= warmup.next < warmup.chunks.size();
+        }
+        if (!pending && drainTask != null) {
+            drainTask.cancel();
+            drainTask = null;
+        }
+    }
+
+    /**
+     * Drops this warmup's share of each ticket it reached; a chunk keeps its ticket while another arena holds it.
+     */
+    private void release(Warmup warmup) {
+        for (int i = 0; i < warmup.next; i++) {
+            ChunkRef chunk = warmup.chunks.get(i);
+            Integer holders = tickets.get(chunk);
+            if (holders == null) {
+                continue;
+            }
+            if (holders > 1) {
+                tickets.put(chunk, holders - 1);
+            } else {
+                tickets.remove(chunk);
+                chunk.world.removePluginChunkTicket(chunk.x, chunk.z, plugin);
+            }
+        }
+        warmup.next = 0;
+    }
+
+    private static List<ChunkRef> collectChunks(ArenaDefinition arena) {
+        Set<ChunkRef> chunks = new LinkedHashSet<>();
+        if (arena != null) {
+            addAround(chunks, arena.getWaitingSpawn());
+            addAround(chunks, arena.getRunnerSpawn());
+            addAround(chunks, arena.getBeastSpawn());
+            addAround(chunks, arena.getFinishButton());
+            addRegion(chunks, arena.getRunnerWall());
+            addRegion(chunks, arena.getBeastWall());
+            addRegion(chunks, arena.getFinishRegion());
+        }
+        return new ArrayList<>(chunks);
+    }
+
+    private static void addAround(Set<ChunkRef> chunks, Location location) {
+        World world = location != null ? location.getWorld() : null;
+        if (world == null) {
+            return;
+        }
+        int centerX = location.getBlockX() >> 4;
+        int centerZ = location.getBlockZ() >> 4;
+        for (int x = centerX - SPAWN_RADIUS; x <= centerX + SPAWN_RADIUS; x++) {
+            for (int z = centerZ - SPAWN_RADIUS; z <= centerZ + SPAWN_RADIUS; z++) {
+                add(chunks, world, x, z);
+            }
+        }
+    }
+
+    private static void addRegion(Set<ChunkRef> chunks, Cuboid region) {
+        World world = region != null ? region.getWorld() : null;
+        if (world == null) {
+            return;
+        }
+        Location min = region.getMin();
+        Location max = region.getMax();
+        for (int x = min.getBlockX() >> 4; x <= max.getBlockX() >> 4; x++) {
+            for (int z = min.getBlockZ() >> 4; z <= max.getBlockZ() >> 4; z++) {
+                add(chunks, world, x, z);
+            }
+        }
+    }
+
+    private static void add(Set<ChunkRef> chunks, World world, int x, int z) {
+        if (chunks.size() < MAX_CHUNKS_PER_ARENA) {
+            chunks.add(new ChunkRef(world, x, z));
+        }
+    }
+
+    private record ChunkRef(World world, int x, int z) {
+    }
+
+    private static final class Warmup {
+
+        private final List<ChunkRef> chunks;
+        private int next;
+
+        private Warmup(List<ChunkRef> chunks) {
+            this.chunks = chunks;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.colin.beastmode.game;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Drives every timer belonging to one arena from a single scheduler task and records tick overruns while running.
+ */
+final class ArenaClock {
+
+    private static final long OVERRUN_THRESHOLD_NANOS = TimeTrialTiming.TICK_NANOS * 3L / 2L;
+
+    private final TaskRegistry tasks;
+    private final String arenaKey;
+    private final TimingWheel wheel;
+    private TaskRegistry.Handle driver;
+    private long lastTickNanos;
+    private long lagNanos;
+    private long overruns;
+
+    ArenaClock(TaskRegistry tasks, String arenaKey) {
+        this.tasks = Objects.requireNonNull(tasks, "tasks");
+        this.arenaKey = Objects.requireNonNull(arenaKey, "arenaKey");
+        this.wheel = new TimingWheel(tasks.getLogger());
+    }
+
+    ArenaTimer runLater(long delayTicks, Runnable action) {
+        Objects.requireNonNull(action, "action");
+        return schedule(delayTicks, 0L, timer -> action.run());
+    }
+
+    ArenaTimer runRepeating(long delayTicks, long periodTicks, Consumer<ArenaTimer> action) {
+        return schedule(delayTicks, Math.max(periodTicks, 1L), action);
+    }
+
+    void cancelAll() {
+        wheel.cancelAll();
+        stopDriver();
+    }
+
+    int getPendingTimers() {
+        return wheel.size();
+    }
+
+    long getTickCount() {
+        return wheel.getCurrentTick();
+    }
+
+    /**
+     * Total time by which driven ticks overran their nominal length; only ticks past the overrun threshold count.
+     */
+    long getLagNanos() {
+        return lagNanos;
+    }
+
+    long getOverruns() {
+        return overruns;
+    }
+
+    private ArenaTimer schedule(long delayTicks, long periodTicks, Consumer<ArenaTimer> action) {
+        ArenaTimer timer = wheel.schedule(delayTicks, periodTicks, action);
+        if (driver == null || driver.isCancelled()) {
+            driver = tasks.runArena(arenaKey, this, "arena-clock", 1L, 1L, this::tick);
+        }
+        return timer;
+    }
+
+    private void tick() {
+        long now = System.nanoTime();
+        if (lastTickNanos != 0L) {
+            long gap = now - lastTickNanos;
+            if (gap > OVERRUN_THRESHOLD_NANOS) {
+                lagNanos += gap - TimeTrialTiming.TICK_NANOS;
+                overruns++;
+            }
+        }
+        lastTickNanos = now;
+        wheel.advance();
+        if (wheel.isEmpty()) {
+            stopDriver();
+        }
+    }
+
+    private void stopDriver() {
+        if (driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+        lastTickNanos = 0L;
+    }
+}
@@ -151,7 +151,7 @@ final class ArenaDepartureService {
         }
         int missing = waitingService.getMissingParticipantsCount(remaining.size(), activeArena.getArena());
         if (missing > 0 && activeArena.isSelecting()) {
-            activeArena.setSelecting(false);
+            activeArena.transitionTo(ArenaPhase.WAITING);
             notifyStatus(activeArena);
             waitingService.notifyWaitingForPlayers(activeArena, remaining);
         }
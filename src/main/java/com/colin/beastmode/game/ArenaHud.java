@@ -0,0 +1,155 @@
+package com.colin.beastmode.game;
+
+import org.bukkit.Bukkit;
+import org.bukkit.boss.BarColor;
+import org.bukkit.boss.BarStyle;
+import org.bukkit.boss.BossBar;
+import org.bukkit.entity.Player;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * One boss bar shared by everyone in an arena for countdowns and the wheel. Updates are buffered and pushed
+ * at most once per tick, and only fields that changed are sent.
+ */
+final class ArenaHud {
+
+    private final ArenaClock clock;
+    private final Map<UUID, Player> viewers = new LinkedHashMap<>();
+    private BossBar bar;
+    private ArenaTimer flushTimer;
+    private String channel;
+    private int channelTotal;
+    private String title = "";
+    private BarColor color = BarColor.WHITE;
+    private double progress = 1.0;
+    private boolean visible;
+
+    ArenaHud(ArenaClock clock) {
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    /**
+     * Shows a countdown on {@code channel}; the first value seen on a channel sets the bar's full length.
+     */
+    void countdown(List<Player> audience, String channel, String title, BarColor color, int remaining) {
+        if (!channel.equals(this.channel) || remaining > channelTotal) {
+            this.channel = channel;
+            this.channelTotal = Math.max(remaining, 1);
+        }
+        show(audience, title, color, Math.max(0.0, Math.min(1.0, remaining / (double) channelTotal)));
+    }
+
+    void show(List<Player> audience, String title, BarColor color, double progress) {
+        syncViewers(audience);
+        this.title = title;
+        this.color = color;
+        this.progress = progress;
+        this.visible = true;
+        scheduleFlush();
+    }
+
+    /**
+     * Hides the bar immediately, ahead of a key-beat title.
+     */
+    void clear() {
+        channel = null;
+        channelTotal = 0;
+        visible = false;
+        if (flushTimer != null) {
+            flushTimer.cancel();
+            flushTimer = null;
+        }
+        if (bar != null) {
+            bar.setVisible(false);
+        }
+    }
+
+    /**
+     * Adds a player who joined mid-countdown.
+     */
+    void addViewer(Player player) {
+        if (player != null && visible && viewers.putIfAbsent(player.getUniqueId(), player) == null && bar != null) {
+            bar.addPlayer(player);
+        }
+    }
+
+    void removeViewer(UUID playerId) {
+        Player player = viewers.remove(playerId);
+        if (player != null && bar != null) {
+            bar.removePlayer(player);
+        }
+    }
+
+    /**
+     * Detaches every viewer; called when the arena is cleaned up.
+     */
+    void dispose() {
+        clear();
+        viewers.clear();
+        if (bar != null) {
+            bar.removeAll();
+        }
+    }
+
+    private void syncViewers(List<Player> audience) {
+        Set<UUID> present = new HashSet<>(audience.size() * 2);
+        for (Player player : audience) {
+            present.add(player.getUniqueId());
+            if (viewers.putIfAbsent(player.getUniqueId(), player) == null && bar != null) {
+                bar.addPlayer(player);
+            }
+        }
+        if (viewers.size() == present.size()) {
+            return;
+        }
+        viewers.entrySet().removeIf(entry -> {
+            if (present.contains(entry.getKey())) {
+                return false;
+            }
+            if (bar != null) {
+                bar.removePlayer(entry.getValue());
+            }
+            return true;
+        });
+    }
+
+    private void scheduleFlush() {
+        if (flushTimer == null || flushTimer.isCancelled()) {
+            flushTimer = clock.runLater(1L, this::flush);
+        }
+    }
+
+    private void flush() {
+        flushTimer = null;
+        if (!visible) {
+            return;
+        }
+        if (bar == null) {
+            bar = Bukkit.createBossBar(title, color, BarStyle.SOLID);
+            bar.setProgress(progress);
+            for (Player player : viewers.values()) {
+                bar.addPlayer(player);
+            }
+            return;
+        }
+        if (!title.equals(bar.getTitle())) {
+            bar.setTitle(title);
+        }
+        if (bar.getColor() != color) {
+            bar.setColor(color);
+        }
+        if (bar.getProgress() != progress) {
+            bar.setProgress(progress);
+        }
+        if (!bar.isVisible()) {
+            bar.setVisible(true);
+        }
+    }
+}
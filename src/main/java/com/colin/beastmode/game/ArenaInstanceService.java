@@ -0,0 +1,255 @@
+package com.colin.beastmode.game;
+
+import com.colin.beastmode.model.ArenaDefinition;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Lets one arena definition host several matches at once. Instance 0 is the arena itself; instance {@code n} is
+ * the same build shifted by {@code n} times the configured offset and registered as {@code name#n}. Joins go to
+ * the least-loaded open instance, a new one is opened only when every open one is busy or full, and finished
+ * instances wait in a small warm pool (keeping their chunk tickets) instead of being rebuilt. Main-thread only.
+ */
+final class ArenaInstanceService {
+
+    static final String KEY_SEPARATOR = "#";
+
+    private final ActiveArenaDirectory directory;
+    private final ArenaWaitingService waitingService;
+    private final ArenaChunkWarmer chunkWarmer;
+    private final Map<String, Deque<ActiveArena>> pools = new HashMap<>();
+    private final Map<String, Translations> translations = new HashMap<>();
+    private volatile Map<String, Settings> settings = Map.of();
+    private long opened;
+    private long reused;
+    private long recycled;
+
+    ArenaInstanceService(ActiveArenaDirectory directory,
+                         ArenaWaitingService waitingService,
+                         ArenaChunkWarmer chunkWarmer,
+                         ConfigurationSection section) {
+        this.directory = Objects.requireNonNull(directory, "directory");
+        this.waitingService = Objects.requireNonNull(waitingService, "waitingService");
+        this.chunkWarmer = Objects.requireNonNull(chunkWarmer, "chunkWarmer");
+        reload(section);
+    }
+
+    /**
+     * Re-reads {@code instancing}; pooled instances are dropped so they are rebuilt with the new offsets.
+     */
+    void reload(ConfigurationSection section) {
+        Map<String, Settings> parsed = new HashMap<>();
+        if (section != null) {
+            for (String name : section.getKeys(false)) {
+                ConfigurationSection entry = section.getConfigurationSection(name);
+                if (entry == null) {
+                    continue;
+                }
+                parsed.put(name.toLowerCase(Locale.ENGLISH), new Settings(
+                        Math.max(1, entry.getInt("instances", 1)),
+                        entry.getDouble("offset.x", 0.0D),
+                        entry.getDouble("offset.y", 0.0D),
+                        entry.getDouble("offset.z", 0.0D),
+                        Math.max(0, entry.getInt("warm-pool", 1))));
+            }
+        }
+        settings = Map.copyOf(parsed);
+        translations.clear();
+        for (Deque<ActiveArena> pool : pools.values()) {
+            for (ActiveArena pooled : pool) {
+                chunkWarmer.release(pooled);
+            }
+        }
+        pools.clear();
+    }
+
+    /**
+     * Picks the instance a player joining {@code arena} in {@code mode} should use. When every instance is busy
+     * the primary is returned so the caller can explain why it cannot be joined.
+     */
+    ActiveArena route(ArenaDefinition arena, GameModeType mode) {
+        return route(arena, mode, null);
+    }
+
+    /**
+     * Like {@link #route(ArenaDefinition, GameModeType)}, but uses the instance registered as {@code preferredKey}
+     * while it still accepts the join.
+     */
+    ActiveArena route(ArenaDefinition arena, GameModeType mode, String preferredKey) {
+        String baseKey = arena.getName().toLowerCase(Locale.ENGLISH);
+        Settings config = settings.get(baseKey);
+        if (config == null || config.instances <= 1) {
+            return directory.computeIfAbsent(baseKey, arena);
+        }
+
+        int limit = waitingService.getQueueLimit(arena, mode);
+        ActiveArena preferred = preferredKey != null ? directory.get(preferredKey) : null;
+        if (preferred != null && preferred.getBaseKey().equals(baseKey) && accepts(preferred, mode, limit)) {
+            return preferred;
+        }
+        ActiveArena best = null;
+        int free = -1;
+        for (int index = 0; index < config.instances; index++) {
+            ActiveArena candidate = directory.get(keyFor(baseKey, index));
+            if (candidate == null) {
+                free = free < 0 ? index : free;
+                continue;
+            }
+            if (accepts(candidate, mode, limit)
+                    && (best == null || candidate.getPlayerIds().size() < best.getPlayerIds().size())) {
+                best = candidate;
+            }
+        }
+        if (best != null) {
+            return best;
+        }
+        if (free >= 0) {
+            return open(baseKey, free, arena, config);
+        }
+        return directory.get(baseKey);
+    }
+
+    /**
+     * Offers an instance that has just left the directory to the warm pool; returns false when it was not kept
+     * and its resources should be released.
+     */
+    boolean recycle(ActiveArena activeArena) {
+        Settings config = settings.get(activeArena.getBaseKey());
+        if (config == null || config.instances <= 1) {
+            return false;
+        }
+        Translations current = translations.get(activeArena.getBaseKey());
+        if (current == null || !current.contains(activeArena.getArena())) {
+            return false;
+        }
+        Deque<ActiveArena> pool = pools.computeIfAbsent(activeArena.getBaseKey(), key -> new ArrayDeque<>());
+        if (pool.size() >= config.warmPool) {
+            return false;
+        }
+        pool.addLast(activeArena);
+        recycled++;
+        return true;
+    }
+
+    /**
+     * Drops the pooled instances and cached translations of {@code baseKey}, e.g. before its world is unloaded.
+     */
+    void discard(String baseKey) {
+        translations.remove(baseKey);
+        Deque<ActiveArena> pool = pools.remove(baseKey);
+        if (pool != null) {
+            for (ActiveArena pooled : pool) {
+                chunkWarmer.release(pooled);
+            }
+        }
+    }
+
+    /**
+     * How many instances of {@code baseKey} may run at once.
+     */
+    int instanceLimit(String baseKey) {
+        Settings config = settings.get(baseKey);
+        return config != null ? config.instances : 1;
+    }
+
+    int pooledInstances() {
+        int total = 0;
+        for (Deque<ActiveArena> pool : pools.values()) {
+            total += pool.size();
+        }
+        return total;
+    }
+
+    long openedInstances() {
+        return opened;
+    }
+
+    long reusedInstances() {
+        return reused;
+    }
+
+    long recycledInstances() {
+        return recycled;
+    }
+
+    static String keyFor(String baseKey, int index) {
+        return index == 0 ? baseKey : baseKey + KEY_SEPARATOR + index;
+    }
+
+    private ActiveArena open(String baseKey, int index, ArenaDefinition arena, Settings config) {
+        Translations current = translations.get(baseKey);
+        if (current == null || current.base != arena) {
+            current = new Translations(arena, config);
+            translations.put(baseKey, current);
+        }
+        Deque<ActiveArena> pool = pools.get(baseKey);
+        while (pool != null && !pool.isEmpty()) {
+            ActiveArena pooled = pool.pollFirst();
+            if (current.contains(pooled.getArena()) && directory.restore(pooled)) {
+                reused++;
+                return pooled;
+            }
+            chunkWarmer.release(pooled);
+        }
+        opened++;
+        return directory.computeIfAbsent(keyFor(baseKey, index), index, current.get(index));
+    }
+
+    /**
+     * True when {@code candidate} can take one more player joining in {@code mode}.
+     */
+    static boolean accepts(ActiveArena candidate, GameModeType mode, int limit) {
+        if (candidate.getPlayerIds().size() >= limit) {
+            return false;
+        }
+        if (candidate.getPlayerIds().isEmpty() && !candidate.isRunning()) {
+            return true;
+        }
+        if (candidate.getMode() != mode) {
+            return false;
+        }
+        return mode.isTimeTrial()
+                || (!candidate.isMatchActive() && candidate.getPhase() != ArenaPhase.PREPARING);
+    }
+
+    private record Settings(int instances, double offsetX, double offsetY, double offsetZ, int warmPool) {
+    }
+
+    /**
+     * The translated definitions of one base definition, built on first use; a replaced base starts a new set.
+     */
+    private static final class Translations {
+
+        private final ArenaDefinition base;
+        private final ArenaDefinition[] instances;
+
+        private Translations(ArenaDefinition base, Settings config) {
+            this.base = base;
+            this.instances = new ArenaDefinition[config.instances];
+            instances[0] = base;
+            for (int index = 1; index < instances.length; index++) {
+                instances[index] = base.translate(config.offsetX * index, config.offsetY * index,
+                        config.offsetZ * index);
+            }
+        }
+
+        private ArenaDefinition get(int index) {
+            return instances[index];
+        }
+
+        private boolean contains(ArenaDefinition definition) {
+            for (ArenaDefinition instance : instances) {
+                if (instance == definition) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
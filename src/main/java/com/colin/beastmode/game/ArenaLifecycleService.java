@@ -4,8 +4,6 @@ import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffectType;
 
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Consumer;
@@ -18,51 +16,32 @@ final class ArenaLifecycleService {
     private final ActiveArenaDirectory arenaDirectory;
     private final ArenaBarrierService barrierService;
     private final PlayerSupportService playerSupport;
+    private final TransitionScheduler transitions;
+    private final ArenaChunkWarmer chunkWarmer;
+    private final ArenaInstanceService instances;
+    private final ArenaWorldService worlds;
     private final Consumer<String> statusNotifier;
 
     ArenaLifecycleService(ActiveArenaDirectory arenaDirectory,
                           ArenaBarrierService barrierService,
                           PlayerSupportService playerSupport,
+                          TransitionScheduler transitions,
+                          ArenaChunkWarmer chunkWarmer,
+                          ArenaInstanceService instances,
+                          ArenaWorldService worlds,
                           Consumer<String> statusNotifier) {
         this.arenaDirectory = arenaDirectory;
         this.barrierService = barrierService;
         this.playerSupport = playerSupport;
+        this.transitions = transitions;
+        this.chunkWarmer = chunkWarmer;
+        this.instances = instances;
+        this.worlds = worlds;
         this.statusNotifier = statusNotifier;
     }
 
     List<Player> collectParticipants(ActiveArena activeArena) {
-        List<Player> participants = new ArrayList<>();
-        if (activeArena == null) {
-            return participants;
-        }
-
-        Iterator<UUID> iterator = activeArena.getPlayerIds().iterator();
-        while (iterator.hasNext()) {
-            UUID id = iterator.next();
-            Player player = Bukkit.getPlayer(id);
-            if (player == null || !player.isOnline()) {
-                iterator.remove();
-                activeArena.removePreference(id);
-                activeArena.removeRunner(id);
-                continue;
-            }
-            participants.add(player);
-        }
-        return participants;
-    }
-
-    int countActivePlayers(ActiveArena activeArena) {
-        if (activeArena == null) {
-            return 0;
-        }
-        int count = 0;
-        for (UUID id : activeArena.getPlayerIds()) {
-            Player player = Bukkit.getPlayer(id);
-            if (player != null && player.isOnline()) {
-                count++;
-            }
-        }
-        return count;
+        return activeArena != null ? activeArena.getRoster() : List.of();
     }
 
     void cleanupArena(String key, ActiveArena activeArena) {
@@ -84,19 +63,25 @@ final class ArenaLifecycleService {
         }
 
         activeArena.cancelTasks();
+        transitions.cancel(activeArena);
         playerSupport.revealTimeTrialParticipants(activeArena);
         clearBeastEffects(activeArena);
         if (restoreWalls) {
             resetArenaState(activeArena);
             activeArena.clearPlayers();
-            activeArena.setRunning(false);
             arenaDirectory.remove(key);
+            // Pooled instances keep their chunk tickets so the next match on them starts warm.
+            if (!instances.recycle(activeArena)) {
+                chunkWarmer.release(activeArena);
+            }
+            worlds.onArenaCleaned(activeArena.getBaseKey());
             notifyStatus(arenaName);
             return;
         }
 
+        chunkWarmer.release(activeArena);
         activeArena.clearPlayers();
-        activeArena.setRunning(false);
+        worlds.onArenaCleaned(activeArena.getBaseKey());
         notifyStatus(arenaName);
     }
 
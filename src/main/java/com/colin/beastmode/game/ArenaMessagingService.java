@@ -1,108 +1,110 @@
 package com.colin.beastmode.game;
 
-import org.bukkit.ChatColor;
 import org.bukkit.Sound;
+import org.bukkit.boss.BarColor;
 import org.bukkit.entity.Player;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
- * Centralizes title/sound broadcasts for arena state transitions.
+ * Centralizes title/sound broadcasts for arena state transitions. Each broadcast renders its text once per
+ * audience and sends the same strings to every recipient; countdowns and the wheel go to the arena's shared
+ * boss bar, and titles are kept for key beats.
  */
 final class ArenaMessagingService {
 
-    private final String prefix;
+    private final MessageCatalog messages;
     private final String defaultBeastName;
 
-    ArenaMessagingService(String prefix, String defaultBeastName) {
-        this.prefix = prefix;
+    ArenaMessagingService(MessageCatalog messages, String defaultBeastName) {
+        this.messages = Objects.requireNonNull(messages, "messages");
         this.defaultBeastName = defaultBeastName;
     }
 
-    void selectionCountdown(List<Player> players, int seconds) {
+    void selectionCountdown(ActiveArena activeArena, List<Player> players, int seconds) {
         if (!hasPlayers(players)) {
             return;
         }
+        activeArena.getHud().countdown(players, "selection",
+                messages.render(MessageKey.SELECTION_COUNTDOWN_BAR, seconds), BarColor.YELLOW, seconds);
         for (Player player : players) {
-            player.sendTitle(ChatColor.GOLD + "" + ChatColor.BOLD + seconds,
-                    ChatColor.AQUA + "seconds until game starts", 0, 20, 0);
             player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_HAT, 1.0f, 1.0f);
         }
     }
 
-    void wheelHighlight(List<Player> viewers, Player highlighted) {
+    void wheelHighlight(ActiveArena activeArena, List<Player> viewers, Player highlighted) {
         if (highlighted == null || !hasPlayers(viewers)) {
             return;
         }
-        String title = ChatColor.AQUA + "" + ChatColor.BOLD + highlighted.getName();
-        String subtitle = ChatColor.LIGHT_PURPLE + "" + ChatColor.BOLD + "Wheel of Fate";
+        activeArena.getHud().show(viewers, messages.render(MessageKey.WHEEL_HIGHLIGHT_BAR, highlighted.getName()),
+                BarColor.PURPLE, 1.0);
         for (Player viewer : viewers) {
-            viewer.sendTitle(title, subtitle, 0, 10, 0);
             viewer.playSound(viewer.getLocation(), Sound.UI_BUTTON_CLICK, 1.0f, 1.3f);
         }
     }
 
-    void wheelFinal(List<Player> viewers, Player chosen) {
+    void wheelFinal(ActiveArena activeArena, List<Player> viewers, Player chosen) {
+        activeArena.getHud().clear();
         if (chosen == null || !hasPlayers(viewers)) {
             return;
         }
-        String title = ChatColor.DARK_RED + "" + ChatColor.BOLD + chosen.getName();
-        String subtitle = ChatColor.GOLD + "" + ChatColor.BOLD + "is the Beast!";
+        String title = messages.render(MessageKey.WHEEL_FINAL_TITLE, chosen.getName());
+        String subtitle = messages.render(MessageKey.WHEEL_FINAL_SUBTITLE);
         for (Player viewer : viewers) {
             viewer.sendTitle(title, subtitle, 10, 80, 20);
             viewer.playSound(viewer.getLocation(), Sound.ENTITY_WITHER_SPAWN, 1.0f, 1.0f);
         }
     }
 
-    void teleportCountdown(List<Player> players, int number) {
+    void teleportCountdown(ActiveArena activeArena, List<Player> players, int number) {
         if (!hasPlayers(players)) {
             return;
         }
 
-        String title;
-        String subtitle;
-        Sound sound;
-        float pitch;
-
         if (number > 0) {
-            title = ChatColor.GOLD + "" + ChatColor.BOLD + number;
-            subtitle = ChatColor.DARK_AQUA + "" + ChatColor.BOLD + "Teleporting soon...";
-            sound = Sound.BLOCK_NOTE_BLOCK_HAT;
-            pitch = 1.0f + (3 - Math.min(number, 3)) * 0.1f;
-        } else {
-            title = ChatColor.GREEN + "" + ChatColor.BOLD + "0";
-            subtitle = ChatColor.AQUA + "" + ChatColor.BOLD + "Brace yourself!";
-            sound = Sound.ENTITY_PLAYER_LEVELUP;
-            pitch = 1.0f;
+            activeArena.getHud().countdown(players, "teleport",
+                    messages.render(MessageKey.TELEPORT_COUNTDOWN_BAR, number), BarColor.BLUE, number);
+            float pitch = 1.0f + (3 - Math.min(number, 3)) * 0.1f;
+            for (Player player : players) {
+                player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_HAT, 1.0f, pitch);
+            }
+            return;
         }
 
+        activeArena.getHud().clear();
+        String title = messages.render(MessageKey.TELEPORT_NOW_TITLE);
+        String subtitle = messages.render(MessageKey.TELEPORT_NOW_SUBTITLE);
         for (Player player : players) {
             player.sendTitle(title, subtitle, 0, 20, 0);
-            player.playSound(player.getLocation(), sound, 1.0f, pitch);
+            player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
         }
     }
 
-    void runnerCountdown(List<Player> players, int seconds) {
-        if (seconds > 3 || !hasPlayers(players)) {
+    void runnerCountdown(ActiveArena activeArena, List<Player> players, int seconds) {
+        if (!hasPlayers(players)) {
+            return;
+        }
+        activeArena.getHud().countdown(players, "runner",
+                messages.render(MessageKey.RUNNER_COUNTDOWN_BAR, seconds), BarColor.GREEN, seconds);
+        if (seconds > 3) {
             return;
         }
         for (Player player : players) {
-            String title = ChatColor.GOLD + "" + ChatColor.BOLD + seconds + "...";
-            String subtitle = ChatColor.DARK_AQUA + "" + ChatColor.BOLD + "Get ready!";
-            player.sendTitle(title, subtitle, 0, 20, 0);
             player.playSound(player.getLocation(), Sound.UI_BUTTON_CLICK, 1.0f, 1.0f);
         }
     }
 
-    void beastCountdown(List<Player> players, int seconds, Player beast) {
-        if (seconds > 3 || !hasPlayers(players)) {
+    void beastCountdown(ActiveArena activeArena, List<Player> players, int seconds, Player beast) {
+        if (!hasPlayers(players)) {
+            return;
+        }
+        activeArena.getHud().countdown(players, "beast",
+                messages.render(MessageKey.BEAST_COUNTDOWN_BAR, beastName(beast), seconds), BarColor.RED, seconds);
+        if (seconds > 3) {
             return;
         }
-        String name = beast != null ? beast.getName() : defaultBeastName;
         for (Player player : players) {
-            String title = ChatColor.DARK_RED + "" + ChatColor.BOLD + seconds + "...";
-            String subtitle = ChatColor.GOLD + "" + ChatColor.BOLD + name;
-            player.sendTitle(title, subtitle, 0, 20, 0);
             player.playSound(player.getLocation(), Sound.UI_BUTTON_CLICK, 1.0f, 0.8f);
         }
     }
@@ -111,34 +113,35 @@ final class ArenaMessagingService {
         if (!hasPlayers(players)) {
             return;
         }
+        String title = messages.render(MessageKey.READY_TITLE);
+        String subtitle = messages.render(MessageKey.READY_SUBTITLE);
         for (Player player : players) {
-            String title = ChatColor.LIGHT_PURPLE + "" + ChatColor.BOLD + "READY?";
-            String subtitle = ChatColor.GRAY + "" + ChatColor.BOLD + "Hold the line.";
             player.sendTitle(title, subtitle, 0, 30, 0);
             player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_HAT, 1.0f, 1.0f);
         }
     }
 
-    void broadcastGo(List<Player> players) {
+    void broadcastGo(ActiveArena activeArena, List<Player> players) {
+        activeArena.getHud().clear();
         if (!hasPlayers(players)) {
             return;
         }
+        String title = messages.render(MessageKey.GO_TITLE);
+        String subtitle = messages.render(MessageKey.GO_SUBTITLE);
         for (Player player : players) {
-            String title = ChatColor.GREEN + "" + ChatColor.BOLD + "GO!";
-            String subtitle = ChatColor.WHITE + "" + ChatColor.BOLD + "Run for your life!";
             player.sendTitle(title, subtitle, 0, 20, 5);
             player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
         }
     }
 
-    void broadcastBeastRelease(List<Player> players, Player beast) {
+    void broadcastBeastRelease(ActiveArena activeArena, List<Player> players, Player beast) {
+        activeArena.getHud().clear();
         if (!hasPlayers(players)) {
             return;
         }
-        String name = beast != null ? beast.getName() : defaultBeastName;
+        String title = messages.render(MessageKey.RELEASE_TITLE, beastName(beast));
+        String subtitle = messages.render(MessageKey.RELEASE_SUBTITLE);
         for (Player player : players) {
-            String title = ChatColor.DARK_RED + "" + ChatColor.BOLD + name;
-            String subtitle = ChatColor.GOLD + "" + ChatColor.BOLD + "has been unleashed!";
             player.sendTitle(title, subtitle, 0, 40, 10);
             player.playSound(player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 1.0f, 1.0f);
         }
@@ -148,9 +151,9 @@ final class ArenaMessagingService {
         if (!hasPlayers(players)) {
             return;
         }
+        String reminder = messages.chat(MessageKey.PRACTICE_REMINDER);
         for (Player player : players) {
-            send(player, ChatColor.YELLOW + "" + ChatColor.BOLD + "Practice run active!" + ChatColor.RESET
-                    + ChatColor.YELLOW + " Use /beastmode cancel <arena> when you are ready to reset the gates.");
+            player.sendMessage(reminder);
         }
     }
 
@@ -160,36 +163,36 @@ final class ArenaMessagingService {
         }
 
         if (beast == null) {
+            String title = messages.render(MessageKey.PRACTICE_TITLE);
+            String subtitle = messages.render(MessageKey.PRACTICE_SUBTITLE);
+            String chat = messages.chat(MessageKey.PRACTICE_CHAT);
             for (Player viewer : players) {
-                viewer.sendTitle(ChatColor.GREEN + "" + ChatColor.BOLD + "Practice Run",
-                        ChatColor.YELLOW + "" + ChatColor.BOLD + "No Beast this round.", 10, 60, 20);
-                send(viewer, ChatColor.YELLOW + "" + ChatColor.BOLD + "Practice run!" + ChatColor.RESET
-                        + ChatColor.YELLOW + " No Beast this time.");
+                viewer.sendTitle(title, subtitle, 10, 60, 20);
+                viewer.sendMessage(chat);
                 viewer.playSound(viewer.getLocation(), Sound.UI_BUTTON_CLICK, 1.0f, 1.2f);
             }
             return;
         }
 
+        String selfTitle = messages.render(MessageKey.BEAST_SELF_TITLE);
+        String selfSubtitle = messages.render(MessageKey.BEAST_SELF_SUBTITLE);
+        String title = messages.render(MessageKey.BEAST_TITLE, beast.getName());
+        String subtitle = messages.render(MessageKey.BEAST_SUBTITLE);
+        String chat = messages.chat(MessageKey.BEAST_CHAT, beast.getName());
         for (Player viewer : players) {
             boolean isBeast = viewer.equals(beast);
-            String title = isBeast
-                    ? ChatColor.DARK_RED + "" + ChatColor.BOLD + "You are the Beast!"
-                    : ChatColor.DARK_RED + "" + ChatColor.BOLD + beast.getName();
-            String subtitle = isBeast
-                    ? ChatColor.GOLD + "" + ChatColor.BOLD + "Track them down!"
-                    : ChatColor.GOLD + "" + ChatColor.BOLD + "is the Beast!";
-            int stay = isBeast ? 100 : 60;
-            viewer.sendTitle(title, subtitle, 10, stay, 20);
-            send(viewer, ChatColor.GOLD + "" + ChatColor.BOLD + beast.getName() + ChatColor.RED + "" + ChatColor.BOLD + " is the Beast!");
+            viewer.sendTitle(isBeast ? selfTitle : title, isBeast ? selfSubtitle : subtitle,
+                    10, isBeast ? 100 : 60, 20);
+            viewer.sendMessage(chat);
             viewer.playSound(viewer.getLocation(), Sound.ENTITY_WITHER_SPAWN, 1.0f, 0.7f);
         }
     }
 
-    private boolean hasPlayers(List<Player> players) {
-        return players != null && !players.isEmpty();
+    private String beastName(Player beast) {
+        return beast != null ? beast.getName() : defaultBeastName;
     }
 
-    private void send(Player player, String message) {
-        player.sendMessage(prefix + message);
+    private boolean hasPlayers(List<Player> players) {
+        return players != null && !players.isEmpty();
     }
 }
@@ -0,0 +1,34 @@
+package com.colin.beastmode.game;
+
+/**
+ * Lifecycle phases an active arena moves through, along with the transitions each phase allows.
+ */
+enum ArenaPhase {
+    IDLE,
+    WAITING,
+    SELECTING,
+    WHEEL,
+    PREPARING,
+    ACTIVE,
+    FINAL,
+    ENDING;
+
+    boolean canTransitionTo(ArenaPhase next) {
+        if (next == null || next == this) {
+            return false;
+        }
+        if (next == IDLE) {
+            return true;
+        }
+        return switch (this) {
+            case IDLE -> next == WAITING;
+            case WAITING -> next == SELECTING || next == PREPARING;
+            case SELECTING -> next == WHEEL || next == WAITING;
+            case WHEEL -> next == PREPARING || next == WAITING;
+            case PREPARING -> next == ACTIVE || next == ENDING;
+            case ACTIVE -> next == FINAL || next == ENDING;
+            case FINAL -> next == ENDING;
+            case ENDING -> false;
+        };
+    }
+}
@@ -5,7 +5,8 @@ import com.colin.beastmode.storage.ArenaStorage;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 
-import java.util.Locale;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 /**
  * Coordinates queue enrolment and waiting-room preparation for arenas.
@@ -20,6 +21,9 @@ final class ArenaQueueService {
     private final MatchOrchestrationService orchestration;
     private final ArenaStatusService statusService;
     private final TimeTrialService timeTrials;
+    private final ArenaChunkWarmer chunkWarmer;
+    private final ArenaInstanceService instances;
+    private final ArenaWorldService worlds;
     private final String prefix;
 
     ArenaQueueService(ArenaStorage arenaStorage,
@@ -30,6 +34,9 @@ final class ArenaQueueService {
                       MatchOrchestrationService orchestration,
                       ArenaStatusService statusService,
                       TimeTrialService timeTrials,
+                      ArenaChunkWarmer chunkWarmer,
+                      ArenaInstanceService instances,
+                      ArenaWorldService worlds,
                       String prefix) {
         this.arenaStorage = arenaStorage;
         this.arenaDirectory = arenaDirectory;
@@ -39,6 +46,9 @@ final class ArenaQueueService {
         this.orchestration = orchestration;
         this.statusService = statusService;
         this.timeTrials = timeTrials;
+        this.chunkWarmer = chunkWarmer;
+        this.instances = instances;
+        this.worlds = worlds;
         this.prefix = prefix;
     }
 
@@ -56,61 +66,110 @@ final class ArenaQueueService {
               String arenaName,
               GameModeType mode,
               GameManager.RolePreference desiredPreference) {
+        join(player, arenaName, mode, desiredPreference, null);
+    }
+
+    /**
+     * Joins {@code arenaName}, using the instance registered as {@code instanceKey} while it still has room.
+     */
+    JoinResult join(Player player,
+                    String arenaName,
+                    GameModeType mode,
+                    GameManager.RolePreference desiredPreference,
+                    String instanceKey) {
+        return join(player, arenaName, mode, desiredPreference, instanceKey, null, null);
+    }
+
+    /**
+     * Like {@link #join(Player, String, GameModeType, GameManager.RolePreference, String)}; when the arena's world
+     * has to be loaded first, {@code whenDeferred} receives the final outcome once the load has finished. The join is
+     * dropped as rejected if {@code stillWanted} reports false by then, e.g. because the player stopped searching.
+     */
+    JoinResult join(Player player,
+                    String arenaName,
+                    GameModeType mode,
+                    GameManager.RolePreference desiredPreference,
+                    String instanceKey,
+                    Consumer<JoinResult> whenDeferred,
+                    BooleanSupplier stillWanted) {
         if (player == null) {
-            return;
+            return JoinResult.REJECTED;
         }
 
         if (arenaName == null || arenaName.trim().isEmpty()) {
             send(player, ChatColor.RED + "Please specify an arena name.");
-            return;
+            return JoinResult.REJECTED;
         }
 
         ArenaDefinition arena = arenaStorage.getArena(arenaName.trim());
         if (arena == null) {
             send(player, ChatColor.RED + GameManager.MSG_ARENA_NOT_FOUND.formatted(highlight(arenaName)));
-            return;
+            return JoinResult.REJECTED;
         }
         if (mode.isTimeTrial() && !arena.isTimeTrial()) {
             send(player, ChatColor.RED + "Arena " + highlight(arena.getName()) + ChatColor.RED + " is not configured for time trials.");
-            return;
+            return JoinResult.REJECTED;
         }
         if (!mode.isTimeTrial() && arena.isTimeTrial()) {
             send(player, ChatColor.RED + "Arena " + highlight(arena.getName()) + " only supports time trials. Use /beastmode trial "
                     + highlight(arena.getName()) + ChatColor.RED + ".");
-            return;
+            return JoinResult.REJECTED;
+        }
+        if (arenaDirectory.findArenaByPlayer(player.getUniqueId()) != null) {
+            send(player, ChatColor.RED + "You are already queued for an arena.");
+            return JoinResult.REJECTED;
+        }
+
+        boolean ready = worlds.ensureLoaded(arenaName, loaded -> {
+            JoinResult result = JoinResult.REJECTED;
+            if (player.isOnline() && (stillWanted == null || stillWanted.getAsBoolean())) {
+                if (loaded) {
+                    result = join(player, arenaName, mode, desiredPreference, instanceKey, whenDeferred, stillWanted);
+                } else {
+                    send(player, ChatColor.RED + "That arena's world could not be loaded. Try again later.");
+                }
+            }
+            if (whenDeferred != null && result != JoinResult.DEFERRED) {
+                whenDeferred.accept(result);
+            }
+        });
+        if (!ready) {
+            send(player, ChatColor.YELLOW + "Loading arena " + highlight(arenaName.trim()) + ChatColor.YELLOW + "...");
+            return JoinResult.DEFERRED;
+        }
+        // Loading the world re-reads the definition, so the spawn checks below need the fresh copy.
+        arena = arenaStorage.getArena(arenaName.trim());
+        if (arena == null) {
+            send(player, ChatColor.RED + GameManager.MSG_ARENA_NOT_FOUND.formatted(highlight(arenaName)));
+            return JoinResult.REJECTED;
         }
         if (!arena.isComplete()) {
             send(player, ChatColor.RED + GameManager.MSG_ARENA_INCOMPLETE.formatted(highlight(arena.getName())));
-            return;
+            return JoinResult.REJECTED;
         }
         if (arena.getRunnerSpawn() == null) {
             send(player, ChatColor.RED + "Arena spawns are missing. Reconfigure the arena before joining.");
-            return;
+            return JoinResult.REJECTED;
         }
         if (!mode.isTimeTrial() && arena.getBeastSpawn() == null) {
             send(player, ChatColor.RED + "Arena spawns are missing. Reconfigure the arena before joining.");
-            return;
-        }
-
-        if (arenaDirectory.findArenaByPlayer(player.getUniqueId()) != null) {
-            send(player, ChatColor.RED + "You are already queued for an arena.");
-            return;
+            return JoinResult.REJECTED;
         }
 
         GameManager.RolePreference preference = mode.isTimeTrial()
                 ? GameManager.RolePreference.ANY
                 : sanitizePreference(player, desiredPreference);
 
-        String key = arena.getName().toLowerCase(Locale.ENGLISH);
-        ActiveArena activeArena = arenaDirectory.computeIfAbsent(key, () -> new ActiveArena(arena));
+        ActiveArena activeArena = instances.route(arena, mode, instanceKey);
+        String key = activeArena.getKey();
 
         if (!ensureModeCompatible(player, activeArena, mode)) {
-            return;
+            return JoinResult.REJECTED;
         }
 
-        if (activeArena.isMatchActive() && !mode.isTimeTrial()) {
+        if (!mode.isTimeTrial() && (activeArena.isMatchActive() || activeArena.getPhase() == ArenaPhase.PREPARING)) {
             send(player, ChatColor.RED + "That arena is already in a hunt. Try again in a moment.");
-            return;
+            return JoinResult.REJECTED;
         }
 
         int queueLimit = waitingService.getQueueLimit(arena, mode);
@@ -125,7 +184,7 @@ final class ArenaQueueService {
                         + ChatColor.AQUA + waitingService.formatRunnerCount(maxRunners) + ChatColor.RED
                         + " (plus the Beast). Try again later.");
             }
-            return;
+            return JoinResult.REJECTED;
         }
 
         boolean added = activeArena.addPlayer(player);
@@ -133,10 +192,12 @@ final class ArenaQueueService {
         if (!added) {
             handleExistingParticipant(player, activeArena, preference);
             statusService.notifyArenaStatus(activeArena);
-            return;
+            return JoinResult.REJECTED;
         }
 
         activeArena.setMode(mode);
+        worlds.markInUse(activeArena.getBaseKey());
+        chunkWarmer.warm(activeArena);
 
         prepareWaitingLoadout(player, activeArena, mode);
 
@@ -161,21 +222,22 @@ final class ArenaQueueService {
                     send(player, ChatColor.YELLOW + "Countdown started. Wait for GO before sprinting!");
                 }
                 statusService.notifyArenaStatus(activeArena);
-                return;
+                return restarted ? JoinResult.JOINED : JoinResult.REJECTED;
             }
 
-            if (!waitingService.teleportToWaiting(arena, player)) {
+            if (!waitingService.teleportToWaiting(activeArena.getArena(), player)) {
                 send(player, ChatColor.RED + "Waiting spawn is not configured correctly. Please notify an admin.");
             } else {
                 send(player, ChatColor.YELLOW + "You slipped in before the gates drop. Hold tight!");
             }
             orchestration.maybeStartCountdown(key, activeArena);
             statusService.notifyArenaStatus(activeArena);
-            return;
+            return JoinResult.JOINED;
         }
 
         orchestration.startMatch(key, activeArena);
         statusService.notifyArenaStatus(activeArena);
+        return JoinResult.JOINED;
     }
 
     private GameManager.RolePreference sanitizePreference(Player player, GameManager.RolePreference preference) {
@@ -246,4 +308,13 @@ final class ArenaQueueService {
             player.sendMessage(prefix + message);
         }
     }
+
+    /**
+     * Outcome of a join: {@code DEFERRED} means the arena's world is still loading and the join is retried then.
+     */
+    enum JoinResult {
+        JOINED,
+        DEFERRED,
+        REJECTED
+    }
 }
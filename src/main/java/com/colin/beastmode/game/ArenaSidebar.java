@@ -0,0 +1,156 @@
+package com.colin.beastmode.game;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.Criteria;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * One sidebar scoreboard shared by an arena. Each line is a fixed entry whose text lives in its team prefix,
+ * so an update only sends the lines whose text changed.
+ */
+final class ArenaSidebar {
+
+    static final int MAX_LINES = 10;
+
+    private final Map<UUID, Viewer> viewers = new LinkedHashMap<>();
+    private final String[] lines = new String[MAX_LINES];
+    private Scoreboard board;
+    private Objective objective;
+    private Team[] teams;
+    private String title = "";
+    private int shown;
+    private ArenaTimer refreshTimer;
+
+    boolean isActive() {
+        return board != null;
+    }
+
+    ArenaTimer getRefreshTimer() {
+        return refreshTimer;
+    }
+
+    void setRefreshTimer(ArenaTimer refreshTimer) {
+        this.refreshTimer = refreshTimer;
+    }
+
+    /**
+     * Replaces the visible lines; unchanged lines are not resent. Lines beyond {@link #MAX_LINES} are dropped.
+     */
+    void update(String title, List<String> text) {
+        ensureBoard();
+        if (!this.title.equals(title)) {
+            this.title = title;
+            objective.setDisplayName(title);
+        }
+        int count = Math.min(text.size(), MAX_LINES);
+        for (int i = 0; i < count; i++) {
+            String line = text.get(i);
+            if (!line.equals(lines[i])) {
+                lines[i] = line;
+                teams[i].setPrefix(line);
+            }
+            if (i >= shown) {
+                objective.getScore(entry(i)).setScore(MAX_LINES - i);
+            }
+        }
+        for (int i = count; i < shown; i++) {
+            board.resetScores(entry(i));
+            lines[i] = null;
+        }
+        shown = count;
+    }
+
+    /**
+     * Shows the board to {@code audience} and restores the previous board of anyone no longer in it.
+     */
+    void syncViewers(List<Player> audience) {
+        ensureBoard();
+        Set<UUID> present = new HashSet<>(audience.size() * 2);
+        for (Player player : audience) {
+            present.add(player.getUniqueId());
+            if (!viewers.containsKey(player.getUniqueId())) {
+                viewers.put(player.getUniqueId(), new Viewer(player, player.getScoreboard()));
+                player.setScoreboard(board);
+            }
+        }
+        if (viewers.size() == present.size()) {
+            return;
+        }
+        viewers.values().removeIf(viewer -> {
+            if (present.contains(viewer.player.getUniqueId())) {
+                return false;
+            }
+            viewer.restore(board);
+            return true;
+        });
+    }
+
+    void removeViewer(UUID playerId) {
+        Viewer viewer = viewers.remove(playerId);
+        if (viewer != null) {
+            viewer.restore(board);
+        }
+    }
+
+    /**
+     * Restores every viewer's previous board and forgets the shared one.
+     */
+    void dispose() {
+        if (refreshTimer != null) {
+            refreshTimer.cancel();
+            refreshTimer = null;
+        }
+        for (Viewer viewer : viewers.values()) {
+            viewer.restore(board);
+        }
+        viewers.clear();
+        board = null;
+        objective = null;
+        teams = null;
+        title = "";
+        shown = 0;
+        Arrays.fill(lines, null);
+    }
+
+    private void ensureBoard() {
+        if (board != null) {
+            return;
+        }
+        board = Objects.requireNonNull(Bukkit.getScoreboardManager(), "scoreboardManager").getNewScoreboard();
+        objective = board.registerNewObjective("beastmode", Criteria.DUMMY, title);
+        objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+        teams = new Team[MAX_LINES];
+        for (int i = 0; i < MAX_LINES; i++) {
+            teams[i] = board.registerNewTeam("line" + i);
+            teams[i].addEntry(entry(i));
+        }
+    }
+
+    private static String entry(int index) {
+        return ChatColor.values()[index].toString() + ChatColor.RESET;
+    }
+
+    private record Viewer(Player player, Scoreboard previous) {
+
+        private void restore(Scoreboard shared) {
+            if (player.isOnline() && player.getScoreboard() == shared) {
+                player.setScoreboard(previous != null ? previous
+                        : Objects.requireNonNull(Bukkit.getScoreboardManager(), "scoreboardManager").getMainScoreboard());
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.colin.beastmode.game;
+
+import com.colin.beastmode.time.TimeTrialLeaderboard;
+import com.colin.beastmode.time.TimeTrialRecord;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Keeps each running arena's shared sidebar in step with match state: refreshed on status changes and on a
+ * slow arena-clock timer for the phase timer. Personal bests stay on the time-trial action bar, since a shared
+ * board cannot carry per-player lines.
+ */
+final class ArenaSidebarService {
+
+    private static final long REFRESH_PERIOD_TICKS = 10L;
+    private static final int TOP_ENTRIES = 3;
+
+    private final ActiveArenaDirectory directory;
+    private final TimeTrialService timeTrials;
+    private final MessageCatalog messages;
+
+    ArenaSidebarService(ActiveArenaDirectory directory, TimeTrialService timeTrials, MessageCatalog messages) {
+        this.directory = Objects.requireNonNull(directory, "directory");
+        this.timeTrials = Objects.requireNonNull(timeTrials, "timeTrials");
+        this.messages = Objects.requireNonNull(messages, "messages");
+    }
+
+    /**
+     * Status listener entry point; receives the arena's display name and refreshes each of its instances.
+     */
+    void onStatusChanged(String arenaName) {
+        if (arenaName == null) {
+            return;
+        }
+        for (ActiveArena activeArena : directory.instancesOf(arenaName.toLowerCase(Locale.ENGLISH))) {
+            refresh(activeArena);
+        }
+    }
+
+    void refresh(ActiveArena activeArena) {
+        ArenaSidebar sidebar = activeArena.getSidebar();
+        List<Player> audience = shouldShow(activeArena) ? activeArena.getRoster() : List.of();
+        if (audience.isEmpty()) {
+            if (sidebar.isActive()) {
+                sidebar.dispose();
+            }
+            return;
+        }
+
+        sidebar.update(messages.render(MessageKey.SIDEBAR_TITLE, activeArena.getArena().getName()),
+                activeArena.isTimeTrial() ? trialLines(activeArena) : huntLines(activeArena));
+        sidebar.syncViewers(audience);
+
+        ArenaTimer timer = sidebar.getRefreshTimer();
+        if (timer == null || timer.isCancelled()) {
+            sidebar.setRefreshTimer(activeArena.getClock().runRepeating(REFRESH_PERIOD_TICKS, REFRESH_PERIOD_TICKS,
+                    repeating -> refresh(activeArena)));
+        }
+    }
+
+    private boolean shouldShow(ActiveArena activeArena) {
+        ArenaPhase phase = activeArena.getPhase();
+        return phase == ArenaPhase.PREPARING || phase == ArenaPhase.ACTIVE || phase == ArenaPhase.FINAL;
+    }
+
+    private List<String> huntLines(ActiveArena activeArena) {
+        List<String> lines = new ArrayList<>(4);
+        String phase = activeArena.getPhase().name().toLowerCase(Locale.ENGLISH);
+        lines.add(messages.render(MessageKey.SIDEBAR_PHASE,
+                Character.toUpperCase(phase.charAt(0)) + phase.substring(1)));
+        lines.add(messages.render(MessageKey.SIDEBAR_TIME, formatPhaseTime(activeArena)));
+        lines.add(messages.render(MessageKey.SIDEBAR_RUNNERS, activeArena.getRunnerCount()));
+        UUID beastId = activeArena.getBeastId();
+        Player beast = beastId != null ? Bukkit.getPlayer(beastId) : null;
+        if (beast != null) {
+            lines.add(messages.render(MessageKey.SIDEBAR_BEAST, beast.getName()));
+        }
+        return lines;
+    }
+
+    private List<String> trialLines(ActiveArena activeArena) {
+        List<String> lines = new ArrayList<>(2 + TOP_ENTRIES);
+        lines.add(messages.render(MessageKey.SIDEBAR_RUNNERS, activeArena.getRunnerCount()));
+        lines.add(messages.render(MessageKey.SIDEBAR_TOP_HEADER));
+        TimeTrialLeaderboard leaderboard = timeTrials.getLeaderboard(activeArena.getArena().getName());
+        if (leaderboard.size() == 0) {
+            lines.add(messages.render(MessageKey.SIDEBAR_TOP_EMPTY));
+            return lines;
+        }
+        for (int rank = 1; rank <= TOP_ENTRIES; rank++) {
+            TimeTrialRecord record = leaderboard.getAtRank(rank);
+            if (record == null) {
+                break;
+            }
+            lines.add(messages.render(MessageKey.SIDEBAR_TOP_ENTRY, rank,
+                    ChatColor.stripColor(record.getPlayerName()), timeTrials.formatDuration(record.getTimeMillis())));
+        }
+        return lines;
+    }
+
+    private String formatPhaseTime(ActiveArena activeArena) {
+        long seconds = Math.max(0L, System.nanoTime() - activeArena.getPhaseStartedNanos()) / 1_000_000_000L;
+        long remainder = seconds % 60L;
+        return (seconds / 60L) + (remainder < 10L ? ":0" : ":") + remainder;
+    }
+}
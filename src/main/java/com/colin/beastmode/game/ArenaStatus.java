@@ -1,5 +1,8 @@
 package com.colin.beastmode.game;
 
+/**
+ * Immutable, versioned view of an arena's joinability and occupancy; safe to read from any thread.
+ */
 public final class ArenaStatus {
 
     private final String arenaName;
@@ -11,9 +14,14 @@ public final class ArenaStatus {
     private final boolean selecting;
     private final boolean matchActive;
     private final GameModeType mode;
+    private final String state;
+    private final String beastName;
+    private final int runnersRemaining;
+    private final long version;
 
     ArenaStatus(String arenaName, boolean available, boolean complete, int playerCount, int capacity,
-                boolean running, boolean selecting, boolean matchActive, GameModeType mode) {
+                boolean running, boolean selecting, boolean matchActive, GameModeType mode, String state,
+                String beastName, int runnersRemaining, long version) {
         this.arenaName = arenaName;
         this.available = available;
         this.complete = complete;
@@ -23,10 +31,19 @@ public final class ArenaStatus {
         this.selecting = selecting;
         this.matchActive = matchActive;
         this.mode = mode != null ? mode : GameModeType.HUNT;
+        this.state = state != null ? state : "offline";
+        this.beastName = beastName;
+        this.runnersRemaining = runnersRemaining;
+        this.version = version;
     }
 
     static ArenaStatus unavailable(String arenaName) {
-        return new ArenaStatus(arenaName, false, false, 0, -1, false, false, false, GameModeType.HUNT);
+        return unavailable(arenaName, 0L);
+    }
+
+    static ArenaStatus unavailable(String arenaName, long version) {
+        return new ArenaStatus(arenaName, false, false, 0, -1, false, false, false, GameModeType.HUNT,
+                "offline", null, 0, version);
     }
 
     public String getArenaName() {
@@ -72,4 +89,30 @@ public final class ArenaStatus {
     public GameModeType getMode() {
         return mode;
     }
+
+    /**
+     * Lower-case state key: {@code offline}, {@code setup}, {@code ready}, or the current match phase
+     * such as {@code waiting}, {@code selecting} or {@code active}.
+     */
+    public String getState() {
+        return state;
+    }
+
+    /**
+     * Name of the current beast, or {@code null} when none is assigned or they are offline.
+     */
+    public String getBeastName() {
+        return beastName;
+    }
+
+    public int getRunnersRemaining() {
+        return runnersRemaining;
+    }
+
+    /**
+     * Increases every time a new snapshot is published for any arena; equal versions mean identical content.
+     */
+    public long getVersion() {
+        return version;
+    }
 }
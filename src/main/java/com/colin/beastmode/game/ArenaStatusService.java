@@ -1,15 +1,99 @@
 package com.colin.beastmode.game;
 
+import com.colin.beastmode.model.ArenaDefinition;
+import com.colin.beastmode.storage.ArenaStorage;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 /**
- * Broadcasts arena status changes to registered listeners.
+ * Publishes immutable arena status snapshots and broadcasts changed arenas to registered listeners, both once per
+ * tick however many changes an arena saw.
  */
 final class ArenaStatusService {
 
+    private final TaskRegistry tasks;
+    private final ArenaStorage arenaStorage;
+    private final ActiveArenaDirectory arenaDirectory;
+    private final ArenaWaitingService waitingService;
+    private final ArenaInstanceService instances;
+    private final ConcurrentMap<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+    private volatile Totals totals = new Totals(0, null);
     private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+    private final Map<String, String> dirty = new LinkedHashMap<>();
+    private TaskRegistry.Handle pendingFlush;
+    private long requested;
+    private long delivered;
+    private long flushes;
+    private long unpublishedReads;
+
+    ArenaStatusService(TaskRegistry tasks,
+                       ArenaStorage arenaStorage,
+                       ActiveArenaDirectory arenaDirectory,
+                       ArenaWaitingService waitingService,
+                       ArenaInstanceService instances) {
+        this.tasks = Objects.requireNonNull(tasks, "tasks");
+        this.arenaStorage = Objects.requireNonNull(arenaStorage, "arenaStorage");
+        this.arenaDirectory = Objects.requireNonNull(arenaDirectory, "arenaDirectory");
+        this.waitingService = Objects.requireNonNull(waitingService, "waitingService");
+        this.instances = Objects.requireNonNull(instances, "instances");
+    }
+
+    /**
+     * Returns the published snapshot for an arena, with capacity reported for {@code desiredMode} when given.
+     * Snapshots are only rebuilt from change notifications; an arena that has none yet is published on its first
+     * main-thread read and counted, so arenas that change without notifying show up in the task report.
+     */
+    ArenaStatus getStatus(String arenaName, GameModeType desiredMode) {
+        String trimmed = trim(arenaName);
+        if (trimmed.isEmpty()) {
+            return ArenaStatus.unavailable("");
+        }
+        String key = trimmed.toLowerCase(Locale.ENGLISH);
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null) {
+            return snapshot.view(desiredMode);
+        }
+        if (!Bukkit.isPrimaryThread()) {
+            return ArenaStatus.unavailable(trimmed);
+        }
+        unpublishedReads++;
+        snapshot = publish(key, trimmed);
+        recomputeTotals();
+        return snapshot.view(desiredMode);
+    }
+
+    /**
+     * Publishes a snapshot for every stored arena so async readers find one before any arena changes.
+     */
+    void publishAll() {
+        for (ArenaDefinition definition : arenaStorage.getArenas()) {
+            publish(definition.getName().toLowerCase(Locale.ENGLISH), definition.getName());
+        }
+        recomputeTotals();
+    }
+
+    int getTotalPlayers() {
+        return totals.players();
+    }
+
+    /**
+     * The arena with the most players, or {@code null} when every arena is empty.
+     */
+    ArenaStatus getBusiestArena() {
+        return totals.busiest();
+    }
 
     void register(Consumer<String> listener) {
         if (listener != null) {
@@ -30,14 +114,125 @@ final class ArenaStatusService {
         notifyArenaName(activeArena.getArena().getName());
     }
 
+    /**
+     * Marks an arena dirty; its snapshot is rebuilt once in the next flush however often it was notified.
+     */
     void notifyArenaName(String arenaName) {
         String trimmed = trim(arenaName);
         if (trimmed.isEmpty()) {
             return;
         }
-        for (Consumer<String> listener : listeners) {
-            listener.accept(trimmed);
+        String key = trimmed.toLowerCase(Locale.ENGLISH);
+        requested++;
+        dirty.putIfAbsent(key, trimmed);
+        if (pendingFlush == null || pendingFlush.isCancelled()) {
+            pendingFlush = tasks.runGlobal("status-flush", 0L, 0L, this::flush);
+        }
+    }
+
+    /**
+     * Publishes each dirty arena once, refreshes the totals, then delivers one notification per arena; changes
+     * raised by listeners are queued for the next flush.
+     */
+    void flush() {
+        pendingFlush = null;
+        if (dirty.isEmpty()) {
+            return;
+        }
+        Map<String, String> batch = new LinkedHashMap<>(dirty);
+        dirty.clear();
+        flushes++;
+        for (Map.Entry<String, String> entry : batch.entrySet()) {
+            publish(entry.getKey(), entry.getValue());
         }
+        recomputeTotals();
+        for (String arenaName : batch.values()) {
+            delivered++;
+            for (Consumer<String> listener : listeners) {
+                listener.accept(arenaName);
+            }
+        }
+    }
+
+    /**
+     * Builds the snapshot of every instance of an arena: players, runners and capacity are summed, while state,
+     * mode and beast come from the busiest instance (most players, then the furthest phase).
+     */
+    private Snapshot publish(String key, String displayName) {
+        ArenaDefinition definition = arenaStorage.getArena(key);
+        long version = versions.incrementAndGet();
+        Snapshot snapshot;
+        if (definition == null) {
+            ArenaStatus missing = ArenaStatus.unavailable(displayName, version);
+            snapshot = new Snapshot(missing, missing);
+        } else {
+            int playerCount = 0;
+            boolean running = false;
+            boolean selecting = false;
+            boolean matchActive = false;
+            GameModeType mode = GameModeType.HUNT;
+            String state = definition.isComplete() ? "ready" : "setup";
+            String beastName = null;
+            int runners = 0;
+            ActiveArena activeArena = null;
+            int busiestPlayers = -1;
+            for (ActiveArena instance : arenaDirectory.instancesOf(key)) {
+                int players = instance.countOnline();
+                playerCount += players;
+                runners += instance.getRunnerCount();
+                if (players > busiestPlayers || (players == busiestPlayers
+                        && instance.getPhase().ordinal() > activeArena.getPhase().ordinal())) {
+                    activeArena = instance;
+                    busiestPlayers = players;
+                }
+            }
+            if (activeArena != null) {
+                running = activeArena.isRunning();
+                selecting = activeArena.isSelecting();
+                matchActive = activeArena.isMatchActive();
+                mode = activeArena.getMode();
+                if (activeArena.getPhase() != ArenaPhase.IDLE) {
+                    state = activeArena.getPhase().name().toLowerCase(Locale.ENGLISH);
+                }
+                Player beast = activeArena.getBeastId() != null ? Bukkit.getPlayer(activeArena.getBeastId()) : null;
+                beastName = beast != null ? beast.getName() : null;
+            }
+            ArenaStatus hunt = new ArenaStatus(definition.getName(), true, definition.isComplete(), playerCount,
+                    capacity(definition, GameModeType.HUNT), running, selecting, matchActive, mode, state,
+                    beastName, runners, version);
+            ArenaStatus trial = new ArenaStatus(definition.getName(), true, definition.isComplete(), playerCount,
+                    capacity(definition, GameModeType.TIME_TRIAL), running, selecting, matchActive, mode, state,
+                    beastName, runners, version);
+            snapshot = new Snapshot(hunt, trial);
+        }
+        snapshots.put(key, snapshot);
+        return snapshot;
+    }
+
+    private void recomputeTotals() {
+        int players = 0;
+        ArenaStatus busiest = null;
+        for (Snapshot snapshot : snapshots.values()) {
+            ArenaStatus status = snapshot.view(null);
+            players += status.getPlayerCount();
+            if (status.getPlayerCount() > 0
+                    && (busiest == null || status.getPlayerCount() > busiest.getPlayerCount())) {
+                busiest = status;
+            }
+        }
+        totals = new Totals(players, busiest);
+    }
+
+    private int capacity(ArenaDefinition definition, GameModeType mode) {
+        int limit = waitingService.getQueueLimit(definition, mode);
+        if (limit == Integer.MAX_VALUE) {
+            return -1;
+        }
+        return limit * instances.instanceLimit(definition.getName().toLowerCase(Locale.ENGLISH));
+    }
+
+    StatusStats getStats() {
+        return new StatusStats(requested, delivered, flushes, dirty.size(), unpublishedReads);
     }
 
     private String trim(String arenaName) {
@@ -46,4 +241,29 @@ final class ArenaStatusService {
         }
         return arenaName.trim();
     }
+
+    /**
+     * One published state per arena with a capacity view for each mode.
+     */
+    private record Snapshot(ArenaStatus hunt, ArenaStatus trial) {
+
+        ArenaStatus view(GameModeType desiredMode) {
+            GameModeType mode = desiredMode != null ? desiredMode : hunt.getMode();
+            return mode == GameModeType.TIME_TRIAL ? trial : hunt;
+        }
+    }
+
+    private record Totals(int players, ArenaStatus busiest) {
+    }
+
+    /**
+     * Notification counters; {@code collapsed()} is how many requests were folded into another in the same tick,
+     * {@code unpublishedReads} how many reads found an arena that had never been announced.
+     */
+    record StatusStats(long requested, long delivered, long flushes, int pending, long unpublishedReads) {
+
+        long collapsed() {
+            return Math.max(0L, requested - delivered - pending);
+        }
+    }
 }
@@ -0,0 +1,11 @@
+package com.colin.beastmode.game;
+
+/**
+ * Handle for a timer scheduled on an {@link ArenaClock}.
+ */
+interface ArenaTimer {
+
+    void cancel();
+
+    boolean isCancelled();
+}
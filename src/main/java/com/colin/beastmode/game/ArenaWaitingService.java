@@ -14,14 +14,22 @@ import java.util.List;
 final class ArenaWaitingService {
 
     private final PlayerSupportService playerSupport;
+    private final TransitionScheduler scheduler;
     private final String prefix;
 
-    ArenaWaitingService(PlayerSupportService playerSupport, String prefix) {
+    ArenaWaitingService(PlayerSupportService playerSupport, TransitionScheduler scheduler, String prefix) {
         this.playerSupport = playerSupport;
+        this.scheduler = scheduler;
         this.prefix = prefix;
     }
 
-    boolean sendPlayersToWaiting(ArenaDefinition arena, List<Player> participants, GameModeType mode) {
+    /**
+     * Queues every participant for the waiting room and runs {@code whenArrived} once the last one is there.
+     * Returns false, queuing nothing, when the arena's spawns are not configured.
+     */
+    boolean sendPlayersToWaiting(ActiveArena activeArena, List<Player> participants, Runnable whenArrived) {
+        ArenaDefinition arena = activeArena.getArena();
+        GameModeType mode = activeArena.getMode();
         Location waitingPoint = arena.getWaitingSpawn();
         if (waitingPoint == null) {
             waitingPoint = arena.getRunnerSpawn();
@@ -40,13 +48,11 @@ final class ArenaWaitingService {
             return false;
         }
 
-        boolean success = true;
         for (Player participant : participants) {
-            if (!teleportToWaiting(arena, participant)) {
-                success = false;
-            }
+            scheduler.submit(activeArena, participant, waitingPoint, true, GameMode.ADVENTURE, this::arriveAtWaiting);
         }
-        return success;
+        scheduler.afterQueued(activeArena, whenArrived);
+        return true;
     }
 
     boolean teleportToWaiting(ArenaDefinition arena, Player participant) {
@@ -65,9 +71,13 @@ final class ArenaWaitingService {
 
         participant.teleport(target.clone());
         participant.setGameMode(GameMode.ADVENTURE);
+        arriveAtWaiting(participant);
+        return true;
+    }
+
+    private void arriveAtWaiting(Player participant) {
         playerSupport.restoreVitals(participant);
         participant.sendTitle(ChatColor.GOLD + "Preparing...", "", 10, 40, 10);
-        return true;
     }
 
     void notifyWaitingForPlayers(ActiveArena activeArena, List<Player> participants) {
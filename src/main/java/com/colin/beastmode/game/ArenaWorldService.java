@@ -0,0 +1,450 @@
+package com.colin.beastmode.game;
+
+import com.colin.beastmode.Beastmode;
+import com.colin.beastmode.storage.ArenaStorage;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.WorldCreator;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps arena worlds loaded only while they are played. An arena listed under {@code arena-worlds} gets its world
+ * created when the first player queues — copied from a template folder off the main thread first, if one is
+ * configured — and unloaded once every instance has been cleaned up and the idle grace period has passed, after
+ * which template copies are deleted. A world re-entered within the grace period is simply kept, and template file
+ * lists are cached so later copies skip the directory walk. Only folders carrying the copy marker written by this
+ * service are ever deleted, and worlds some other plugin loaded first are never managed. Main-thread only apart
+ * from the file jobs, which run through the task registry.
+ */
+final class ArenaWorldService {
+
+    static final int DEFAULT_IDLE_SECONDS = 300;
+    private static final String COPY_MARKER = ".beastmode-copy";
+    private static final Set<String> SKIPPED_FILES = Set.of("uid.dat", "session.lock", COPY_MARKER);
+
+    private final Beastmode plugin;
+    private final TaskRegistry tasks;
+    private final ArenaStorage arenaStorage;
+    private final ActiveArenaDirectory directory;
+    private final ArenaInstanceService instances;
+    private final ArenaChunkWarmer chunkWarmer;
+    private final Map<String, Binding> bindings = new HashMap<>();
+    private final Map<String, WorldState> worlds = new HashMap<>();
+    private final Map<Path, List<Path>> manifests = new ConcurrentHashMap<>();
+    private long loads;
+    private long copies;
+    private long copyNanos;
+    private long loadNanos;
+    private long reentries;
+    private long unloads;
+    private long failures;
+
+    ArenaWorldService(Beastmode plugin,
+                      TaskRegistry tasks,
+                      ArenaStorage arenaStorage,
+                      ActiveArenaDirectory directory,
+                      ArenaInstanceService instances,
+                      ArenaChunkWarmer chunkWarmer,
+                      ConfigurationSection section) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+        this.tasks = Objects.requireNonNull(tasks, "tasks");
+        this.arenaStorage = Objects.requireNonNull(arenaStorage, "arenaStorage");
+        this.directory = Objects.requireNonNull(directory, "directory");
+        this.instances = Objects.requireNonNull(instances, "instances");
+        this.chunkWarmer = Objects.requireNonNull(chunkWarmer, "chunkWarmer");
+        reload(section);
+    }
+
+    /**
+     * Re-reads {@code arena-worlds}. A template copy needs its own {@code world} name, distinct from the build world
+     * the arena was set up in, and a world that is already loaded without this service having loaded it is skipped.
+     */
+    void reload(ConfigurationSection section) {
+        for (Binding binding : bindings.values()) {
+            if (binding.template != null) {
+                arenaStorage.setWorldAlias(binding.arena, null, null);
+                arenaStorage.reloadArena(binding.arena);
+            }
+        }
+        bindings.clear();
+        manifests.clear();
+        if (section != null) {
+            Path container = Bukkit.getWorldContainer().toPath().toAbsolutePath().normalize();
+            for (String name : section.getKeys(false)) {
+                ConfigurationSection entry = section.getConfigurationSection(name);
+                if (entry == null) {
+                    continue;
+                }
+                String configured = arenaStorage.getConfiguredWorld(name);
+                String templateName = entry.getString("template");
+                Path template = templateName != null && !templateName.isBlank()
+                        ? container.resolve(templateName).normalize()
+                        : null;
+                String world = entry.getString("world", template == null ? configured : null);
+                if (world == null || world.isBlank()) {
+                    plugin.getLogger().log(Level.WARNING, "Arena world for {0} is unknown; set arena-worlds.{0}.world.",
+                            name);
+                    continue;
+                }
+                if (template != null && world.equalsIgnoreCase(configured)) {
+                    plugin.getLogger().log(Level.WARNING, "Arena {0} copies a template into its build world {1}; "
+                            + "set arena-worlds.{0}.world to a separate world name.", new Object[]{name, world});
+                    continue;
+                }
+                if (Bukkit.getWorld(world) != null && !worlds.containsKey(world)) {
+                    plugin.getLogger().log(Level.WARNING, "Arena world {0} for {1} is already loaded elsewhere; "
+                            + "not managing it.", new Object[]{world, name});
+                    continue;
+                }
+                if (template != null && template.equals(container.resolve(world).normalize())) {
+                    plugin.getLogger().log(Level.WARNING, "Arena {0} uses its own world as template; ignoring it.",
+                            name);
+                    continue;
+                }
+                long idleTicks = Math.max(0, entry.getInt("idle-unload-seconds", DEFAULT_IDLE_SECONDS)) * 20L;
+                bindings.put(name.toLowerCase(Locale.ENGLISH), new Binding(name, world, template, idleTicks));
+                if (template != null) {
+                    arenaStorage.setWorldAlias(name, configured, world);
+                    // Points the definition away from the build world until the copy is loaded.
+                    arenaStorage.reloadArena(name);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true when {@code arenaName} can be joined right away. Otherwise its world starts loading and
+     * {@code whenLoaded} is told on the main thread whether that worked. A pending idle unload is left alone;
+     * only {@link #markInUse(String)} keeps the world, so a rejected join does not pin it in memory.
+     */
+    boolean ensureLoaded(String arenaName, Consumer<Boolean> whenLoaded) {
+        Binding binding = arenaName != null ? bindings.get(arenaName.trim().toLowerCase(Locale.ENGLISH)) : null;
+        if (binding == null) {
+            return true;
+        }
+        WorldState state = worlds.computeIfAbsent(binding.world, key -> new WorldState());
+        World world = Bukkit.getWorld(binding.world);
+        if (world != null && state.phase != Phase.LOADING) {
+            state.phase = Phase.LOADED;
+            if (state.world != world) {
+                state.world = world;
+                arenaStorage.reloadArena(binding.arena);
+            }
+            return true;
+        }
+        state.waiters.add(whenLoaded);
+        if (state.phase == Phase.UNLOADED) {
+            startLoad(binding, state);
+        }
+        return false;
+    }
+
+    /**
+     * Called once a player has actually been added to an instance of {@code baseKey}; cancels the idle unload of
+     * its world.
+     */
+    void markInUse(String baseKey) {
+        Binding binding = baseKey != null ? bindings.get(baseKey) : null;
+        WorldState state = binding != null ? worlds.get(binding.world) : null;
+        if (state != null && state.cancelIdle()) {
+            reentries++;
+        }
+    }
+
+    /**
+     * Called once an instance of {@code baseKey} has been cleaned up; starts the idle grace period of its world.
+     */
+    void onArenaCleaned(String baseKey) {
+        Binding binding = baseKey != null ? bindings.get(baseKey) : null;
+        WorldState state = binding != null ? worlds.get(binding.world) : null;
+        if (state != null && state.phase == Phase.LOADED) {
+            scheduleIdleCheck(binding, state);
+        }
+    }
+
+    boolean isManaged(String arenaName) {
+        return arenaName != null && bindings.containsKey(arenaName.trim().toLowerCase(Locale.ENGLISH));
+    }
+
+    /**
+     * True when {@code arenaName}'s managed world is loaded or its last load attempt failed, i.e. loading it again
+     * would not change what the arena looks like.
+     */
+    boolean isSettled(String arenaName) {
+        Binding binding = arenaName != null ? bindings.get(arenaName.trim().toLowerCase(Locale.ENGLISH)) : null;
+        WorldState state = binding != null ? worlds.get(binding.world) : null;
+        return state != null && (state.phase == Phase.LOADED || state.failed);
+    }
+
+    int managedWorlds() {
+        return bindings.size();
+    }
+
+    int loadedWorlds() {
+        int total = 0;
+        for (WorldState state : worlds.values()) {
+            if (state.phase == Phase.LOADED) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    long worldLoads() {
+        return loads;
+    }
+
+    long worldUnloads() {
+        return unloads;
+    }
+
+    long worldReentries() {
+        return reentries;
+    }
+
+    long worldFailures() {
+        return failures;
+    }
+
+    double averageCopyMillis() {
+        return copies == 0 ? 0.0D : copyNanos / 1_000_000.0D / copies;
+    }
+
+    double averageLoadMillis() {
+        return loads == 0 ? 0.0D : loadNanos / 1_000_000.0D / loads;
+    }
+
+    private void startLoad(Binding binding, WorldState state) {
+        state.phase = Phase.LOADING;
+        state.failed = false;
+        if (binding.template == null) {
+            tasks.runGlobal("world-load", 1L, 0L, () -> finishLoad(binding, state, true));
+            return;
+        }
+        Path target = worldFolder(binding);
+        tasks.runAsync("world-copy", () -> {
+            long started = System.nanoTime();
+            return copyTemplate(binding.template, target) ? System.nanoTime() - started : -1L;
+        }, elapsed -> {
+            if (elapsed >= 0L) {
+                copies++;
+                copyNanos += elapsed;
+            }
+            finishLoad(binding, state, elapsed >= 0L);
+        });
+    }
+
+    private void finishLoad(Binding binding, WorldState state, boolean filesReady) {
+        World world = null;
+        if (filesReady) {
+            long started = System.nanoTime();
+            try {
+                world = new WorldCreator(binding.world).createWorld();
+            } catch (RuntimeException ex) {
+                plugin.getLogger().log(Level.WARNING, "Could not load arena world " + binding.world, ex);
+            }
+            loadNanos += System.nanoTime() - started;
+        }
+        if (world != null) {
+            loads++;
+            // Template copies are thrown away on unload, so there is nothing worth saving.
+            world.setAutoSave(binding.template == null);
+            state.phase = Phase.LOADED;
+            state.world = world;
+            arenaStorage.reloadArena(binding.arena);
+        } else {
+            failures++;
+            state.phase = Phase.UNLOADED;
+            state.failed = true;
+        }
+        List<Consumer<Boolean>> waiting = new ArrayList<>(state.waiters);
+        state.waiters.clear();
+        for (Consumer<Boolean> waiter : waiting) {
+            waiter.accept(world != null);
+        }
+        if (world != null) {
+            // Covers the case where every waiting player left before the world was ready.
+            scheduleIdleCheck(binding, state);
+        }
+    }
+
+    private void scheduleIdleCheck(Binding binding, WorldState state) {
+        state.cancelIdle();
+        state.idleTimer = tasks.runGlobal("world-idle", Math.max(1L, binding.idleTicks), 0L, () -> {
+            state.idleTimer = null;
+            unloadIfIdle(binding, state);
+        });
+    }
+
+    private void unloadIfIdle(Binding binding, WorldState state) {
+        World world = Bukkit.getWorld(binding.world);
+        if (state.phase != Phase.LOADED || world == null || !world.getPlayers().isEmpty()) {
+            return;
+        }
+        List<Binding> sharing = new ArrayList<>();
+        for (Binding candidate : bindings.values()) {
+            if (candidate.world.equals(binding.world)) {
+                sharing.add(candidate);
+            }
+        }
+        for (Binding candidate : sharing) {
+            for (ActiveArena activeArena : directory.instancesOf(candidate.key())) {
+                if (activeArena.isRunning() || !activeArena.getPlayerIds().isEmpty()) {
+                    return;
+                }
+            }
+        }
+        for (Binding candidate : sharing) {
+            for (ActiveArena activeArena : directory.instancesOf(candidate.key())) {
+                chunkWarmer.release(activeArena);
+                directory.remove(activeArena.getKey());
+            }
+            instances.discard(candidate.key());
+        }
+        if (!Bukkit.unloadWorld(world, binding.template == null)) {
+            plugin.getLogger().log(Level.FINE, "Arena world {0} refused to unload; keeping it.", binding.world);
+            return;
+        }
+        unloads++;
+        state.world = null;
+        for (Binding candidate : sharing) {
+            // Drops the definition's references to the unloaded world; the next join binds it again.
+            arenaStorage.reloadArena(candidate.arena);
+        }
+        if (binding.template == null) {
+            state.phase = Phase.UNLOADED;
+            worlds.remove(binding.world);
+            return;
+        }
+        state.phase = Phase.DELETING;
+        Path target = worldFolder(binding);
+        tasks.runAsync("world-delete", () -> deleteCopy(target), deleted -> {
+            state.phase = Phase.UNLOADED;
+            if (!state.waiters.isEmpty()) {
+                startLoad(binding, state);
+            } else {
+                worlds.remove(binding.world, state);
+            }
+        });
+    }
+
+    private boolean copyTemplate(Path template, Path target) {
+        try {
+            List<Path> files = manifests.get(template);
+            if (files == null) {
+                files = scan(template);
+                manifests.put(template, files);
+            }
+            if (Files.exists(target) && !deleteCopy(target)) {
+                return false;
+            }
+            Files.createDirectories(target);
+            Files.createFile(target.resolve(COPY_MARKER));
+            for (Path relative : files) {
+                Path destination = target.resolve(relative);
+                Files.createDirectories(destination.getParent());
+                Files.copy(template.resolve(relative), destination, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException ex) {
+            manifests.remove(template);
+            plugin.getLogger().log(Level.WARNING, "Could not copy arena template " + template + " to " + target, ex);
+            return false;
+        }
+    }
+
+    private static List<Path> scan(Path template) throws IOException {
+        try (Stream<Path> walk = Files.walk(template)) {
+            return walk.filter(Files::isRegularFile)
+                    .filter(path -> !SKIPPED_FILES.contains(path.getFileName().toString()))
+                    .map(template::relativize)
+                    .collect(Collectors.toUnmodifiableList());
+        }
+    }
+
+    /**
+     * Deletes a world folder this service copied from a template; folders without the copy marker are left alone.
+     * The marker goes last so a partly deleted copy is still recognised. Returns true once the folder is gone.
+     */
+    private boolean deleteCopy(Path target) {
+        if (!Files.exists(target)) {
+            return true;
+        }
+        Path marker = target.resolve(COPY_MARKER);
+        if (!Files.exists(marker)) {
+            plugin.getLogger().log(Level.WARNING, "Arena world folder {0} was not created from a template; "
+                    + "leaving it alone.", target);
+            return false;
+        }
+        try (Stream<Path> walk = Files.walk(target)) {
+            for (Path path : walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                if (!path.equals(marker) && !path.equals(target)) {
+                    Files.deleteIfExists(path);
+                }
+            }
+            Files.deleteIfExists(marker);
+            Files.deleteIfExists(target);
+            return true;
+        } catch (IOException ex) {
+            plugin.getLogger().log(Level.WARNING, "Could not delete arena world copy " + target, ex);
+            return false;
+        }
+    }
+
+    private static Path worldFolder(Binding binding) {
+        return Bukkit.getWorldContainer().toPath().resolve(binding.world);
+    }
+
+    private enum Phase {
+        UNLOADED,
+        LOADING,
+        LOADED,
+        DELETING
+    }
+
+    private record Binding(String arena, String world, Path template, long idleTicks) {
+
+        private String key() {
+            return arena.toLowerCase(Locale.ENGLISH);
+        }
+    }
+
+    private static final class WorldState {
+
+        private final List<Consumer<Boolean>> waiters = new ArrayList<>();
+        private Phase phase = Phase.UNLOADED;
+        private boolean failed;
+        private World world;
+        private TaskRegistry.Handle idleTimer;
+
+        /**
+         * Cancels a pending idle unload; returns true when one was pending.
+         */
+        private boolean cancelIdle() {
+            if (idleTimer == null) {
+                return false;
+            }
+            idleTimer.cancel();
+            idleTimer = null;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.colin.beastmode.game;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Holds runners in place during start countdowns by clamping their move events to a frozen anchor,
+ * only sending a corrective position once drift exceeds a small threshold.
+ */
+final class CountdownFreezeService {
+
+    private static final double DRIFT_THRESHOLD = 0.25D;
+    private static final double DRIFT_THRESHOLD_SQUARED = DRIFT_THRESHOLD * DRIFT_THRESHOLD;
+
+    private final Map<UUID, Anchor> anchors = new HashMap<>();
+    private long anchorsPlaced;
+    private long moveChecks;
+    private long corrections;
+    private long checkNanos;
+    private long frozenMillis;
+
+    void freeze(ActiveArena activeArena, Player runner, int durationTicks) {
+        if (activeArena == null || runner == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        purgeExpired(now);
+        release(runner.getUniqueId());
+
+        Location position = runner.getLocation();
+        if (position.getWorld() == null) {
+            return;
+        }
+        long expiresAt = now + Math.max(durationTicks, 20) * 50L;
+        anchors.put(runner.getUniqueId(), new Anchor(activeArena, position, now, expiresAt));
+        anchorsPlaced++;
+    }
+
+    void release(UUID uuid) {
+        if (uuid == null) {
+            return;
+        }
+        Anchor anchor = anchors.remove(uuid);
+        if (anchor != null) {
+            retire(anchor, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Returns the location a frozen runner should be held at, or {@code null} when the move may proceed.
+     * The returned instance is reused for that runner and must not be retained by callers.
+     */
+    Location resolveCorrection(Player player, Location to) {
+        if (anchors.isEmpty() || player == null || to == null) {
+            return null;
+        }
+        Anchor anchor = anchors.get(player.getUniqueId());
+        if (anchor == null) {
+            return null;
+        }
+
+        long started = System.nanoTime();
+        moveChecks++;
+        try {
+            long now = System.currentTimeMillis();
+            if (now >= anchor.expiresAtMillis || !anchor.arena.isMatchActive() || to.getWorld() != anchor.world) {
+                anchors.remove(player.getUniqueId());
+                retire(anchor, now);
+                return null;
+            }
+
+            double dx = to.getX() - anchor.x;
+            double dy = to.getY() - anchor.y;
+            double dz = to.getZ() - anchor.z;
+            if (dx * dx + dy * dy + dz * dz <= DRIFT_THRESHOLD_SQUARED) {
+                return null;
+            }
+
+            corrections++;
+            player.setFallDistance(0f);
+            Location correction = anchor.correction;
+            correction.setX(anchor.x);
+            correction.setY(anchor.y);
+            correction.setZ(anchor.z);
+            correction.setYaw(to.getYaw());
+            correction.setPitch(to.getPitch());
+            return correction;
+        } finally {
+            checkNanos += System.nanoTime() - started;
+        }
+    }
+
+    FreezeStats getStats() {
+        long activeMillis = 0L;
+        long now = System.currentTimeMillis();
+        for (Anchor anchor : anchors.values()) {
+            activeMillis += Math.max(0L, Math.min(now, anchor.expiresAtMillis) - anchor.placedAtMillis);
+        }
+        return new FreezeStats(anchors.size(), anchorsPlaced, moveChecks, corrections, checkNanos,
+                frozenMillis + activeMillis);
+    }
+
+    void shutdown() {
+        anchors.clear();
+    }
+
+    private void purgeExpired(long now) {
+        Iterator<Anchor> iterator = anchors.values().iterator();
+        while (iterator.hasNext()) {
+            Anchor anchor = iterator.next();
+            if (now >= anchor.expiresAtMillis || !anchor.arena.isMatchActive()) {
+                iterator.remove();
+                retire(anchor, now);
+            }
+        }
+    }
+
+    private void retire(Anchor anchor, long now) {
+        frozenMillis += Math.max(0L, Math.min(now, anchor.expiresAtMillis) - anchor.placedAtMillis);
+    }
+
+    private static final class Anchor {
+        private final ActiveArena arena;
+        private final World world;
+        private final double x;
+        private final double y;
+        private final double z;
+        private final Location correction;
+        private final long placedAtMillis;
+        private final long expiresAtMillis;
+
+        private Anchor(ActiveArena arena, Location position, long placedAtMillis, long expiresAtMillis) {
+            this.arena = arena;
+            this.world = position.getWorld();
+            this.x = position.getX();
+            this.y = position.getY();
+            this.z = position.getZ();
+            this.correction = position.clone();
+            this.placedAtMillis = placedAtMillis;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
+    /**
+     * Counters for comparing clamp corrections against the per-tick teleport they replaced.
+     */
+    record FreezeStats(int frozenPlayers,
+                       long anchorsPlaced,
+                       long moveChecks,
+                       long corrections,
+                       long checkNanos,
+                       long frozenMillis) {
+
+        double correctionsPerFrozenSecond() {
+            return frozenMillis > 0 ? corrections * 1000D / frozenMillis : 0D;
+        }
+
+        double nanosPerCheck() {
+            return moveChecks > 0 ? (double) checkNanos / moveChecks : 0D;
+        }
+    }
+}
@@ -1,9 +1,6 @@
 package com.colin.beastmode.game;
 
-import com.colin.beastmode.Beastmode;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.Collections;
 import java.util.List;
@@ -15,17 +12,11 @@ import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 /**
- * Coordinates timed countdowns for arena events while ensuring tasks are tracked
- * and arenas clear themselves if all participants leave mid-timer.
+ * Coordinates timed countdowns for arena events on the arena clock and ensures
+ * arenas clear themselves if all participants leave mid-timer.
  */
 final class CountdownService {
 
-    private final Beastmode plugin;
-
-    CountdownService(Beastmode plugin) {
-        this.plugin = plugin;
-    }
-
     void startCountdown(ActiveArena activeArena,
                         int seconds,
                         Supplier<List<Player>> participantsSupplier,
@@ -100,14 +91,13 @@ final class CountdownService {
         runnable.start();
     }
 
-    private final class CountdownRunnable extends BukkitRunnable {
+    private static final class CountdownRunnable implements Consumer<ArenaTimer> {
         private final ActiveArena activeArena;
         private final Supplier<List<Player>> participantsSupplier;
         private final BiConsumer<List<Player>, Integer> announcer;
         private final Runnable onAbandoned;
         private final Runnable completion;
         private int remaining;
-        private BukkitTask handle;
 
         private CountdownRunnable(ActiveArena activeArena,
                                   int seconds,
@@ -126,15 +116,14 @@ final class CountdownService {
         }
 
         private void start() {
-            handle = runTaskTimer(plugin, 0L, 20L);
-            activeArena.registerTask(handle);
+            activeArena.getClock().runRepeating(0L, 20L, this);
         }
 
         @Override
-        public void run() {
+        public void accept(ArenaTimer timer) {
             List<Player> participants = participantsSupplier.get();
             if (participants == null || participants.isEmpty()) {
-                cancel();
+                timer.cancel();
                 if (onAbandoned != null) {
                     onAbandoned.run();
                 }
@@ -142,7 +131,7 @@ final class CountdownService {
             }
 
             if (remaining <= 0) {
-                cancel();
+                timer.cancel();
                 if (completion != null) {
                     completion.run();
                 }
@@ -154,17 +143,9 @@ final class CountdownService {
             }
             remaining--;
         }
-
-        @Override
-        public synchronized void cancel() throws IllegalStateException {
-            super.cancel();
-            if (handle != null) {
-                activeArena.unregisterTask(handle);
-            }
-        }
     }
 
-    private final class SelectionCountdownRunnable extends BukkitRunnable {
+    private static final class SelectionCountdownRunnable implements Consumer<ArenaTimer> {
         private final ActiveArena activeArena;
         private final int wheelSeconds;
         private final Supplier<List<Player>> participantsSupplier;
@@ -173,8 +154,8 @@ final class CountdownService {
         private final BiConsumer<List<Player>, Integer> announcer;
         private final Runnable onStartWheel;
         private final Runnable onAbandoned;
+        private final long phaseSerial;
         private int remaining;
-        private BukkitTask handle;
 
         private SelectionCountdownRunnable(ActiveArena activeArena,
                                            int totalSeconds,
@@ -194,6 +175,7 @@ final class CountdownService {
             this.announcer = announcer;
             this.onStartWheel = onStartWheel;
             this.onAbandoned = onAbandoned;
+            this.phaseSerial = activeArena.getPhaseSerial();
         }
 
         private void start() {
@@ -207,22 +189,26 @@ final class CountdownService {
                 announcer.accept(initialParticipants, remaining);
             }
 
-            handle = runTaskTimer(plugin, 20L, 20L);
-            activeArena.registerTask(handle);
+            activeArena.getClock().runRepeating(20L, 20L, this);
         }
 
         @Override
-        public void run() {
+        public void accept(ArenaTimer timer) {
+            if (activeArena.getPhaseSerial() != phaseSerial) {
+                timer.cancel();
+                return;
+            }
+
             List<Player> participants = safeParticipants();
             if (participants.isEmpty()) {
-                cancel();
+                timer.cancel();
                 abandonArena();
                 return;
             }
 
             int required = Math.max(requiredParticipantsSupplier.getAsInt(), 0);
             if (participants.size() < required) {
-                cancel();
+                timer.cancel();
                 if (onInsufficientParticipants != null) {
                     onInsufficientParticipants.accept(participants);
                 }
@@ -237,7 +223,7 @@ final class CountdownService {
                 return;
             }
 
-            cancel();
+            timer.cancel();
             if (onStartWheel != null) {
                 onStartWheel.run();
             }
@@ -256,17 +242,9 @@ final class CountdownService {
                 onAbandoned.run();
             }
         }
-
-        @Override
-        public synchronized void cancel() throws IllegalStateException {
-            super.cancel();
-            if (handle != null) {
-                activeArena.unregisterTask(handle);
-            }
-        }
     }
 
-    private final class WheelSelectionRunnable extends BukkitRunnable {
+    private static final class WheelSelectionRunnable implements Consumer<ArenaTimer> {
         private static final int PERIOD_TICKS = 4;
 
         private final ActiveArena activeArena;
@@ -278,10 +256,10 @@ final class CountdownService {
         private final BiConsumer<List<Player>, Player> finalPreviewAnnouncer;
         private final BiConsumer<List<Player>, Player> finalizeAction;
         private final Runnable onAbandoned;
+        private final long phaseSerial;
         private int ticksRemaining;
         private int index;
         private boolean finalized;
-        private BukkitTask handle;
 
         private WheelSelectionRunnable(ActiveArena activeArena,
                                        int durationSeconds,
@@ -304,25 +282,30 @@ final class CountdownService {
             this.onAbandoned = onAbandoned;
             this.ticksRemaining = Math.max(durationSeconds, 0) * 20;
             this.index = ThreadLocalRandom.current().nextInt(Math.max(activeArena.getPlayerIds().size(), 1));
+            this.phaseSerial = activeArena.getPhaseSerial();
         }
 
         private void start() {
-            handle = runTaskTimer(plugin, 0L, PERIOD_TICKS);
-            activeArena.registerTask(handle);
+            activeArena.getClock().runRepeating(0L, PERIOD_TICKS, this);
         }
 
         @Override
-        public void run() {
+        public void accept(ArenaTimer timer) {
+            if (activeArena.getPhaseSerial() != phaseSerial) {
+                timer.cancel();
+                return;
+            }
+
             List<Player> participants = safeParticipants();
             if (participants.isEmpty()) {
-                cancel();
+                timer.cancel();
                 abandonArena();
                 return;
             }
 
             int required = Math.max(requiredParticipantsSupplier.getAsInt(), 0);
             if (participants.size() < required) {
-                cancel();
+                timer.cancel();
                 if (onInsufficientParticipants != null) {
                     onInsufficientParticipants.accept(participants);
                 }
@@ -338,7 +321,7 @@ final class CountdownService {
                     finalizeAction.accept(participants, chosen);
                 }
                 finalized = true;
-                cancel();
+                timer.cancel();
                 return;
             }
 
@@ -370,13 +353,5 @@ final class CountdownService {
                 onAbandoned.run();
             }
         }
-
-        @Override
-        public synchronized void cancel() throws IllegalStateException {
-            super.cancel();
-            if (handle != null) {
-                activeArena.unregisterTask(handle);
-            }
-        }
     }
 }
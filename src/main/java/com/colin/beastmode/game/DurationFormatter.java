@@ -0,0 +1,69 @@
+package com.colin.beastmode.game;
+
+/**
+ * Formats run durations with integer arithmetic into caller-supplied character buffers.
+ */
+final class DurationFormatter {
+
+    static final int MAX_LENGTH = 28;
+
+    private DurationFormatter() {
+    }
+
+    static String formatMillis(long millis) {
+        if (millis < 0) {
+            return "-";
+        }
+        char[] buffer = new char[MAX_LENGTH];
+        int length = write(buffer, 0, millis, 3);
+        return new String(buffer, 0, length);
+    }
+
+    static String formatCentis(long millis) {
+        if (millis < 0) {
+            return "-";
+        }
+        char[] buffer = new char[MAX_LENGTH];
+        int length = write(buffer, 0, millis, 2);
+        return new String(buffer, 0, length);
+    }
+
+    /**
+     * Writes {@code m:ss.ff} or {@code m:ss.fff} (truncated) starting at {@code offset} and returns the end index.
+     */
+    static int write(char[] buffer, int offset, long millis, int fractionDigits) {
+        long safe = Math.max(millis, 0L);
+        long totalSeconds = safe / 1000L;
+        long minutes = totalSeconds / 60L;
+        int seconds = (int) (totalSeconds % 60L);
+        int fraction = (int) (safe % 1000L);
+
+        int position = writeDigits(buffer, offset, minutes);
+        buffer[position++] = ':';
+        buffer[position++] = (char) ('0' + seconds / 10);
+        buffer[position++] = (char) ('0' + seconds % 10);
+        buffer[position++] = '.';
+        buffer[position++] = (char) ('0' + fraction / 100);
+        buffer[position++] = (char) ('0' + fraction / 10 % 10);
+        if (fractionDigits >= 3) {
+            buffer[position++] = (char) ('0' + fraction % 10);
+        }
+        return position;
+    }
+
+    private static int writeDigits(char[] buffer, int offset, long value) {
+        if (value == 0L) {
+            buffer[offset] = '0';
+            return offset + 1;
+        }
+        int digits = 0;
+        for (long remaining = value; remaining > 0L; remaining /= 10L) {
+            digits++;
+        }
+        int position = offset + digits;
+        for (long remaining = value; remaining > 0L; remaining /= 10L) {
+            buffer[--position] = (char) ('0' + (int) (remaining % 10L));
+        }
+        return offset + digits;
+    }
+}
@@ -12,12 +12,15 @@ import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataType;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 import java.util.function.Consumer;
 
 public class GameManager {
 
+    private final Beastmode plugin;
     private final ActiveArenaDirectory arenaDirectory;
     private final ArenaStatusService statusService;
     private final PlayerSupportService playerSupport;
@@ -29,6 +32,17 @@ public class GameManager {
     private final MatchEliminationService eliminationService;
     private final ArenaQueueService queueService;
     private final TimeTrialService timeTrials;
+    private final CountdownFreezeService freezeService;
+    private final TaskRegistry taskRegistry;
+    private final KitCatalog kits;
+    private final NegativeEffects negativeEffects;
+    private final TransitionScheduler transitionScheduler;
+    private final ArenaChunkWarmer chunkWarmer;
+    private final MatchPreparationService preparation;
+    private final ArenaInstanceService instances;
+    private final ArenaWorldService worlds;
+    private final MatchmakingService matchmaking;
+    private final MessageCatalog messages;
     static final String MSG_ARENA_NOT_FOUND = "Arena %s does not exist.";
     static final String MSG_ARENA_INCOMPLETE = "Arena %s is not fully configured yet.";
     private static final String PERM_PREFERENCE_VIP = "beastmode.preference.vip";
@@ -47,6 +61,7 @@ public class GameManager {
     }
 
     public GameManager(Beastmode plugin, ArenaStorage arenaStorage) {
+        this.plugin = plugin;
         String prefix = plugin.getConfig().getString("messages.prefix", "[Beastmode] ");
         NamespacedKey exitTokenKey = new NamespacedKey(plugin, "exit_token");
         NamespacedKey preferenceKey = new NamespacedKey(plugin, "preference_selector");
@@ -68,6 +83,18 @@ public class GameManager {
         this.orchestration = services.orchestration();
         this.queueService = services.queueService();
         this.timeTrials = services.timeTrials();
+        this.freezeService = services.freezeService();
+        this.taskRegistry = services.taskRegistry();
+        this.kits = services.kits();
+        this.negativeEffects = services.negativeEffects();
+        this.transitionScheduler = services.transitionScheduler();
+        this.chunkWarmer = services.chunkWarmer();
+        this.preparation = services.preparation();
+        this.instances = services.instances();
+        this.worlds = services.worlds();
+        this.matchmaking = services.matchmaking();
+        this.messages = services.messages();
+        statusService.publishAll();
     }
 
     public void registerStatusListener(Consumer<String> listener) {
@@ -90,6 +117,17 @@ public class GameManager {
         queueService.join(player, arenaName, GameModeType.HUNT, preference);
     }
 
+    /**
+     * Queues {@code player} for whichever hunt will start soonest.
+     */
+    public void playMatchmaking(Player player, RolePreference preference) {
+        matchmaking.play(player, preference);
+    }
+
+    public boolean leaveMatchmaking(Player player) {
+        return matchmaking.leave(player);
+    }
+
     public void joinTimeTrial(Player player, String arenaName) {
         queueService.joinTimeTrial(player, arenaName);
     }
@@ -98,6 +136,10 @@ public class GameManager {
         completionService.handlePlayerMove(player, from, to);
     }
 
+    public Location resolveFreezeCorrection(Player player, Location to) {
+        return freezeService.resolveCorrection(player, to);
+    }
+
     public void handlePlayerInteract(Player player, Block block) {
         completionService.handlePlayerInteract(player, block);
     }
@@ -111,11 +153,13 @@ public class GameManager {
             return;
         }
 
+        matchmaking.leave(player);
         ActiveArenaContext context = resolveActiveArena(player.getUniqueId());
-        if (context == null) {
-            return;
+        if (context != null) {
+            context.arena().invalidateRoster();
+            departureService.handlePlayerQuit(context.key(), context.arena(), player);
         }
-        departureService.handlePlayerQuit(context.key(), context.arena(), player);
+        taskRegistry.cancelPlayer(player.getUniqueId());
     }
 
     public void handlePlayerJoin(Player player) {
@@ -159,8 +203,106 @@ public class GameManager {
         return orchestration.hasActiveArena(arenaName);
     }
 
+    /**
+     * Re-reads config.yml and recompiles kits, negative effects, transition pacing, instancing and match messages;
+     * running matches pick them up on next use.
+     */
+    public void reloadConfiguration() {
+        plugin.reloadConfig();
+        kits.reload(plugin.getConfig().getConfigurationSection("kits"));
+        negativeEffects.reload(plugin.getConfig().getStringList("negative-effects"));
+        transitionScheduler.configure(
+                plugin.getConfig().getInt("transitions.per-tick", TransitionScheduler.DEFAULT_PER_TICK),
+                plugin.getConfig().getDouble("transitions.spawn-jitter", TransitionScheduler.DEFAULT_JITTER));
+        instances.reload(plugin.getConfig().getConfigurationSection("instancing"));
+        worlds.reload(plugin.getConfig().getConfigurationSection("arena-worlds"));
+        matchmaking.rebuild();
+        messages.reload(plugin.getConfig().getConfigurationSection("messages"));
+    }
+
     public void shutdown() {
         orchestration.shutdown();
+        freezeService.shutdown();
+        chunkWarmer.shutdown();
+        taskRegistry.shutdown();
+    }
+
+    public TaskRegistry getTaskRegistry() {
+        return taskRegistry;
+    }
+
+    /**
+     * Formatted task registry, arena clock, status notification and countdown freeze counters for the tasks diagnostics command.
+     */
+    public List<String> describeTasks() {
+        TaskRegistry.Report report = taskRegistry.report();
+        List<String> lines = new ArrayList<>();
+        lines.add(ChatColor.GOLD + "Tasks: " + ChatColor.AQUA + report.totalTasks()
+                + ChatColor.GRAY + " (arena " + report.arenaTasks() + ", player " + report.playerTasks()
+                + ", global " + report.globalTasks() + ")");
+        lines.add(ChatColor.GOLD + "Runs: " + ChatColor.AQUA + report.totalRuns()
+                + ChatColor.GRAY + " totalling " + formatNanos(report.totalRunNanos()));
+        lines.add(ChatColor.GOLD + "Audits: " + ChatColor.AQUA + report.audits()
+                + ChatColor.GRAY + " (orphans cancelled " + report.orphansCancelled()
+                + ", stale records " + report.staleRemoved() + ")");
+        for (TaskRegistry.ArenaUsage usage : report.arenas()) {
+            lines.add(ChatColor.YELLOW + " " + usage.arenaKey() + ChatColor.GRAY + ": " + usage.activeTasks()
+                    + " active, " + usage.runs() + " runs, " + formatNanos(usage.runNanos()));
+        }
+        int pendingTimers = 0;
+        long overruns = 0L;
+        long lagNanos = 0L;
+        for (ActiveArena activeArena : arenaDirectory.values()) {
+            ArenaClock clock = activeArena.getClock();
+            pendingTimers += clock.getPendingTimers();
+            overruns += clock.getOverruns();
+            lagNanos += clock.getLagNanos();
+        }
+        lines.add(ChatColor.GOLD + "Arena clocks: " + ChatColor.AQUA + pendingTimers + " timers pending"
+                + ChatColor.GRAY + " (" + overruns + " overruns, " + formatNanos(lagNanos) + " lag)");
+        ArenaStatusService.StatusStats status = statusService.getStats();
+        lines.add(ChatColor.GOLD + "Status updates: " + ChatColor.AQUA + status.delivered()
+                + ChatColor.GRAY + " delivered in " + status.flushes() + " flushes ("
+                + status.collapsed() + " collapsed of " + status.requested() + ", "
+                + status.unpublishedReads() + " unannounced reads)");
+        CountdownFreezeService.FreezeStats freeze = freezeService.getStats();
+        lines.add(ChatColor.GOLD + "Freeze: " + ChatColor.AQUA + freeze.frozenPlayers() + " frozen"
+                + ChatColor.GRAY + String.format(Locale.ROOT, " (%.2f corrections/s, %.0f ns/check)",
+                freeze.correctionsPerFrozenSecond(), freeze.nanosPerCheck()));
+        VisibilityGroups visibility = playerSupport.getVisibility();
+        lines.add(ChatColor.GOLD + "Visibility: " + ChatColor.AQUA + visibility.pendingOperations() + " pending"
+                + ChatColor.GRAY + " (" + visibility.appliedOperations() + " applied, "
+                + visibility.cancelledOperations() + " cancelled)");
+        lines.add(ChatColor.GOLD + "Transitions: " + ChatColor.AQUA + transitionScheduler.pendingTransitions() + " pending"
+                + ChatColor.GRAY + " (" + transitionScheduler.appliedTransitions() + " applied, "
+                + transitionScheduler.droppedTransitions() + " dropped)");
+        lines.add(ChatColor.GOLD + "Chunks: " + ChatColor.AQUA + chunkWarmer.ticketedChunks() + " ticketed"
+                + ChatColor.GRAY + String.format(Locale.ROOT, " (%d arenas, %d loaded ahead in %.1f ms, %d already loaded)",
+                chunkWarmer.warmingArenas(), chunkWarmer.chunksLoadedAhead(), chunkWarmer.millisLoadedAhead(),
+                chunkWarmer.chunksAlreadyLoaded()));
+        lines.add(ChatColor.GOLD + "Preparation: " + ChatColor.AQUA + preparation.finalizations() + " matches"
+                + ChatColor.GRAY + String.format(Locale.ROOT,
+                " (wheel-stop work %.2f ms, max %.2f; first teleport after %.0f ms, max %.0f; %d late steps)",
+                preparation.lastFinalizeMillis(), preparation.maxFinalizeMillis(),
+                preparation.lastTeleportLatencyMillis(), preparation.maxTeleportLatencyMillis(),
+                preparation.stepsFinishedLate()));
+        lines.add(ChatColor.GOLD + "Instances: " + ChatColor.AQUA + instances.pooledInstances() + " pooled"
+                + ChatColor.GRAY + " (" + instances.openedInstances() + " opened, " + instances.reusedInstances()
+                + " reused, " + instances.recycledInstances() + " recycled)");
+        lines.add(ChatColor.GOLD + "Worlds: " + ChatColor.AQUA + worlds.loadedWorlds() + "/" + worlds.managedWorlds()
+                + " loaded" + ChatColor.GRAY + String.format(Locale.ROOT,
+                " (%d loads, %d unloads, %d re-entries, %d failed; copy %.0f ms, load %.0f ms avg)",
+                worlds.worldLoads(), worlds.worldUnloads(), worlds.worldReentries(), worlds.worldFailures(),
+                worlds.averageCopyMillis(), worlds.averageLoadMillis()));
+        lines.add(ChatColor.GOLD + "Matchmaker: " + ChatColor.AQUA + matchmaking.waitingPlayers() + " waiting"
+                + ChatColor.GRAY + String.format(Locale.ROOT, " (%d instances ranked, %d placed, %d from queue, %.2f ms avg)",
+                matchmaking.candidateCount(), matchmaking.placedPlayers(), matchmaking.placedFromQueue(),
+                matchmaking.averagePlacementMillis()));
+        return lines;
+    }
+
+    private static String formatNanos(long nanos) {
+        return String.format(Locale.ROOT, "%.1f ms", nanos / 1_000_000D);
     }
 
     String findArenaByPlayer(UUID uuid) {
@@ -205,6 +347,20 @@ public class GameManager {
         return orchestration.getArenaStatus(arenaName, mode);
     }
 
+    /**
+     * Players across all arenas, from published snapshots; safe to call from any thread.
+     */
+    public int getTotalArenaPlayers() {
+        return statusService.getTotalPlayers();
+    }
+
+    /**
+     * Snapshot of the arena with the most players, or {@code null}; safe to call from any thread.
+     */
+    public ArenaStatus getBusiestArena() {
+        return statusService.getBusiestArena();
+    }
+
     void startMatch(String key, ActiveArena activeArena) {
         orchestration.startMatch(key, activeArena);
     }
@@ -252,9 +408,11 @@ public class GameManager {
     }
 
     public boolean isManagedItem(ItemStack stack) {
-        return playerSupport.isExitToken(stack)
-                || playerSupport.isPreferenceSelector(stack)
-                || playerSupport.isTimeTrialRestartItem(stack);
+        return playerSupport.classify(stack).isManaged();
+    }
+
+    public ManagedItemType classifyItem(ItemStack stack) {
+        return playerSupport.classify(stack);
     }
 
     public void handlePreferenceItemUse(Player player, ItemStack stack) {
@@ -19,7 +19,18 @@ record GameServices(ActiveArenaDirectory arenaDirectory,
                     MatchEliminationService eliminationService,
                     MatchOrchestrationService orchestration,
                     ArenaQueueService queueService,
-                    TimeTrialService timeTrials) {
+                    TimeTrialService timeTrials,
+                    CountdownFreezeService freezeService,
+                    TaskRegistry taskRegistry,
+                    KitCatalog kits,
+                    NegativeEffects negativeEffects,
+                    MessageCatalog messages,
+                    TransitionScheduler transitionScheduler,
+                    ArenaChunkWarmer chunkWarmer,
+                    MatchPreparationService preparation,
+                    ArenaInstanceService instances,
+                    ArenaWorldService worlds,
+                    MatchmakingService matchmaking) {
 
     static GameServices create(Beastmode plugin,
                                ArenaStorage arenaStorage,
@@ -33,37 +44,69 @@ record GameServices(ActiveArenaDirectory arenaDirectory,
                                String defaultBeastName,
                                String vipPermission,
                                String njogPermission) {
-        ActiveArenaDirectory directory = new ActiveArenaDirectory();
-        ArenaStatusService statusService = new ArenaStatusService();
-        PlayerSupportService playerSupport = new PlayerSupportService(plugin, prefix, longEffectDurationTicks,
-            exitTokenKey, preferenceKey, restartTokenKey, exitTokenTemplate, restartTokenTemplate);
-        ArenaWaitingService waitingService = new ArenaWaitingService(playerSupport, prefix);
+        TaskRegistry taskRegistry = new TaskRegistry(plugin);
+        ActiveArenaDirectory directory = new ActiveArenaDirectory(taskRegistry);
+        KitCatalog kits = new KitCatalog(plugin.getLogger(), plugin.getConfig().getConfigurationSection("kits"));
+        NegativeEffects negativeEffects = new NegativeEffects(plugin.getLogger(),
+            plugin.getConfig().getStringList("negative-effects"));
+        PlayerSupportService playerSupport = new PlayerSupportService(plugin, taskRegistry, prefix, longEffectDurationTicks,
+            exitTokenKey, preferenceKey, restartTokenKey, exitTokenTemplate, restartTokenTemplate, kits, negativeEffects);
+        TransitionScheduler transitionScheduler = new TransitionScheduler(taskRegistry,
+            plugin.getConfig().getInt("transitions.per-tick", TransitionScheduler.DEFAULT_PER_TICK),
+            plugin.getConfig().getDouble("transitions.spawn-jitter", TransitionScheduler.DEFAULT_JITTER));
+        ArenaChunkWarmer chunkWarmer = new ArenaChunkWarmer(plugin, taskRegistry);
+        ArenaWaitingService waitingService = new ArenaWaitingService(playerSupport, transitionScheduler, prefix);
+        ArenaInstanceService instances = new ArenaInstanceService(directory, waitingService, chunkWarmer,
+            plugin.getConfig().getConfigurationSection("instancing"));
+        ArenaStatusService statusService = new ArenaStatusService(taskRegistry, arenaStorage, directory, waitingService,
+            instances);
+        directory.setChangeListener(statusService::notifyArenaStatus);
+        arenaStorage.addChangeListener(statusService::notifyArenaName);
         ArenaBarrierService barrierService = new ArenaBarrierService();
-    ArenaLifecycleService arenaLifecycle = new ArenaLifecycleService(directory, barrierService, playerSupport, statusService::notifyArenaName);
-        CountdownService countdowns = new CountdownService(plugin);
+        ArenaWorldService worlds = new ArenaWorldService(plugin, taskRegistry, arenaStorage, directory, instances,
+            chunkWarmer, plugin.getConfig().getConfigurationSection("arena-worlds"));
+    ArenaLifecycleService arenaLifecycle = new ArenaLifecycleService(directory, barrierService, playerSupport,
+            transitionScheduler, chunkWarmer, instances, worlds, statusService::notifyArenaName);
+        CountdownService countdowns = new CountdownService();
         RoleSelectionService roleSelection = new RoleSelectionService(vipPermission, njogPermission);
         MatchSetupService matchSetup = new MatchSetupService(playerSupport, prefix);
-        ArenaMessagingService messaging = new ArenaMessagingService(prefix, defaultBeastName);
-        PlayerTransitionService transitions = new PlayerTransitionService(plugin, playerSupport);
+        MessageCatalog messages = MessageCatalog.load(plugin.getConfig().getConfigurationSection("messages"), prefix);
+        ArenaMessagingService messaging = new ArenaMessagingService(messages, defaultBeastName);
+        PlayerTransitionService transitions = new PlayerTransitionService(taskRegistry, playerSupport, transitionScheduler);
         TimeTrialStorage timeTrialStorage = new TimeTrialStorage(plugin);
-        TimeTrialService timeTrials = new TimeTrialService(plugin, timeTrialStorage, playerSupport, messaging, prefix);
-        MatchOutcomeService matchOutcome = new MatchOutcomeService(prefix, defaultBeastName, playerSupport, transitions, timeTrials);
-        MatchFlowService matchFlow = new MatchFlowService(plugin, countdowns, barrierService, playerSupport,
-            messaging, prefix, longEffectDurationTicks, timeTrials);
+        CountdownFreezeService freezeService = new CountdownFreezeService();
+        TimeTrialTiming timing = new TimeTrialTiming(
+            TimeTrialTiming.Policy.fromConfig(plugin.getConfig().getString("time-trials.timing")));
+        TimeTrialService timeTrials = new TimeTrialService(timeTrialStorage, playerSupport, messaging,
+            freezeService, timing, prefix);
+        ArenaSidebarService sidebarService = new ArenaSidebarService(directory, timeTrials, messages);
+        statusService.register(sidebarService::onStatusChanged);
+        MatchOutcomeService matchOutcome = new MatchOutcomeService(messages, defaultBeastName, playerSupport, transitions, timeTrials);
+        MatchPreparationService preparation = new MatchPreparationService(barrierService, chunkWarmer, matchSetup);
+        MatchFlowService matchFlow = new MatchFlowService(countdowns, barrierService, playerSupport,
+            messaging, prefix, longEffectDurationTicks, timeTrials, transitionScheduler, preparation);
         // Selection depends on waiting/lifecycle/messaging to sequence lobby → game transitions.
         MatchSelectionService selectionService = new MatchSelectionService(countdowns, roleSelection, matchSetup,
-            messaging, matchFlow, waitingService, arenaLifecycle, statusService::notifyArenaStatus);
+            messaging, matchFlow, preparation, waitingService, arenaLifecycle, statusService::notifyArenaStatus);
         PlayerPreferenceService preferenceService = new PlayerPreferenceService(directory, playerSupport, roleSelection, prefix);
         ArenaDepartureService departureService = new ArenaDepartureService(prefix, playerSupport, transitions,
             waitingService, arenaLifecycle, matchOutcome, statusService::notifyArenaStatus);
         MatchCompletionService completionService = new MatchCompletionService(directory, departureService);
     MatchEliminationService eliminationService = new MatchEliminationService(directory, playerSupport, transitions, departureService);
-        MatchOrchestrationService orchestration = new MatchOrchestrationService(directory, arenaStorage, arenaLifecycle,
+        MatchOrchestrationService orchestration = new MatchOrchestrationService(directory, arenaLifecycle,
             waitingService, selectionService, departureService, statusService, prefix);
         ArenaQueueService queueService = new ArenaQueueService(arenaStorage, directory, playerSupport,
-            roleSelection, waitingService, orchestration, statusService, timeTrials, prefix);
+            roleSelection, waitingService, orchestration, statusService, timeTrials, chunkWarmer, instances,
+            worlds, prefix);
+        MatchmakingService matchmaking = new MatchmakingService(arenaStorage, directory, waitingService, instances,
+            worlds, queueService, prefix);
+        statusService.register(matchmaking::onStatusChanged);
+
+        taskRegistry.startAudit(directory::ownsClock);
 
         return new GameServices(directory, statusService, playerSupport, roleSelection, preferenceService,
-            departureService, completionService, eliminationService, orchestration, queueService, timeTrials);
+            departureService, completionService, eliminationService, orchestration, queueService, timeTrials,
+            freezeService, taskRegistry, kits, negativeEffects, messages,
+            transitionScheduler, chunkWarmer, preparation, instances, worlds, matchmaking);
     }
 }
@@ -0,0 +1,51 @@
+package com.colin.beastmode.game;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/**
+ * Loadout kits compiled from the {@code kits} config section; recompiled only when the config is reloaded.
+ */
+final class KitCatalog {
+
+    static final String RUNNER_REWARD = "runner-reward";
+    static final String BEAST = "beast";
+
+    private final Logger logger;
+    private volatile Map<String, LoadoutKit> kits = Map.of();
+
+    KitCatalog(Logger logger, ConfigurationSection section) {
+        this.logger = Objects.requireNonNull(logger, "logger");
+        reload(section);
+    }
+
+    void reload(ConfigurationSection section) {
+        Map<String, LoadoutKit> compiled = new HashMap<>();
+        if (section != null) {
+            for (String name : section.getKeys(false)) {
+                String key = name.toLowerCase(Locale.ENGLISH);
+                compiled.put(key, LoadoutKit.compile(key, section.getConfigurationSection(name), logger));
+            }
+        }
+        for (String required : new String[]{RUNNER_REWARD, BEAST}) {
+            if (!compiled.containsKey(required)) {
+                logger.warning("Kit '" + required + "' is not defined; players will receive an empty inventory.");
+                compiled.put(required, LoadoutKit.compile(required, null, logger));
+            }
+        }
+        kits = Map.copyOf(compiled);
+    }
+
+    LoadoutKit get(String name) {
+        return kits.get(name);
+    }
+
+    int size() {
+        return kits.size();
+    }
+}
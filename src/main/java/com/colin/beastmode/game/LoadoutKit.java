@@ -0,0 +1,195 @@
+package com.colin.beastmode.game;
+
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.inventory.meta.PotionMeta;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+import org.bukkit.potion.PotionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * A kit compiled from config into a full player-inventory template (storage, armour, off-hand) plus effects,
+ * applied with one bulk inventory write. Templates are never handed out, so they stay unmodified.
+ */
+final class LoadoutKit {
+
+    private static final int CONTENTS_SIZE = 41;
+    private static final int STORAGE_SIZE = 36;
+    private static final int BOOTS_SLOT = 36;
+    private static final int LEGGINGS_SLOT = 37;
+    private static final int CHESTPLATE_SLOT = 38;
+    private static final int HELMET_SLOT = 39;
+    private static final int OFF_HAND_SLOT = 40;
+
+    private final String name;
+    private final ItemStack[] contents;
+    private final int heldSlot;
+    private final List<PotionEffect> effects;
+
+    private LoadoutKit(String name, ItemStack[] contents, int heldSlot, List<PotionEffect> effects) {
+        this.name = name;
+        this.contents = contents;
+        this.heldSlot = heldSlot;
+        this.effects = List.copyOf(effects);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Replaces the player's whole inventory with the kit and applies its effects.
+     */
+    void apply(Player player) {
+        PlayerInventory inventory = player.getInventory();
+        inventory.setContents(contents);
+        if (heldSlot >= 0) {
+            inventory.setHeldItemSlot(heldSlot);
+        }
+        for (PotionEffect effect : effects) {
+            player.removePotionEffect(effect.getType());
+            player.addPotionEffect(effect);
+        }
+    }
+
+    /**
+     * Compiles {@code kits.<name>}; entries that cannot be resolved are logged and skipped.
+     */
+    static LoadoutKit compile(String name, ConfigurationSection section, Logger logger) {
+        ItemStack[] contents = new ItemStack[CONTENTS_SIZE];
+        if (section == null) {
+            return new LoadoutKit(name, contents, -1, List.of());
+        }
+
+        ConfigurationSection items = section.getConfigurationSection("items");
+        if (items != null) {
+            for (String slotKey : items.getKeys(false)) {
+                int[] slots = parseSlots(slotKey);
+                ItemStack item = slots != null ? compileItem(items.getConfigurationSection(slotKey)) : null;
+                if (item == null) {
+                    logger.warning("Kit '" + name + "' has an invalid item at '" + slotKey + "'.");
+                    continue;
+                }
+                for (int slot : slots) {
+                    contents[slot] = item;
+                }
+            }
+        }
+
+        List<PotionEffect> effects = new ArrayList<>();
+        for (Map<?, ?> entry : section.getMapList("effects")) {
+            PotionEffect effect = compileEffect(entry);
+            if (effect == null) {
+                logger.warning("Kit '" + name + "' has an invalid effect: " + entry);
+                continue;
+            }
+            effects.add(effect);
+        }
+
+        int heldSlot = section.getInt("held-slot", -1);
+        return new LoadoutKit(name, contents, heldSlot >= 0 && heldSlot < 9 ? heldSlot : -1, effects);
+    }
+
+    private static int[] parseSlots(String key) {
+        switch (key.toLowerCase(Locale.ENGLISH)) {
+            case "helmet":
+                return new int[]{HELMET_SLOT};
+            case "chestplate":
+                return new int[]{CHESTPLATE_SLOT};
+            case "leggings":
+                return new int[]{LEGGINGS_SLOT};
+            case "boots":
+                return new int[]{BOOTS_SLOT};
+            case "offhand":
+                return new int[]{OFF_HAND_SLOT};
+            default:
+                break;
+        }
+        try {
+            int dash = key.indexOf('-');
+            int from = Integer.parseInt(dash > 0 ? key.substring(0, dash) : key);
+            int to = dash > 0 ? Integer.parseInt(key.substring(dash + 1)) : from;
+            if (from < 0 || to >= STORAGE_SIZE || to < from) {
+                return null;
+            }
+            int[] slots = new int[to - from + 1];
+            for (int i = 0; i < slots.length; i++) {
+                slots[i] = from + i;
+            }
+            return slots;
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private static ItemStack compileItem(ConfigurationSection section) {
+        if (section == null) {
+            return null;
+        }
+        Material material = Material.matchMaterial(section.getString("material", ""));
+        if (material == null || material.isAir()) {
+            return null;
+        }
+        ItemStack item = new ItemStack(material, Math.max(1, section.getInt("amount", 1)));
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) {
+            return item;
+        }
+
+        String displayName = section.getString("name");
+        if (displayName != null) {
+            meta.setDisplayName(ChatColor.translateAlternateColorCodes('&', displayName));
+        }
+        if (section.getBoolean("unbreakable", false)) {
+            meta.setUnbreakable(true);
+        }
+        ConfigurationSection enchantments = section.getConfigurationSection("enchantments");
+        if (enchantments != null) {
+            for (String key : enchantments.getKeys(false)) {
+                Enchantment enchantment = Registry.ENCHANTMENT.get(NamespacedKey.minecraft(key.toLowerCase(Locale.ROOT)));
+                if (enchantment == null) {
+                    return null;
+                }
+                meta.addEnchant(enchantment, Math.max(1, enchantments.getInt(key, 1)), true);
+            }
+        }
+        String potion = section.getString("potion");
+        if (potion != null) {
+            PotionType type = Registry.POTION.get(NamespacedKey.minecraft(potion.toLowerCase(Locale.ROOT)));
+            if (type == null || !(meta instanceof PotionMeta potionMeta)) {
+                return null;
+            }
+            potionMeta.setBasePotionType(type);
+        }
+        item.setItemMeta(meta);
+        return item;
+    }
+
+    private static PotionEffect compileEffect(Map<?, ?> entry) {
+        Object typeName = entry.get("type");
+        if (typeName == null) {
+            return null;
+        }
+        PotionEffectType type = Registry.EFFECT.get(NamespacedKey.minecraft(typeName.toString().toLowerCase(Locale.ROOT)));
+        if (type == null) {
+            return null;
+        }
+        int amplifier = entry.get("amplifier") instanceof Number number ? number.intValue() : 0;
+        int duration = entry.get("duration") instanceof Number number ? number.intValue() : Integer.MAX_VALUE;
+        return new PotionEffect(type, duration, Math.max(0, amplifier), false, false, true);
+    }
+}
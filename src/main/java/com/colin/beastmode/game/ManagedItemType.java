@@ -0,0 +1,15 @@
+package com.colin.beastmode.game;
+
+/**
+ * Classifies the plugin-owned items a player can hold.
+ */
+public enum ManagedItemType {
+    NONE,
+    EXIT_TOKEN,
+    PREFERENCE_SELECTOR,
+    TIME_TRIAL_RESTART;
+
+    public boolean isManaged() {
+        return this != NONE;
+    }
+}
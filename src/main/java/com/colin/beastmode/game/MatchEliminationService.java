@@ -70,10 +70,10 @@ final class MatchEliminationService {
             if (othersRemain) {
                 departures.handleRunnerElimination(key, activeArena, player);
             } else {
-                activeArena.setMatchActive(false);
+                activeArena.transitionTo(ArenaPhase.ENDING);
                 departures.handleRunnerVictory(key, activeArena, null);
             }
-            activeArena.removeTimeTrialStart(uuid);
+            activeArena.removeTimeTrialRun(uuid);
             playerSupport.removeTimeTrialRestartItem(player);
             playerSupport.revealTimeTrialParticipant(player);
             transitions.sendPlayerToSpawn(activeArena, player);
@@ -1,15 +1,12 @@
 package com.colin.beastmode.game;
 
-import com.colin.beastmode.Beastmode;
 import com.colin.beastmode.model.ArenaDefinition;
-import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.List;
 import java.util.Objects;
@@ -23,7 +20,6 @@ final class MatchFlowService {
 
     private static final long TELEPORT_DELAY_TICKS = 60L;
 
-    private final Beastmode plugin;
     private final CountdownService countdowns;
     private final ArenaBarrierService barrierService;
     private final PlayerSupportService playerSupport;
@@ -31,16 +27,18 @@ final class MatchFlowService {
     private final String prefix;
     private final int longEffectDurationTicks;
     private final TimeTrialService timeTrials;
+    private final TransitionScheduler scheduler;
+    private final MatchPreparationService preparation;
 
-    MatchFlowService(Beastmode plugin,
-                     CountdownService countdowns,
+    MatchFlowService(CountdownService countdowns,
                      ArenaBarrierService barrierService,
                      PlayerSupportService playerSupport,
                      ArenaMessagingService messaging,
                      String prefix,
                      int longEffectDurationTicks,
-                     TimeTrialService timeTrials) {
-        this.plugin = Objects.requireNonNull(plugin, "plugin");
+                     TimeTrialService timeTrials,
+                     TransitionScheduler scheduler,
+                     MatchPreparationService preparation) {
         this.countdowns = Objects.requireNonNull(countdowns, "countdowns");
         this.barrierService = Objects.requireNonNull(barrierService, "barrierService");
         this.playerSupport = Objects.requireNonNull(playerSupport, "playerSupport");
@@ -48,6 +46,8 @@ final class MatchFlowService {
         this.prefix = Objects.requireNonNull(prefix, "prefix");
         this.longEffectDurationTicks = longEffectDurationTicks;
         this.timeTrials = Objects.requireNonNull(timeTrials, "timeTrials");
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        this.preparation = Objects.requireNonNull(preparation, "preparation");
     }
 
     void scheduleMatchStart(ActiveArena activeArena,
@@ -69,12 +69,8 @@ final class MatchFlowService {
                 ? onMatchActivated
                 : () -> { };
 
-        final BukkitTask[] holder = new BukkitTask[1];
-        holder[0] = Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            activeArena.unregisterTask(holder[0]);
-            beginTeleportCountdown(activeArena, arena, beast, safeSupplier, cleanup, matchActivated);
-        }, TELEPORT_DELAY_TICKS);
-        activeArena.registerTask(holder[0]);
+        activeArena.getClock().runLater(TELEPORT_DELAY_TICKS,
+                () -> beginTeleportCountdown(activeArena, arena, beast, safeSupplier, cleanup, matchActivated));
     }
 
     private void beginTeleportCountdown(ActiveArena activeArena,
@@ -86,7 +82,7 @@ final class MatchFlowService {
         onMatchActivated.run();
         countdowns.startCountdown(activeArena, 1,
                 participantSupplier,
-                messaging::teleportCountdown,
+                (players, seconds) -> messaging.teleportCountdown(activeArena, players, seconds),
                 () -> cleanupAction.accept(true),
                 () -> finishTeleportCountdown(activeArena, arena, beast, participantSupplier, cleanupAction));
     }
@@ -102,9 +98,10 @@ final class MatchFlowService {
             return;
         }
 
-        messaging.teleportCountdown(current, 0);
-        teleportParticipants(activeArena, arena, current, beast);
-        scheduleRunnerGate(arena, activeArena, beast, current, participantSupplier, cleanupAction);
+        messaging.teleportCountdown(activeArena, current, 0);
+        // The runner gate countdown starts once the last participant has actually been moved.
+        teleportParticipants(activeArena, arena, current, beast,
+                () -> scheduleRunnerGate(arena, activeArena, beast, current, participantSupplier, cleanupAction));
     }
 
     private void scheduleRunnerGate(ArenaDefinition arena,
@@ -132,7 +129,7 @@ final class MatchFlowService {
                 return;
             }
 
-            messaging.broadcastGo(current);
+            messaging.broadcastGo(activeArena, current);
             if (beast == null) {
                 messaging.practiceReminder(current);
                 cleanupAction.accept(false);
@@ -143,16 +140,7 @@ final class MatchFlowService {
 
         if (runnerDelay <= 0) {
             if (timeTrial) {
-                BukkitTask[] holder = new BukkitTask[1];
-                holder[0] = Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                    if (activeArena != null) {
-                        activeArena.unregisterTask(holder[0]);
-                    }
-                    runnerOpenAction.run();
-                }, 1L);
-                if (activeArena != null) {
-                    activeArena.registerTask(holder[0]);
-                }
+                activeArena.getClock().runLater(1L, runnerOpenAction);
             } else {
                 runnerOpenAction.run();
             }
@@ -162,7 +150,7 @@ final class MatchFlowService {
         notifyRunnerGateDelay(initialParticipants, runnerDelay);
         messaging.broadcastReady(initialParticipants);
         countdowns.startCountdown(activeArena, runnerDelay, participantSupplier,
-                messaging::runnerCountdown,
+                (players, seconds) -> messaging.runnerCountdown(activeArena, players, seconds),
                 () -> cleanupAction.accept(true),
                 runnerOpenAction);
     }
@@ -184,7 +172,7 @@ final class MatchFlowService {
                 cleanupAction.accept(true);
                 return;
             }
-            messaging.broadcastBeastRelease(current, beast);
+            messaging.broadcastBeastRelease(activeArena, current, beast);
             openBeastGate(activeArena, arena, beast);
         };
 
@@ -197,7 +185,7 @@ final class MatchFlowService {
         notifyBeastGateDelay(initialParticipants, beastDelay);
         countdowns.startCountdown(activeArena, beastDelay, participantSupplier,
                 (players, seconds) -> {
-                    messaging.beastCountdown(players, seconds, beast);
+                    messaging.beastCountdown(activeArena, players, seconds, beast);
                     if (seconds == 1) {
                         applyBeastReleaseEffects(activeArena, beast);
                     }
@@ -206,43 +194,45 @@ final class MatchFlowService {
                 beastOpenAction);
     }
 
-    private void teleportParticipants(ActiveArena activeArena, ArenaDefinition arena, List<Player> players, Player beast) {
-        if (arena == null || arena.getRunnerSpawn() == null) {
+    private void teleportParticipants(ActiveArena activeArena, ArenaDefinition arena, List<Player> players, Player beast,
+                                      Runnable whenArrived) {
+        if (activeArena == null || arena == null || arena.getRunnerSpawn() == null) {
+            whenArrived.run();
             return;
         }
-        boolean timeTrial = activeArena != null && activeArena.isTimeTrial();
-        Location runnerLocation = arena.getRunnerSpawn().clone();
-        Location beastLocation = !timeTrial && arena.getBeastSpawn() != null ? arena.getBeastSpawn().clone() : null;
-        Bukkit.getScheduler().runTask(plugin, () -> {
-            if (!timeTrial && beastLocation != null && beast != null && beast.isOnline()) {
-                playerSupport.clearPreferenceSelectors(beast);
-                beast.teleport(beastLocation);
-                beast.setGameMode(GameMode.ADVENTURE);
-                playerSupport.restoreVitals(beast);
-            }
-            for (Player runner : players) {
-                if (beast != null && runner.equals(beast)) {
-                    continue;
-                }
-                if (runner.isOnline()) {
-                    playerSupport.clearPreferenceSelectors(runner);
-                    runner.teleport(runnerLocation);
-                    runner.setGameMode(GameMode.ADVENTURE);
-                    if (timeTrial) {
-                        playerSupport.resetLoadout(runner);
-                        playerSupport.restoreVitals(runner);
-                        playerSupport.giveTimeTrialRestartItem(runner);
-                    } else {
-                        playerSupport.restoreVitals(runner);
-                    }
+        boolean timeTrial = activeArena.isTimeTrial();
+        Location beastLocation = !timeTrial && arena.getBeastSpawn() != null ? arena.getBeastSpawn() : null;
+        if (beastLocation != null && beast != null) {
+            playerSupport.clearPreferenceSelectors(beast);
+            scheduler.submit(activeArena, beast, beastLocation, false, GameMode.ADVENTURE, moved -> {
+                preparation.recordTeleport(activeArena);
+                playerSupport.restoreVitals(moved);
+                if (playerSupport.applyBeastLoadout(moved)) {
+                    send(moved, ChatColor.DARK_RED + "" + ChatColor.BOLD + "You gear up in unbreakable armor.");
                 }
+            });
+        }
+        for (Player runner : players) {
+            if (beast != null && runner.equals(beast)) {
+                continue;
             }
+            playerSupport.clearPreferenceSelectors(runner);
+            scheduler.submit(activeArena, runner, arena.getRunnerSpawn(), true, GameMode.ADVENTURE, moved -> {
+                preparation.recordTeleport(activeArena);
+                if (timeTrial) {
+                    playerSupport.resetLoadout(moved);
+                    playerSupport.restoreVitals(moved);
+                    playerSupport.giveTimeTrialRestartItem(moved);
+                } else {
+                    playerSupport.restoreVitals(moved);
+                }
+            });
+        }
+        scheduler.afterQueued(activeArena, () -> {
             if (timeTrial) {
-                playerSupport.hideTimeTrialParticipants(players);
-            }
-            if (!timeTrial && beast != null && playerSupport.applyBeastLoadout(beast)) {
-                send(beast, ChatColor.DARK_RED + "" + ChatColor.BOLD + "You gear up in unbreakable armor.");
+                playerSupport.hideTimeTrialParticipants(activeArena, players);
             }
+            whenArrived.run();
         });
     }
 
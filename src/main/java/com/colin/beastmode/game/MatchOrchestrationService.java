@@ -1,7 +1,5 @@
 package com.colin.beastmode.game;
 
-import com.colin.beastmode.model.ArenaDefinition;
-import com.colin.beastmode.storage.ArenaStorage;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 
@@ -16,7 +14,6 @@ final class MatchOrchestrationService {
     private static final String MSG_ARENA_NOT_RUNNING = "Arena %s is not currently running.";
 
     private final ActiveArenaDirectory arenaDirectory;
-    private final ArenaStorage arenaStorage;
     private final ArenaLifecycleService arenaLifecycle;
     private final ArenaWaitingService waitingService;
     private final MatchSelectionService selectionService;
@@ -25,7 +22,6 @@ final class MatchOrchestrationService {
     private final String prefix;
 
     MatchOrchestrationService(ActiveArenaDirectory arenaDirectory,
-                              ArenaStorage arenaStorage,
                               ArenaLifecycleService arenaLifecycle,
                               ArenaWaitingService waitingService,
                               MatchSelectionService selectionService,
@@ -33,7 +29,6 @@ final class MatchOrchestrationService {
                               ArenaStatusService statusService,
                               String prefix) {
         this.arenaDirectory = arenaDirectory;
-        this.arenaStorage = arenaStorage;
         this.arenaLifecycle = arenaLifecycle;
         this.waitingService = waitingService;
         this.selectionService = selectionService;
@@ -46,7 +41,7 @@ final class MatchOrchestrationService {
         if (activeArena == null) {
             return;
         }
-        if (activeArena.isRunning() || activeArena.isSelecting() || activeArena.isMatchActive()) {
+        if (activeArena.getPhase() != ArenaPhase.IDLE) {
             return;
         }
 
@@ -56,22 +51,19 @@ final class MatchOrchestrationService {
             return;
         }
 
-        activeArena.setRunning(true);
         activeArena.clearMatchState();
+        activeArena.transitionTo(ArenaPhase.WAITING);
         activeArena.enableDamageProtection();
         statusService.notifyArenaStatus(activeArena);
         if (activeArena.isRunnerWallOpened() || activeArena.isBeastWallOpened()) {
             arenaLifecycle.resetArenaState(activeArena);
         }
 
-        ArenaDefinition arena = activeArena.getArena();
-        if (!waitingService.sendPlayersToWaiting(arena, participants, activeArena.getMode())) {
-            activeArena.setRunning(false);
+        if (!waitingService.sendPlayersToWaiting(activeArena, participants,
+                () -> selectionService.maybeStartSelection(key, activeArena))) {
+            activeArena.transitionTo(ArenaPhase.IDLE);
             arenaLifecycle.cleanupArena(key, activeArena);
-            return;
         }
-
-        selectionService.maybeStartSelection(key, activeArena);
     }
 
     void maybeStartCountdown(String key, ActiveArena activeArena) {
@@ -85,28 +77,27 @@ final class MatchOrchestrationService {
         }
 
         String trimmed = arenaName.trim();
-        String key = trimmed.toLowerCase(Locale.ENGLISH);
-        ActiveArena activeArena = arenaDirectory.get(key);
-        if (activeArena == null) {
+        List<ActiveArena> instances = arenaDirectory.instancesOf(trimmed.toLowerCase(Locale.ENGLISH));
+        if (instances.isEmpty()) {
             send(player, ChatColor.YELLOW + MSG_ARENA_NOT_RUNNING.formatted(highlight(trimmed)));
             return;
         }
 
-        List<Player> participants = arenaLifecycle.collectParticipants(activeArena);
-        for (Player participant : participants) {
-            send(participant, ChatColor.YELLOW + "The hunt was cancelled by " + player.getName() + ".");
+        for (ActiveArena activeArena : instances) {
+            List<Player> participants = arenaLifecycle.collectParticipants(activeArena);
+            for (Player participant : participants) {
+                send(participant, ChatColor.YELLOW + "The hunt was cancelled by " + player.getName() + ".");
+            }
+            arenaLifecycle.cleanupArena(activeArena.getKey(), activeArena);
         }
-
-        arenaLifecycle.cleanupArena(key, activeArena);
-        send(player, ChatColor.GREEN + "Cancelled hunt for arena " + highlight(activeArena.getArena().getName()) + ChatColor.GREEN + ".");
+        send(player, ChatColor.GREEN + "Cancelled hunt for arena " + highlight(instances.get(0).getArena().getName()) + ChatColor.GREEN + ".");
     }
 
     boolean hasActiveArena(String arenaName) {
         if (arenaName == null || arenaName.trim().isEmpty()) {
             return false;
         }
-        String key = arenaName.trim().toLowerCase(Locale.ENGLISH);
-        return arenaDirectory.contains(key);
+        return !arenaDirectory.instancesOf(arenaName.trim().toLowerCase(Locale.ENGLISH)).isEmpty();
     }
 
     void shutdown() {
@@ -114,7 +105,6 @@ final class MatchOrchestrationService {
             activeArena.cancelTasks();
             arenaLifecycle.resetArenaState(activeArena);
             activeArena.clearPlayers();
-            activeArena.setRunning(false);
         }
         arenaDirectory.clear();
         departureService.shutdown();
@@ -125,40 +115,7 @@ final class MatchOrchestrationService {
     }
 
     ArenaStatus getArenaStatus(String arenaName, GameModeType desiredMode) {
-        if (arenaName == null || arenaName.trim().isEmpty()) {
-            return ArenaStatus.unavailable("");
-        }
-
-        ArenaDefinition arena = arenaStorage.getArena(arenaName);
-        if (arena == null) {
-            return ArenaStatus.unavailable(arenaName.trim());
-        }
-
-        String key = arena.getName().toLowerCase(Locale.ENGLISH);
-        ActiveArena activeArena = arenaDirectory.get(key);
-
-        int playerCount = 0;
-        boolean running = false;
-        boolean selecting = false;
-        boolean matchActive = false;
-        GameModeType activeMode = GameModeType.HUNT;
-
-        if (activeArena != null) {
-            playerCount = arenaLifecycle.countActivePlayers(activeArena);
-            running = activeArena.isRunning();
-            selecting = activeArena.isSelecting();
-            matchActive = activeArena.isMatchActive();
-            activeMode = activeArena.getMode();
-        }
-
-        GameModeType referenceMode = desiredMode != null ? desiredMode : activeMode;
-        int capacity = waitingService.getQueueLimit(arena, referenceMode);
-        if (capacity == Integer.MAX_VALUE) {
-            capacity = -1;
-        }
-
-        return new ArenaStatus(arena.getName(), true, arena.isComplete(), playerCount, capacity,
-                running, selecting, matchActive, activeMode);
+        return statusService.getStatus(arenaName, desiredMode);
     }
 
     void notifyArenaStatus(ActiveArena activeArena) {
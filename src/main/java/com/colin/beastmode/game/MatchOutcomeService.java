@@ -1,7 +1,6 @@
 package com.colin.beastmode.game;
 
 import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffectType;
@@ -17,18 +16,18 @@ import java.util.function.Supplier;
  */
 final class MatchOutcomeService {
 
-    private final String prefix;
+    private final MessageCatalog messages;
     private final String defaultBeastName;
     private final PlayerSupportService playerSupport;
     private final PlayerTransitionService transitions;
     private final TimeTrialService timeTrials;
 
-    MatchOutcomeService(String prefix,
+    MatchOutcomeService(MessageCatalog messages,
                         String defaultBeastName,
                         PlayerSupportService playerSupport,
                         PlayerTransitionService transitions,
                         TimeTrialService timeTrials) {
-        this.prefix = Objects.requireNonNull(prefix, "prefix");
+        this.messages = Objects.requireNonNull(messages, "messages");
         this.defaultBeastName = Objects.requireNonNull(defaultBeastName, "defaultBeastName");
         this.playerSupport = Objects.requireNonNull(playerSupport, "playerSupport");
         this.transitions = Objects.requireNonNull(transitions, "transitions");
@@ -71,13 +70,13 @@ final class MatchOutcomeService {
                 return;
             }
 
-            activeArena.setFinalPhase(true);
+            activeArena.transitionTo(ArenaPhase.FINAL);
             announceFirstFinisher(finisher, participants, beastId);
             return;
         }
 
         boolean finalPhase = activeArena.isFinalPhase();
-        activeArena.setMatchActive(false);
+        activeArena.transitionTo(ArenaPhase.ENDING);
         run(notifyStatus);
         announceRunnerVictory(activeArena, participants, finalPhase);
         run(cleanup);
@@ -146,13 +145,11 @@ final class MatchOutcomeService {
         }
 
         String formatted = timeTrials.formatDuration(result.elapsedMillis());
-        String title = ChatColor.GREEN + "" + ChatColor.BOLD + "Time Trial Complete";
-        String subtitle = ChatColor.AQUA + formatted;
-        String broadcast = ChatColor.GOLD + finisher.getName() + ChatColor.YELLOW + " finished in "
-                + ChatColor.AQUA + formatted;
-        if (result.rank() > 0) {
-            broadcast += ChatColor.YELLOW + " (" + ChatColor.GOLD + "#" + result.rank() + ChatColor.YELLOW + ")";
-        }
+        String title = messages.render(MessageKey.TRIAL_FINISH_TITLE);
+        String subtitle = messages.render(MessageKey.TRIAL_FINISH_SUBTITLE, formatted);
+        String broadcast = result.rank() > 0
+                ? messages.chat(MessageKey.TRIAL_FINISH_RANKED, finisher.getName(), formatted, result.rank())
+                : messages.chat(MessageKey.TRIAL_FINISH_BROADCAST, finisher.getName(), formatted);
 
         finisher.sendTitle(title, subtitle, 10, 60, 10);
         finisher.playSound(finisher.getLocation(), Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.0f);
@@ -164,15 +161,14 @@ final class MatchOutcomeService {
         transitions.sendPlayerToSpawn(activeArena, finisher);
 
         for (Player participant : others) {
-            send(participant, broadcast);
+            participant.sendMessage(broadcast);
         }
 
         activeArena.removeRunner(finisherId);
         activeArena.removePlayer(finisherId);
 
         if (!activeArena.hasRunners()) {
-            activeArena.setMatchActive(false);
-            activeArena.setRunning(false);
+            activeArena.transitionTo(ArenaPhase.IDLE);
             playerSupport.revealTimeTrialParticipants(activeArena);
             run(notifyStatus);
             run(cleanup);
@@ -187,19 +183,19 @@ final class MatchOutcomeService {
                                      List<Player> participants,
                                      Runnable notifyStatus,
                                      Runnable cleanup) {
-        activeArena.setMatchActive(false);
+        activeArena.transitionTo(ArenaPhase.ENDING);
         run(notifyStatus);
 
         List<Player> audience = ensureBeastIncluded(participants, beast);
         String beastName = beast != null ? beast.getName() : defaultBeastName;
-        String title = ChatColor.DARK_RED + "" + ChatColor.BOLD + "Beast Victory!";
-        String subtitle = ChatColor.RED + beastName + ChatColor.GRAY + " eliminated everyone.";
+        String title = messages.render(MessageKey.BEAST_VICTORY_TITLE);
+        String subtitle = messages.render(MessageKey.BEAST_VICTORY_SUBTITLE, beastName);
+        String chat = messages.chat(MessageKey.BEAST_VICTORY_CHAT, beastName);
 
         for (Player participant : audience) {
             participant.sendTitle(title, subtitle, 10, 60, 10);
             participant.playSound(participant.getLocation(), Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 0.8f);
-            send(participant, ChatColor.DARK_RED + "" + ChatColor.BOLD + "The Beast prevailed! "
-                    + ChatColor.RESET + ChatColor.RED + beastName + ChatColor.GRAY + " cleared the arena.");
+            participant.sendMessage(chat);
             participant.removePotionEffect(PotionEffectType.FIRE_RESISTANCE);
             playerSupport.resetLoadout(participant);
             transitions.sendPlayerToSpawn(activeArena, participant);
@@ -212,8 +208,11 @@ final class MatchOutcomeService {
                                        List<Player> participants,
                                        UUID beastId) {
         String finisherName = finisher.getName();
-        String title = ChatColor.GOLD + "" + ChatColor.BOLD + "Parkour Complete!";
-        String subtitle = ChatColor.AQUA + finisherName + ChatColor.YELLOW + " finished the parkour and is ready to slay the Beast!";
+        String title = messages.render(MessageKey.FINISH_TITLE);
+        String subtitle = messages.render(MessageKey.FINISH_SUBTITLE, finisherName);
+        String selfChat = messages.chat(MessageKey.FINISH_SELF, finisherName);
+        String beastChat = messages.chat(MessageKey.FINISH_BEAST, finisherName);
+        String runnerChat = messages.chat(MessageKey.FINISH_RUNNERS, finisherName);
 
         for (Player participant : participants) {
             boolean isFinisher = participant.getUniqueId().equals(finisher.getUniqueId());
@@ -223,21 +222,18 @@ final class MatchOutcomeService {
             participant.playSound(participant.getLocation(), Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.0f);
 
             if (isFinisher) {
-                send(participant, ChatColor.GOLD + "" + ChatColor.BOLD + finisherName + ChatColor.RESET
-                        + ChatColor.YELLOW + " finished the parkour and is ready to slay the Beast!");
+                participant.sendMessage(selfChat);
                 playerSupport.applyFireResistance(participant);
                 playerSupport.scheduleRunnerReward(participant);
                 continue;
             }
 
             if (isBeast) {
-                send(participant, ChatColor.DARK_RED + "" + ChatColor.BOLD + finisherName
-                        + ChatColor.RED + " raided the weapon cache! Stop them before they strike back.");
+                participant.sendMessage(beastChat);
                 continue;
             }
 
-            send(participant, ChatColor.YELLOW + "Keep moving! "
-                    + ChatColor.AQUA + finisherName + ChatColor.YELLOW + " found the armory and is gearing up.");
+            participant.sendMessage(runnerChat);
         }
     }
 
@@ -250,8 +246,11 @@ final class MatchOutcomeService {
         }
 
         String finisherName = finisher.getName();
-        String title = ChatColor.GOLD + "" + ChatColor.BOLD + "Parkour Complete!";
-        String subtitle = ChatColor.AQUA + finisherName + ChatColor.YELLOW + " stocked up for the fight!";
+        String title = messages.render(MessageKey.FINISH_TITLE);
+        String subtitle = messages.render(MessageKey.FINISH_AGAIN_SUBTITLE, finisherName);
+        String selfChat = messages.chat(MessageKey.FINISH_AGAIN_SELF);
+        String beastChat = messages.chat(MessageKey.FINISH_AGAIN_BEAST, finisherName);
+        String runnerChat = messages.chat(MessageKey.FINISH_AGAIN_RUNNERS, finisherName);
 
         for (Player participant : participants) {
             boolean isFinisher = participant.getUniqueId().equals(finisher.getUniqueId());
@@ -260,30 +259,28 @@ final class MatchOutcomeService {
             if (isFinisher) {
                 participant.sendTitle(title, subtitle, 10, 60, 10);
                 participant.playSound(participant.getLocation(), Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.0f);
-                send(participant, ChatColor.GOLD + "" + ChatColor.BOLD + "Locked and loaded! "
-                        + ChatColor.RESET + ChatColor.GOLD + "Help slay the Beast.");
+                participant.sendMessage(selfChat);
                 playerSupport.applyFireResistance(participant);
                 playerSupport.scheduleRunnerReward(participant);
                 continue;
             }
 
             if (isBeast) {
-                send(participant, ChatColor.DARK_RED + "" + ChatColor.BOLD + finisherName
-                        + ChatColor.RED + " armed up as well. Keep the pressure on!");
+                participant.sendMessage(beastChat);
                 continue;
             }
 
-            send(participant, ChatColor.YELLOW + finisherName + " has stocked the armory. Reinforcements are coming!");
+            participant.sendMessage(runnerChat);
         }
     }
 
     private void announceRunnerVictory(ActiveArena activeArena,
                                        List<Player> participants,
                                        boolean finalPhase) {
-        String title = ChatColor.GREEN + "" + ChatColor.BOLD + "Runner Victory!";
-        String subtitle = finalPhase
-                ? ChatColor.AQUA + "The Beast has been defeated."
-                : ChatColor.AQUA + "The Beast never made it out.";
+        String title = messages.render(MessageKey.RUNNER_VICTORY_TITLE);
+        String subtitle = messages.render(finalPhase
+                ? MessageKey.RUNNER_VICTORY_DEFEATED
+                : MessageKey.RUNNER_VICTORY_ESCAPED);
 
         for (Player participant : participants) {
             boolean isRunner = activeArena.isRunner(participant.getUniqueId());
@@ -304,20 +301,20 @@ final class MatchOutcomeService {
     private void announceRunnerElimination(ActiveArena activeArena,
                                            Player eliminated,
                                            List<Player> participants) {
-        String eliminatedName = eliminated != null ? eliminated.getName() : "A runner";
+        String eliminatedName = eliminated != null ? eliminated.getName() : messages.render(MessageKey.ELIMINATED_UNKNOWN);
         int remaining = activeArena.getRunnerCount();
         String remainingText;
         if (remaining <= 0) {
-            remainingText = "No runners remain.";
+            remainingText = messages.render(MessageKey.REMAINING_NONE);
         } else if (remaining == 1) {
-            remainingText = "1 runner remains.";
+            remainingText = messages.render(MessageKey.REMAINING_ONE);
         } else {
-            remainingText = remaining + " runners remain.";
+            remainingText = messages.render(MessageKey.REMAINING_MANY, remaining);
         }
 
+        String announcement = messages.chat(MessageKey.ELIMINATED, eliminatedName, remainingText);
         for (Player participant : participants) {
-            send(participant, ChatColor.RED + eliminatedName + ChatColor.GRAY + " has been eliminated. "
-                    + ChatColor.GOLD + remainingText);
+            participant.sendMessage(announcement);
         }
     }
 
@@ -357,10 +354,4 @@ final class MatchOutcomeService {
             action.run();
         }
     }
-
-    private void send(Player player, String message) {
-        if (player != null) {
-            player.sendMessage(prefix + message);
-        }
-    }
 }
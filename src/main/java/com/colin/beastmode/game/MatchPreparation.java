@@ -0,0 +1,54 @@
+package com.colin.beastmode.game;
+
+/**
+ * Progress of one arena's match preparation pipeline, from the start of the selection countdown to the first
+ * teleport after the wheel stops.
+ */
+final class MatchPreparation {
+
+    private ArenaTimer timer;
+    private int nextStep;
+    private boolean spawnsValid = true;
+    private long wheelStoppedNanos;
+    private boolean teleportRecorded;
+
+    ArenaTimer getTimer() {
+        return timer;
+    }
+
+    void setTimer(ArenaTimer timer) {
+        this.timer = timer;
+    }
+
+    int getNextStep() {
+        return nextStep;
+    }
+
+    void advance() {
+        nextStep++;
+    }
+
+    boolean isSpawnsValid() {
+        return spawnsValid;
+    }
+
+    void setSpawnsValid(boolean spawnsValid) {
+        this.spawnsValid = spawnsValid;
+    }
+
+    long getWheelStoppedNanos() {
+        return wheelStoppedNanos;
+    }
+
+    void setWheelStoppedNanos(long wheelStoppedNanos) {
+        this.wheelStoppedNanos = wheelStoppedNanos;
+    }
+
+    boolean isTeleportRecorded() {
+        return teleportRecorded;
+    }
+
+    void setTeleportRecorded(boolean teleportRecorded) {
+        this.teleportRecorded = teleportRecorded;
+    }
+}
@@ -0,0 +1,147 @@
+package com.colin.beastmode.game;
+
+import com.colin.beastmode.model.ArenaDefinition;
+
+import java.util.Objects;
+
+/**
+ * Runs the expensive parts of match setup while the selection countdown is still ticking, one step per arena
+ * tick: spawn validation, chunk warming and wall snapshots. When the wheel stops only role assignment and the
+ * scheduled teleports remain; anything the countdown did not reach is finished synchronously then.
+ * Loadout kits need no step here since they are compiled when the config is loaded.
+ */
+final class MatchPreparationService {
+
+    private static final int STEP_COUNT = 4;
+
+    private final ArenaBarrierService barrierService;
+    private final ArenaChunkWarmer chunkWarmer;
+    private final MatchSetupService matchSetup;
+    private long finalizations;
+    private long lastFinalizeNanos;
+    private long maxFinalizeNanos;
+    private long lastTeleportLatencyNanos;
+    private long maxTeleportLatencyNanos;
+    private long stepsFinishedLate;
+
+    MatchPreparationService(ArenaBarrierService barrierService,
+                            ArenaChunkWarmer chunkWarmer,
+                            MatchSetupService matchSetup) {
+        this.barrierService = Objects.requireNonNull(barrierService, "barrierService");
+        this.chunkWarmer = Objects.requireNonNull(chunkWarmer, "chunkWarmer");
+        this.matchSetup = Objects.requireNonNull(matchSetup, "matchSetup");
+    }
+
+    /**
+     * Starts the pipeline for {@code activeArena} unless one is already running or done; {@code onInvalid} runs
+     * if the arena turns out to be unplayable.
+     */
+    void begin(ActiveArena activeArena, Runnable onInvalid) {
+        if (activeArena.getPreparation() != null) {
+            return;
+        }
+        MatchPreparation preparation = new MatchPreparation();
+        activeArena.setPreparation(preparation);
+        preparation.setTimer(activeArena.getClock().runRepeating(1L, 1L, timer -> {
+            runStep(activeArena, preparation);
+            if (!preparation.isSpawnsValid()) {
+                timer.cancel();
+                onInvalid.run();
+            } else if (preparation.getNextStep() >= STEP_COUNT) {
+                timer.cancel();
+            }
+        }));
+    }
+
+    /**
+     * Called when the wheel stops: finishes any remaining steps and returns whether the arena can start.
+     */
+    boolean complete(ActiveArena activeArena) {
+        MatchPreparation preparation = activeArena.getPreparation();
+        if (preparation == null) {
+            preparation = new MatchPreparation();
+            activeArena.setPreparation(preparation);
+        }
+        preparation.setWheelStoppedNanos(System.nanoTime());
+        if (preparation.getTimer() != null) {
+            preparation.getTimer().cancel();
+        }
+        while (preparation.isSpawnsValid() && preparation.getNextStep() < STEP_COUNT) {
+            stepsFinishedLate++;
+            runStep(activeArena, preparation);
+        }
+        return preparation.isSpawnsValid();
+    }
+
+    void recordFinalize(long elapsedNanos) {
+        finalizations++;
+        lastFinalizeNanos = elapsedNanos;
+        maxFinalizeNanos = Math.max(maxFinalizeNanos, elapsedNanos);
+    }
+
+    /**
+     * Records the wheel-stop to first-teleport latency once per match.
+     */
+    void recordTeleport(ActiveArena activeArena) {
+        MatchPreparation preparation = activeArena.getPreparation();
+        if (preparation == null || preparation.isTeleportRecorded() || preparation.getWheelStoppedNanos() == 0L) {
+            return;
+        }
+        preparation.setTeleportRecorded(true);
+        long latency = System.nanoTime() - preparation.getWheelStoppedNanos();
+        lastTeleportLatencyNanos = latency;
+        maxTeleportLatencyNanos = Math.max(maxTeleportLatencyNanos, latency);
+    }
+
+    long finalizations() {
+        return finalizations;
+    }
+
+    double lastFinalizeMillis() {
+        return lastFinalizeNanos / 1_000_000.0D;
+    }
+
+    double maxFinalizeMillis() {
+        return maxFinalizeNanos / 1_000_000.0D;
+    }
+
+    double lastTeleportLatencyMillis() {
+        return lastTeleportLatencyNanos / 1_000_000.0D;
+    }
+
+    double maxTeleportLatencyMillis() {
+        return maxTeleportLatencyNanos / 1_000_000.0D;
+    }
+
+    long stepsFinishedLate() {
+        return stepsFinishedLate;
+    }
+
+    private void runStep(ActiveArena activeArena, MatchPreparation preparation) {
+        ArenaDefinition arena = activeArena.getArena();
+        switch (preparation.getNextStep()) {
+            case 0:
+                preparation.setSpawnsValid(matchSetup.validateSpawns(activeArena.getRoster(), arena,
+                        activeArena.getMode()));
+                break;
+            case 1:
+                chunkWarmer.warm(activeArena);
+                break;
+            case 2:
+                if (arena.getRunnerWall() != null && !activeArena.isRunnerWallOpened()
+                        && activeArena.getRunnerWallSnapshot() == null) {
+                    activeArena.setRunnerWallSnapshot(barrierService.capture(arena.getRunnerWall()));
+                }
+                break;
+            case 3:
+                if (arena.getBeastWall() != null && !activeArena.isBeastWallOpened()
+                        && activeArena.getBeastWallSnapshot() == null) {
+                    activeArena.setBeastWallSnapshot(barrierService.capture(arena.getBeastWall()));
+                }
+                break;
+            default:
+                return;
+        }
+        preparation.advance();
+    }
+}
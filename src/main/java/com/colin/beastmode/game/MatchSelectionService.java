@@ -16,6 +16,7 @@ final class MatchSelectionService {
     private final MatchSetupService matchSetup;
     private final ArenaMessagingService messaging;
     private final MatchFlowService matchFlow;
+    private final MatchPreparationService preparation;
     private final ArenaWaitingService waitingService;
     private final ArenaLifecycleService lifecycle;
     private final Consumer<ActiveArena> statusNotifier;
@@ -25,6 +26,7 @@ final class MatchSelectionService {
                           MatchSetupService matchSetup,
                           ArenaMessagingService messaging,
                           MatchFlowService matchFlow,
+                          MatchPreparationService preparation,
                           ArenaWaitingService waitingService,
                           ArenaLifecycleService lifecycle,
                           Consumer<ActiveArena> statusNotifier) {
@@ -33,6 +35,7 @@ final class MatchSelectionService {
         this.matchSetup = matchSetup;
         this.messaging = messaging;
         this.matchFlow = matchFlow;
+        this.preparation = preparation;
         this.waitingService = waitingService;
         this.lifecycle = lifecycle;
         this.statusNotifier = statusNotifier;
@@ -49,7 +52,7 @@ final class MatchSelectionService {
         GameModeType mode = activeArena.getMode();
         int required = waitingService.getRequiredParticipants(arena, mode);
         if (participants.size() < required) {
-            activeArena.setSelecting(false);
+            activeArena.transitionTo(ArenaPhase.WAITING);
             statusNotifier.accept(activeArena);
             waitingService.notifyWaitingForPlayers(activeArena, participants);
             return;
@@ -60,37 +63,40 @@ final class MatchSelectionService {
             return;
         }
 
-        if (activeArena.isSelecting()) {
+        if (!activeArena.transitionTo(ArenaPhase.SELECTING)) {
             return;
         }
 
-        activeArena.setSelecting(true);
         statusNotifier.accept(activeArena);
+        preparation.begin(activeArena, () -> lifecycle.cleanupArena(key, activeArena));
         countdowns.startSelectionCountdown(activeArena, 10, 5,
                 () -> lifecycle.collectParticipants(activeArena),
                 () -> waitingService.getRequiredParticipants(activeArena.getArena(), activeArena.getMode()),
                 players -> {
-                    activeArena.setSelecting(false);
+                    activeArena.transitionTo(ArenaPhase.WAITING);
                     statusNotifier.accept(activeArena);
                     waitingService.notifyWaitingForPlayers(activeArena, players);
                 },
-                messaging::selectionCountdown,
+                (players, seconds) -> messaging.selectionCountdown(activeArena, players, seconds),
                 () -> startWheelSelection(key, activeArena, 5),
                 () -> lifecycle.cleanupArena(key, activeArena));
     }
 
     private void startWheelSelection(String key, ActiveArena activeArena, int durationSeconds) {
+        if (!activeArena.transitionTo(ArenaPhase.WHEEL)) {
+            return;
+        }
         countdowns.startWheelSelection(activeArena, durationSeconds,
                 () -> lifecycle.collectParticipants(activeArena),
                 () -> waitingService.getRequiredParticipants(activeArena.getArena(), activeArena.getMode()),
                 players -> {
-                    activeArena.setSelecting(false);
+                    activeArena.transitionTo(ArenaPhase.WAITING);
                     statusNotifier.accept(activeArena);
                     waitingService.notifyWaitingForPlayers(activeArena, players);
                 },
                 participants -> roleSelection.selectBeast(activeArena, participants, null),
-                messaging::wheelHighlight,
-                messaging::wheelFinal,
+                (players, highlighted) -> messaging.wheelHighlight(activeArena, players, highlighted),
+                (players, chosen) -> messaging.wheelFinal(activeArena, players, chosen),
                 (participants, chosen) -> finalizeSelection(key, activeArena, participants, chosen),
                 () -> lifecycle.cleanupArena(key, activeArena));
     }
@@ -99,6 +105,7 @@ final class MatchSelectionService {
                                    ActiveArena activeArena,
                                    List<Player> participants,
                                    Player selectedBeast) {
+        long started = System.nanoTime();
         List<Player> current = matchSetup.resolveParticipants(activeArena, participants);
         if (current.isEmpty()) {
             lifecycle.cleanupArena(key, activeArena);
@@ -106,11 +113,15 @@ final class MatchSelectionService {
         }
 
         ArenaDefinition arena = activeArena.getArena();
-        if (!matchSetup.validateSpawns(current, arena, activeArena.getMode())) {
+        if (!preparation.complete(activeArena)) {
             lifecycle.cleanupArena(key, activeArena);
             return;
         }
 
+        if (!activeArena.transitionTo(ArenaPhase.PREPARING)) {
+            return;
+        }
+
         Player beast = roleSelection.selectBeast(activeArena, current, selectedBeast);
         matchSetup.assignRoles(activeArena, current, beast);
         statusNotifier.accept(activeArena);
@@ -119,9 +130,10 @@ final class MatchSelectionService {
                 () -> lifecycle.collectParticipants(activeArena),
                 restoreWalls -> lifecycle.cleanupArena(key, activeArena, restoreWalls),
                 () -> {
-                    activeArena.setMatchActive(true);
+                    activeArena.transitionTo(ArenaPhase.ACTIVE);
                     statusNotifier.accept(activeArena);
                 });
+        preparation.recordFinalize(System.nanoTime() - started);
     }
 
     private void startTimeTrial(String key,
@@ -139,14 +151,23 @@ final class MatchSelectionService {
             return;
         }
 
+        boolean alreadyPreparing = activeArena.getPhase() == ArenaPhase.PREPARING;
+        if (!alreadyPreparing && !activeArena.transitionTo(ArenaPhase.PREPARING)) {
+            return;
+        }
+
         matchSetup.assignRoles(activeArena, current, null);
         statusNotifier.accept(activeArena);
+        if (alreadyPreparing) {
+            // Late joiners ride along with the start that is already scheduled.
+            return;
+        }
         messaging.announceBeast(current, null);
         matchFlow.scheduleMatchStart(activeArena, arena, null,
                 () -> lifecycle.collectParticipants(activeArena),
                 restoreWalls -> lifecycle.cleanupArena(key, activeArena, restoreWalls),
                 () -> {
-                    activeArena.setMatchActive(true);
+                    activeArena.transitionTo(ArenaPhase.ACTIVE);
                     statusNotifier.accept(activeArena);
                 });
     }
@@ -2,7 +2,6 @@ package com.colin.beastmode.game;
 
 import org.bukkit.entity.Player;
 import com.colin.beastmode.model.ArenaDefinition;
-import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 
 import java.util.HashSet;
@@ -27,10 +26,7 @@ final class MatchSetupService {
         if (activeArena == null) {
             return List.of();
         }
-        return activeArena.getPlayerIds().stream()
-                .map(Bukkit::getPlayer)
-                .filter(player -> player != null && player.isOnline())
-                .toList();
+        return activeArena.getRoster();
     }
 
     boolean validateSpawns(List<Player> players, ArenaDefinition arena, GameModeType mode) {
@@ -68,7 +64,6 @@ final class MatchSetupService {
             return;
         }
 
-        activeArena.setSelecting(false);
         activeArena.setBeastId(beast != null ? beast.getUniqueId() : null);
 
         Set<UUID> runners = new HashSet<>();
@@ -0,0 +1,430 @@
+package com.colin.beastmode.game;
+
+import com.colin.beastmode.model.ArenaDefinition;
+import com.colin.beastmode.storage.ArenaStorage;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Global hunt queue behind {@code /beastmode play}. Every joinable arena instance, plus a not-yet-opened one where
+ * instancing allows it, sits in a bucket keyed by how many players it still needs before its countdown can start,
+ * so the instance that will start soonest is found in O(log n). Buckets are refreshed from arena status
+ * notifications. Players that fit nowhere wait in FIFO order, bucketed by role preference, and are placed as soon
+ * as an arena opens up; players preferring the Beast are steered to instances where nobody else asked for it.
+ * A player the chosen arena turns away, or whose arena world fails to load, goes back to their original place in
+ * the queue; a managed arena that failed that way is left out until its definition is re-read, so queue drains do
+ * not keep restarting the same load. Main-thread only.
+ */
+final class MatchmakingService {
+
+    private static final String UNOPENED_SUFFIX = "#next";
+
+    private final ArenaStorage arenaStorage;
+    private final ActiveArenaDirectory directory;
+    private final ArenaWaitingService waitingService;
+    private final ArenaInstanceService instances;
+    private final ArenaWorldService worlds;
+    private final ArenaQueueService queueService;
+    private final String prefix;
+    private final Map<String, Candidate> candidates = new HashMap<>();
+    private final Map<String, List<Candidate>> candidatesByArena = new HashMap<>();
+    private final Buckets all = new Buckets();
+    private final Buckets beastOpen = new Buckets();
+    private final Map<UUID, Ticket> waiting = new HashMap<>();
+    private final Map<UUID, Pending> loading = new HashMap<>();
+    private final Map<String, ArenaDefinition> backedOff = new HashMap<>();
+    private final Map<GameManager.RolePreference, ArrayDeque<Ticket>> waitingByPreference =
+            new EnumMap<>(GameManager.RolePreference.class);
+    private long nextTicket;
+    private long placed;
+    private long placedFromQueue;
+    private long placementNanos;
+
+    MatchmakingService(ArenaStorage arenaStorage,
+                       ActiveArenaDirectory directory,
+                       ArenaWaitingService waitingService,
+                       ArenaInstanceService instances,
+                       ArenaWorldService worlds,
+                       ArenaQueueService queueService,
+                       String prefix) {
+        this.arenaStorage = Objects.requireNonNull(arenaStorage, "arenaStorage");
+        this.directory = Objects.requireNonNull(directory, "directory");
+        this.waitingService = Objects.requireNonNull(waitingService, "waitingService");
+        this.instances = Objects.requireNonNull(instances, "instances");
+        this.worlds = Objects.requireNonNull(worlds, "worlds");
+        this.queueService = Objects.requireNonNull(queueService, "queueService");
+        this.prefix = prefix;
+        for (GameManager.RolePreference preference : GameManager.RolePreference.values()) {
+            waitingByPreference.put(preference, new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Places {@code player} in the hunt that will start soonest, or holds them in the global queue when every
+     * arena is busy.
+     */
+    void play(Player player, GameManager.RolePreference preference) {
+        if (player == null) {
+            return;
+        }
+        UUID playerId = player.getUniqueId();
+        if (directory.findArenaByPlayer(playerId) != null) {
+            send(player, ChatColor.RED + "You are already queued for an arena.");
+            return;
+        }
+        if (waiting.containsKey(playerId) || loading.containsKey(playerId)) {
+            send(player, ChatColor.YELLOW + "You are already searching for a hunt. Use /beastmode play leave to stop.");
+            return;
+        }
+        GameManager.RolePreference desired = preference != null ? preference : GameManager.RolePreference.ANY;
+        if (candidates.isEmpty()) {
+            rebuild();
+        }
+        Ticket ticket = new Ticket(playerId, desired, nextTicket++);
+        if (place(player, ticket, false)) {
+            return;
+        }
+        requeue(ticket);
+        send(player, ChatColor.YELLOW + "Every arena is busy. You will join the next hunt that opens"
+                + ChatColor.GRAY + " (position " + waiting.size() + ")" + ChatColor.YELLOW + ".");
+    }
+
+    /**
+     * Removes {@code player} from the global queue and cancels a join still waiting on its arena world; returns
+     * false when they were not searching.
+     */
+    boolean leave(Player player) {
+        if (player == null) {
+            return false;
+        }
+        boolean queued = waiting.remove(player.getUniqueId()) != null;
+        return loading.remove(player.getUniqueId()) != null || queued;
+    }
+
+    /**
+     * Status listener: re-buckets the instances of {@code arenaName} and places waiting players if one opened up.
+     */
+    void onStatusChanged(String arenaName) {
+        if (arenaName == null || arenaName.isBlank()) {
+            return;
+        }
+        refresh(arenaName.trim().toLowerCase(Locale.ENGLISH));
+        drain();
+    }
+
+    /**
+     * Rebuilds every bucket from the stored arenas, e.g. after the configuration was reloaded.
+     */
+    void rebuild() {
+        for (String baseKey : new ArrayList<>(candidatesByArena.keySet())) {
+            refresh(baseKey);
+        }
+        for (ArenaDefinition arena : arenaStorage.getArenas()) {
+            refresh(arena.getName().toLowerCase(Locale.ENGLISH));
+        }
+        drain();
+    }
+
+    int waitingPlayers() {
+        return waiting.size();
+    }
+
+    int candidateCount() {
+        return candidates.size();
+    }
+
+    long placedPlayers() {
+        return placed;
+    }
+
+    long placedFromQueue() {
+        return placedFromQueue;
+    }
+
+    double averagePlacementMillis() {
+        return placed == 0 ? 0.0D : placementNanos / 1_000_000.0D / placed;
+    }
+
+    /**
+     * Sends the player of {@code ticket} to the best candidate; returns false when there is none or the join was
+     * rejected. A join waiting on a world load holds the ticket until the load reports back.
+     */
+    private boolean place(Player player, Ticket ticket, boolean fromQueue) {
+        long started = System.nanoTime();
+        Candidate target = best(ticket.preference);
+        if (target == null) {
+            return false;
+        }
+        ArenaQueueService.JoinResult result = queueService.join(player, target.arenaName, GameModeType.HUNT,
+                ticket.preference, target.instanceKey, outcome -> onDeferredJoin(ticket, target.baseKey, outcome),
+                () -> isLoading(ticket));
+        if (result == ArenaQueueService.JoinResult.REJECTED) {
+            backOffIfStalled(target.baseKey);
+        }
+        refresh(target.baseKey);
+        long elapsed = System.nanoTime() - started;
+        if (result == ArenaQueueService.JoinResult.DEFERRED) {
+            loading.put(ticket.playerId, new Pending(ticket, fromQueue, elapsed));
+            return true;
+        }
+        if (result != ArenaQueueService.JoinResult.JOINED) {
+            return false;
+        }
+        recordPlacement(fromQueue, elapsed);
+        return true;
+    }
+
+    private boolean isLoading(Ticket ticket) {
+        Pending pending = loading.get(ticket.playerId);
+        return pending != null && pending.ticket == ticket;
+    }
+
+    private void onDeferredJoin(Ticket ticket, String baseKey, ArenaQueueService.JoinResult outcome) {
+        if (!isLoading(ticket)) {
+            return;
+        }
+        Pending pending = loading.remove(ticket.playerId);
+        if (outcome == ArenaQueueService.JoinResult.JOINED) {
+            recordPlacement(pending.fromQueue, pending.nanos);
+            return;
+        }
+        backOffIfStalled(baseKey);
+        refresh(baseKey);
+        Player player = Bukkit.getPlayer(ticket.playerId);
+        if (player != null && player.isOnline() && directory.findArenaByPlayer(ticket.playerId) == null) {
+            requeue(ticket);
+        }
+    }
+
+    /**
+     * Leaves a managed arena out of the buckets while its world failed to load or it is still unplayable once
+     * loaded; the next re-read of its definition, e.g. after an edit or once its world unloads, lets it back in.
+     */
+    private void backOffIfStalled(String baseKey) {
+        ArenaDefinition arena = arenaStorage.getArena(baseKey);
+        if (arena != null && !isPlayable(arena) && worlds.isSettled(baseKey)) {
+            backedOff.put(baseKey, arena);
+        }
+    }
+
+    private void recordPlacement(boolean fromQueue, long nanos) {
+        placed++;
+        placementNanos += nanos;
+        if (fromQueue) {
+            placedFromQueue++;
+        }
+    }
+
+    private Candidate best(GameManager.RolePreference preference) {
+        String key = preference == GameManager.RolePreference.BEAST ? beastOpen.first() : null;
+        if (key == null) {
+            key = all.first();
+        }
+        return key != null ? candidates.get(key) : null;
+    }
+
+    private void drain() {
+        while (!waiting.isEmpty()) {
+            Ticket ticket = oldestTicket();
+            if (ticket == null) {
+                return;
+            }
+            Player player = Bukkit.getPlayer(ticket.playerId);
+            if (player == null || !player.isOnline() || directory.findArenaByPlayer(ticket.playerId) != null) {
+                dequeue(ticket);
+                continue;
+            }
+            if (best(ticket.preference) == null) {
+                return;
+            }
+            dequeue(ticket);
+            if (!place(player, ticket, true)) {
+                // Put the ticket back at the head and wait for the next change instead of retrying the same arena.
+                requeue(ticket);
+                return;
+            }
+        }
+    }
+
+    /**
+     * The longest-waiting live ticket across the preference buckets; tickets of players who left are skipped.
+     */
+    private Ticket oldestTicket() {
+        Ticket oldest = null;
+        for (ArrayDeque<Ticket> queue : waitingByPreference.values()) {
+            while (!queue.isEmpty() && waiting.get(queue.peekFirst().playerId) != queue.peekFirst()) {
+                queue.pollFirst();
+            }
+            Ticket head = queue.peekFirst();
+            if (head != null && (oldest == null || head.sequence < oldest.sequence)) {
+                oldest = head;
+            }
+        }
+        return oldest;
+    }
+
+    private void dequeue(Ticket ticket) {
+        waiting.remove(ticket.playerId, ticket);
+        ArrayDeque<Ticket> queue = waitingByPreference.get(ticket.preference);
+        if (queue.peekFirst() == ticket) {
+            queue.pollFirst();
+        }
+    }
+
+    /**
+     * Puts {@code ticket} back into the queue at the position its sequence number gives it.
+     */
+    private void requeue(Ticket ticket) {
+        waiting.put(ticket.playerId, ticket);
+        ArrayDeque<Ticket> queue = waitingByPreference.get(ticket.preference);
+        if (queue.isEmpty() || queue.peekLast().sequence < ticket.sequence) {
+            queue.addLast(ticket);
+            return;
+        }
+        if (queue.peekFirst().sequence > ticket.sequence) {
+            queue.addFirst(ticket);
+            return;
+        }
+        List<Ticket> ordered = new ArrayList<>(queue);
+        queue.clear();
+        boolean inserted = false;
+        for (Ticket queued : ordered) {
+            if (!inserted && queued.sequence > ticket.sequence) {
+                queue.addLast(ticket);
+                inserted = true;
+            }
+            queue.addLast(queued);
+        }
+    }
+
+    private void refresh(String baseKey) {
+        List<Candidate> previous = candidatesByArena.remove(baseKey);
+        if (previous != null) {
+            for (Candidate candidate : previous) {
+                candidates.remove(candidate.key);
+                all.remove(candidate.key, candidate.missing);
+                if (candidate.beastOpen) {
+                    beastOpen.remove(candidate.key, candidate.missing);
+                }
+            }
+        }
+
+        ArenaDefinition arena = arenaStorage.getArena(baseKey);
+        if (arena == null || arena.isTimeTrial()) {
+            backedOff.remove(baseKey);
+            return;
+        }
+        ArenaDefinition stalled = backedOff.get(baseKey);
+        if (stalled == arena) {
+            return;
+        }
+        if (stalled != null) {
+            backedOff.remove(baseKey);
+        }
+        // An arena whose world is unloaded looks incomplete until the join loads it again.
+        if (!isPlayable(arena) && !worlds.isManaged(baseKey)) {
+            return;
+        }
+
+        int required = waitingService.getRequiredParticipants(arena, GameModeType.HUNT);
+        int limit = waitingService.getQueueLimit(arena, GameModeType.HUNT);
+        List<ActiveArena> open = directory.instancesOf(baseKey);
+        List<Candidate> current = new ArrayList<>();
+        boolean emptyInstance = false;
+        for (ActiveArena activeArena : open) {
+            if (!ArenaInstanceService.accepts(activeArena, GameModeType.HUNT, limit)) {
+                continue;
+            }
+            int players = activeArena.getPlayerIds().size();
+            emptyInstance |= players == 0;
+            current.add(new Candidate(activeArena.getKey(), baseKey, arena.getName(), activeArena.getKey(),
+                    Math.max(0, required - players), !hasBeastPreference(activeArena)));
+        }
+        if (!emptyInstance && open.size() < instances.instanceLimit(baseKey)) {
+            current.add(new Candidate(baseKey + UNOPENED_SUFFIX, baseKey, arena.getName(), null, required, true));
+        }
+        if (current.isEmpty()) {
+            return;
+        }
+        for (Candidate candidate : current) {
+            candidates.put(candidate.key, candidate);
+            all.add(candidate.key, candidate.missing);
+            if (candidate.beastOpen) {
+                beastOpen.add(candidate.key, candidate.missing);
+            }
+        }
+        candidatesByArena.put(baseKey, current);
+    }
+
+    private static boolean isPlayable(ArenaDefinition arena) {
+        return arena.isComplete() && arena.getRunnerSpawn() != null && arena.getBeastSpawn() != null;
+    }
+
+    private static boolean hasBeastPreference(ActiveArena activeArena) {
+        for (UUID playerId : activeArena.getPlayerIds()) {
+            if (activeArena.getPreference(playerId) == GameManager.RolePreference.BEAST) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void send(Player player, String message) {
+        if (player != null) {
+            player.sendMessage(prefix + message);
+        }
+    }
+
+    /**
+     * A joinable instance; {@code instanceKey} is null for one that has not been opened yet.
+     */
+    private record Candidate(String key, String baseKey, String arenaName, String instanceKey, int missing,
+                             boolean beastOpen) {
+    }
+
+    private record Ticket(UUID playerId, GameManager.RolePreference preference, long sequence) {
+    }
+
+    /**
+     * A ticket whose join waits for its arena world; {@code nanos} is the placement time spent so far.
+     */
+    private record Pending(Ticket ticket, boolean fromQueue, long nanos) {
+    }
+
+    /**
+     * Candidate keys grouped by how many players they still need; within a bucket the earliest added wins.
+     */
+    private static final class Buckets {
+
+        private final TreeMap<Integer, LinkedHashSet<String>> byMissing = new TreeMap<>();
+
+        private void add(String key, int missing) {
+            byMissing.computeIfAbsent(missing, ignored -> new LinkedHashSet<>()).add(key);
+        }
+
+        private void remove(String key, int missing) {
+            LinkedHashSet<String> bucket = byMissing.get(missing);
+            if (bucket != null && bucket.remove(key) && bucket.isEmpty()) {
+                byMissing.remove(missing);
+            }
+        }
+
+        private String first() {
+            Map.Entry<Integer, LinkedHashSet<String>> entry = byMissing.firstEntry();
+            return entry != null ? entry.getValue().iterator().next() : null;
+        }
+    }
+}
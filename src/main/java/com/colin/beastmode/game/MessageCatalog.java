@@ -0,0 +1,55 @@
+package com.colin.beastmode.game;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Match messages compiled from the {@code messages} config section, falling back to built-in defaults.
+ */
+final class MessageCatalog {
+
+    private final String prefix;
+    private final Map<MessageKey, MessageTemplate> templates = new EnumMap<>(MessageKey.class);
+
+    private MessageCatalog(String prefix) {
+        this.prefix = Objects.requireNonNull(prefix, "prefix");
+    }
+
+    static MessageCatalog load(ConfigurationSection section, String prefix) {
+        MessageCatalog catalog = new MessageCatalog(prefix);
+        catalog.reload(section);
+        return catalog;
+    }
+
+    /**
+     * Recompiles every template from {@code section}; the prefix is kept.
+     */
+    void reload(ConfigurationSection section) {
+        for (MessageKey key : MessageKey.values()) {
+            String raw = section != null ? section.getString(key.getPath(), key.getDefaultText()) : key.getDefaultText();
+            templates.put(key, MessageTemplate.compile(raw, key.getSlots()));
+        }
+    }
+
+    String getPrefix() {
+        return prefix;
+    }
+
+    MessageTemplate template(MessageKey key) {
+        return templates.get(key);
+    }
+
+    String render(MessageKey key, Object... values) {
+        return templates.get(key).render(values);
+    }
+
+    /**
+     * Renders a chat line with the configured prefix.
+     */
+    String chat(MessageKey key, Object... values) {
+        return prefix + templates.get(key).render(values);
+    }
+}
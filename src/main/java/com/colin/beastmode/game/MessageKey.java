@@ -0,0 +1,103 @@
+package com.colin.beastmode.game;
+
+import java.util.List;
+
+/**
+ * Every configurable match message, with its path under {@code messages}, default text and slot names.
+ */
+enum MessageKey {
+    SELECTION_COUNTDOWN_BAR("countdown.selection.bar", "&bGame starts in &6&l{seconds}s", "seconds"),
+    TELEPORT_COUNTDOWN_BAR("countdown.teleport.bar", "&3&lTeleporting in &6&l{seconds}", "seconds"),
+    TELEPORT_NOW_TITLE("countdown.teleport.now-title", "&a&l0"),
+    TELEPORT_NOW_SUBTITLE("countdown.teleport.now-subtitle", "&b&lBrace yourself!"),
+    RUNNER_COUNTDOWN_BAR("countdown.runner.bar", "&3&lGet ready! &6&l{seconds}...", "seconds"),
+    BEAST_COUNTDOWN_BAR("countdown.beast.bar", "&6&l{beast}&c is released in &6&l{seconds}...", "beast", "seconds"),
+
+    WHEEL_HIGHLIGHT_BAR("wheel.highlight.bar", "&d&lWheel of Fate &8| &b&l{player}", "player"),
+    WHEEL_FINAL_TITLE("wheel.final.title", "&4&l{player}", "player"),
+    WHEEL_FINAL_SUBTITLE("wheel.final.subtitle", "&6&lis the Beast!"),
+
+    READY_TITLE("start.ready.title", "&d&lREADY?"),
+    READY_SUBTITLE("start.ready.subtitle", "&7&lHold the line."),
+    GO_TITLE("start.go.title", "&a&lGO!"),
+    GO_SUBTITLE("start.go.subtitle", "&f&lRun for your life!"),
+    RELEASE_TITLE("start.release.title", "&4&l{beast}", "beast"),
+    RELEASE_SUBTITLE("start.release.subtitle", "&6&lhas been unleashed!"),
+
+    BEAST_SELF_TITLE("beast.self.title", "&4&lYou are the Beast!"),
+    BEAST_SELF_SUBTITLE("beast.self.subtitle", "&6&lTrack them down!"),
+    BEAST_TITLE("beast.others.title", "&4&l{beast}", "beast"),
+    BEAST_SUBTITLE("beast.others.subtitle", "&6&lis the Beast!"),
+    BEAST_CHAT("beast.chat", "&6&l{beast}&c&l is the Beast!", "beast"),
+
+    PRACTICE_TITLE("practice.title", "&a&lPractice Run"),
+    PRACTICE_SUBTITLE("practice.subtitle", "&e&lNo Beast this round."),
+    PRACTICE_CHAT("practice.chat", "&e&lPractice run!&r&e No Beast this time."),
+    PRACTICE_REMINDER("practice.reminder",
+            "&e&lPractice run active!&r&e Use /beastmode cancel <arena> when you are ready to reset the gates."),
+
+    FINISH_TITLE("finish.title", "&6&lParkour Complete!"),
+    FINISH_SUBTITLE("finish.first.subtitle", "&b{player}&e finished the parkour and is ready to slay the Beast!",
+            "player"),
+    FINISH_SELF("finish.first.self", "&6&l{player}&r&e finished the parkour and is ready to slay the Beast!",
+            "player"),
+    FINISH_BEAST("finish.first.beast", "&4&l{player}&c raided the weapon cache! Stop them before they strike back.",
+            "player"),
+    FINISH_RUNNERS("finish.first.runners", "&eKeep moving! &b{player}&e found the armory and is gearing up.",
+            "player"),
+    FINISH_AGAIN_SUBTITLE("finish.again.subtitle", "&b{player}&e stocked up for the fight!", "player"),
+    FINISH_AGAIN_SELF("finish.again.self", "&6&lLocked and loaded! &r&6Help slay the Beast."),
+    FINISH_AGAIN_BEAST("finish.again.beast", "&4&l{player}&c armed up as well. Keep the pressure on!", "player"),
+    FINISH_AGAIN_RUNNERS("finish.again.runners", "&e{player} has stocked the armory. Reinforcements are coming!",
+            "player"),
+
+    RUNNER_VICTORY_TITLE("victory.runners.title", "&a&lRunner Victory!"),
+    RUNNER_VICTORY_DEFEATED("victory.runners.defeated", "&bThe Beast has been defeated."),
+    RUNNER_VICTORY_ESCAPED("victory.runners.escaped", "&bThe Beast never made it out."),
+    BEAST_VICTORY_TITLE("victory.beast.title", "&4&lBeast Victory!"),
+    BEAST_VICTORY_SUBTITLE("victory.beast.subtitle", "&c{beast}&7 eliminated everyone.", "beast"),
+    BEAST_VICTORY_CHAT("victory.beast.chat", "&4&lThe Beast prevailed! &r&c{beast}&7 cleared the arena.", "beast"),
+
+    ELIMINATED("elimination.announce", "&c{player}&7 has been eliminated. &6{remaining}", "player", "remaining"),
+    ELIMINATED_UNKNOWN("elimination.unknown-player", "A runner"),
+    REMAINING_NONE("elimination.remaining-none", "No runners remain."),
+    REMAINING_ONE("elimination.remaining-one", "1 runner remains."),
+    REMAINING_MANY("elimination.remaining-many", "{count} runners remain.", "count"),
+
+    SIDEBAR_TITLE("sidebar.title", "&6&l{arena}", "arena"),
+    SIDEBAR_PHASE("sidebar.phase", "&7Phase: &f{phase}", "phase"),
+    SIDEBAR_TIME("sidebar.time", "&7Time: &f{time}", "time"),
+    SIDEBAR_RUNNERS("sidebar.runners", "&7Runners: &a{count}", "count"),
+    SIDEBAR_BEAST("sidebar.beast", "&7Beast: &c{beast}", "beast"),
+    SIDEBAR_TOP_HEADER("sidebar.top-header", "&6Top times"),
+    SIDEBAR_TOP_ENTRY("sidebar.top-entry", "&e#{rank} &f{player} &b{time}", "rank", "player", "time"),
+    SIDEBAR_TOP_EMPTY("sidebar.top-empty", "&7No times yet"),
+
+    TRIAL_FINISH_TITLE("time-trial.finish.title", "&a&lTime Trial Complete"),
+    TRIAL_FINISH_SUBTITLE("time-trial.finish.subtitle", "&b{time}", "time"),
+    TRIAL_FINISH_BROADCAST("time-trial.finish.broadcast", "&6{player}&e finished in &b{time}", "player", "time"),
+    TRIAL_FINISH_RANKED("time-trial.finish.broadcast-ranked", "&6{player}&e finished in &b{time}&e (&6#{rank}&e)",
+            "player", "time", "rank");
+
+    private final String path;
+    private final String defaultText;
+    private final List<String> slots;
+
+    MessageKey(String path, String defaultText, String... slots) {
+        this.path = path;
+        this.defaultText = defaultText;
+        this.slots = List.of(slots);
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    String getDefaultText() {
+        return defaultText;
+    }
+
+    List<String> getSlots() {
+        return slots;
+    }
+}
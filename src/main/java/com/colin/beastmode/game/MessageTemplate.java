@@ -0,0 +1,79 @@
+package com.colin.beastmode.game;
+
+import org.bukkit.ChatColor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message compiled once into literal segments and numbered slots; {@code &} colour codes are translated at
+ * compile time and {@code {slot}} markers are bound to the key's declared slot order.
+ */
+final class MessageTemplate {
+
+    private final String[] literals;
+    private final int[] slots;
+    private final int slotCount;
+    private final int literalLength;
+
+    private MessageTemplate(String[] literals, int[] slots, int slotCount) {
+        this.literals = literals;
+        this.slots = slots;
+        this.slotCount = slotCount;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compiles {@code raw} against {@code slotNames}; markers naming an undeclared slot are kept as text.
+     */
+    static MessageTemplate compile(String raw, List<String> slotNames) {
+        String text = ChatColor.translateAlternateColorCodes('&', raw != null ? raw : "");
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int index = 0;
+        while (index < text.length()) {
+            char c = text.charAt(index);
+            int close = c == '{' ? text.indexOf('}', index + 1) : -1;
+            int slot = close > index ? slotNames.indexOf(text.substring(index + 1, close)) : -1;
+            if (slot < 0) {
+                current.append(c);
+                index++;
+                continue;
+            }
+            literals.add(current.toString());
+            slots.add(slot);
+            current.setLength(0);
+            index = close + 1;
+        }
+        literals.add(current.toString());
+
+        int[] slotArray = new int[slots.size()];
+        for (int i = 0; i < slotArray.length; i++) {
+            slotArray[i] = slots.get(i);
+        }
+        return new MessageTemplate(literals.toArray(new String[0]), slotArray, slotNames.size());
+    }
+
+    /**
+     * Renders the template; {@code values} are given in the key's slot order and must match its slot count.
+     */
+    String render(Object... values) {
+        if (slots.length == 0) {
+            return literals[0];
+        }
+        if (values.length != slotCount) {
+            throw new IllegalArgumentException("Expected " + slotCount + " values but got " + values.length);
+        }
+        StringBuilder builder = new StringBuilder(literalLength + 16 * slots.length);
+        builder.append(literals[0]);
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(values[slots[i]]).append(literals[i + 1]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,74 @@
+package com.colin.beastmode.game;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.entity.Player;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * The effect types stripped on restore, restart and finish, resolved from the {@code negative-effects} config
+ * list into an identity set so clearing needs no key lookups.
+ */
+final class NegativeEffects {
+
+    static final List<String> DEFAULT_KEYS = List.of(
+            "slowness",
+            "mining_fatigue",
+            "instant_damage",
+            "poison",
+            "weakness",
+            "wither",
+            "blindness",
+            "nausea",
+            "hunger",
+            "levitation",
+            "bad_omen",
+            "unluck",
+            "darkness"
+    );
+
+    private final Logger logger;
+    private volatile Set<PotionEffectType> types = Set.of();
+
+    NegativeEffects(Logger logger, List<String> keys) {
+        this.logger = Objects.requireNonNull(logger, "logger");
+        reload(keys);
+    }
+
+    /**
+     * Re-resolves the effect types; an empty or missing list falls back to {@link #DEFAULT_KEYS}.
+     */
+    void reload(List<String> keys) {
+        Set<PotionEffectType> resolved = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String key : keys == null || keys.isEmpty() ? DEFAULT_KEYS : keys) {
+            PotionEffectType type = Registry.EFFECT.get(NamespacedKey.minecraft(key.toLowerCase(Locale.ROOT)));
+            if (type == null) {
+                logger.warning("Unknown effect '" + key + "' in negative-effects; ignoring it.");
+                continue;
+            }
+            resolved.add(type);
+        }
+        types = resolved;
+    }
+
+    /**
+     * Removes every negative effect from {@code player}; {@code getActivePotionEffects} is already a copy.
+     */
+    void clear(Player player) {
+        Set<PotionEffectType> current = types;
+        for (PotionEffect effect : player.getActivePotionEffects()) {
+            if (current.contains(effect.getType())) {
+                player.removePotionEffect(effect.getType());
+            }
+        }
+    }
+}
@@ -4,51 +4,25 @@ import com.colin.beastmode.Beastmode;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.NamespacedKey;
-import org.bukkit.Registry;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.inventory.meta.PotionMeta;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.potion.PotionType;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Locale;
-import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 final class PlayerSupportService {
 
-    private static final Set<String> NEGATIVE_EFFECT_KEYS = java.util.Set.of(
-            "slowness",
-            "slow",
-            "slow_digging",
-            "mining_fatigue",
-            "instant_damage",
-            "harm",
-            "poison",
-            "weakness",
-            "wither",
-            "blindness",
-            "confusion",
-            "nausea",
-            "hunger",
-            "levitation",
-            "bad_omen",
-            "unluck",
-            "darkness",
-            "fatal_poison"
-    );
-
     private final Beastmode plugin;
+    private final TaskRegistry tasks;
     private final String prefix;
     private final NamespacedKey exitTokenKey;
     private final NamespacedKey preferenceKey;
@@ -56,14 +30,19 @@ final class PlayerSupportService {
     private final ItemStack exitTokenTemplate;
     private final ItemStack timeTrialRestartTemplate;
     private final int longEffectDurationTicks;
-    private final ConcurrentHashMap<UUID, Set<UUID>> hiddenTimeTrialPeers = new ConcurrentHashMap<>();
+    private final VisibilityGroups visibility;
+    private final KitCatalog kits;
+    private final NegativeEffects negativeEffects;
 
-    PlayerSupportService(Beastmode plugin, String prefix, int longEffectDurationTicks,
+    PlayerSupportService(Beastmode plugin, TaskRegistry tasks, String prefix, int longEffectDurationTicks,
                          NamespacedKey exitTokenKey, NamespacedKey preferenceKey,
                          NamespacedKey timeTrialRestartKey,
                          ItemStack exitTokenTemplate,
-                         ItemStack timeTrialRestartTemplate) {
+                         ItemStack timeTrialRestartTemplate,
+                         KitCatalog kits,
+                         NegativeEffects negativeEffects) {
         this.plugin = plugin;
+        this.tasks = tasks;
         this.prefix = prefix;
         this.exitTokenKey = exitTokenKey;
         this.preferenceKey = preferenceKey;
@@ -71,6 +50,9 @@ final class PlayerSupportService {
         this.exitTokenTemplate = exitTokenTemplate;
         this.timeTrialRestartTemplate = timeTrialRestartTemplate;
         this.longEffectDurationTicks = longEffectDurationTicks;
+        this.visibility = new VisibilityGroups(plugin, tasks);
+        this.kits = kits;
+        this.negativeEffects = negativeEffects;
     }
 
     void resetLoadout(Player player) {
@@ -110,17 +92,7 @@ final class PlayerSupportService {
             return;
         }
         player.setFireTicks(0);
-        java.util.Set<PotionEffectType> toRemove = new java.util.HashSet<>();
-        for (PotionEffect effect : player.getActivePotionEffects()) {
-            PotionEffectType type = effect.getType();
-            String key = effectKey(type);
-            if (!key.isEmpty() && NEGATIVE_EFFECT_KEYS.contains(key)) {
-                toRemove.add(type);
-            }
-        }
-        for (PotionEffectType type : toRemove) {
-            player.removePotionEffect(type);
-        }
+        negativeEffects.clear(player);
     }
 
     void applyFireResistance(Player player) {
@@ -137,12 +109,12 @@ final class PlayerSupportService {
         }
 
         UUID holder = runner.getUniqueId();
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        tasks.runPlayer(holder, "runner-reward", 20L, () -> {
             Player online = Bukkit.getPlayer(holder);
             if (online != null && online.isOnline()) {
                 grantRunnerReward(online);
             }
-        }, 20L);
+        });
     }
 
     private void grantRunnerReward(Player runner) {
@@ -150,52 +122,8 @@ final class PlayerSupportService {
             return;
         }
 
-        resetLoadout(runner);
         restoreVitals(runner);
-
-        PlayerInventory inventory = runner.getInventory();
-
-        ItemStack sword = new ItemStack(org.bukkit.Material.NETHERITE_SWORD);
-        ItemMeta swordMeta = sword.getItemMeta();
-        if (swordMeta != null) {
-            Enchantment sharpness = Registry.ENCHANTMENT.get(NamespacedKey.minecraft("sharpness"));
-            if (sharpness != null) {
-                swordMeta.addEnchant(sharpness, 3, true);
-            }
-            sword.setItemMeta(swordMeta);
-        }
-        inventory.setItem(0, sword);
-        runner.getInventory().setHeldItemSlot(0);
-
-        ItemStack bow = createEnchantedBow(1);
-        inventory.setItem(1, bow);
-
-        ItemStack potion = createHealingPotion();
-        for (int slot = 2; slot <= 6; slot++) {
-            inventory.setItem(slot, potion.clone());
-        }
-
-        ItemStack arrow = new ItemStack(org.bukkit.Material.ARROW, 1);
-        inventory.setItem(17, arrow);
-
-        inventory.setHelmet(new ItemStack(org.bukkit.Material.NETHERITE_HELMET));
-        inventory.setChestplate(new ItemStack(org.bukkit.Material.NETHERITE_CHESTPLATE));
-        inventory.setLeggings(new ItemStack(org.bukkit.Material.NETHERITE_LEGGINGS));
-        ItemStack boots = new ItemStack(org.bukkit.Material.NETHERITE_BOOTS);
-        ItemMeta bootsMeta = boots.getItemMeta();
-        if (bootsMeta != null) {
-            Enchantment featherFalling = Registry.ENCHANTMENT.get(NamespacedKey.minecraft("feather_falling"));
-            if (featherFalling != null) {
-                bootsMeta.addEnchant(featherFalling, 4, true);
-            }
-            bootsMeta.setUnbreakable(true);
-            boots.setItemMeta(bootsMeta);
-        }
-        inventory.setBoots(boots);
-
-        PotionEffect speedBoost = new PotionEffect(PotionEffectType.SPEED, Integer.MAX_VALUE, 1, false, false, true);
-        runner.removePotionEffect(PotionEffectType.SPEED);
-        runner.addPotionEffect(speedBoost);
+        kits.get(KitCatalog.RUNNER_REWARD).apply(runner);
 
         runner.sendMessage(prefix + ChatColor.GOLD + "" + ChatColor.BOLD + "Victory spoils! "
                 + ChatColor.RESET + ChatColor.GOLD + "You bolted through the finish and are ready for the Beast.");
@@ -206,35 +134,7 @@ final class PlayerSupportService {
             return false;
         }
 
-        resetLoadout(beast);
-
-        PlayerInventory inventory = beast.getInventory();
-
-        ItemStack sword = new ItemStack(org.bukkit.Material.NETHERITE_SWORD);
-        inventory.setItem(0, sword);
-        beast.getInventory().setHeldItemSlot(0);
-
-        ItemStack potion = createHealingPotion();
-        inventory.setItem(1, potion.clone());
-        inventory.setItem(2, potion.clone());
-        inventory.setItem(3, potion.clone());
-
-        inventory.setHelmet(new ItemStack(org.bukkit.Material.DIAMOND_HELMET));
-        inventory.setChestplate(new ItemStack(org.bukkit.Material.DIAMOND_CHESTPLATE));
-        inventory.setLeggings(new ItemStack(org.bukkit.Material.DIAMOND_LEGGINGS));
-
-        ItemStack boots = new ItemStack(org.bukkit.Material.DIAMOND_BOOTS);
-        ItemMeta bootsMeta = boots.getItemMeta();
-        if (bootsMeta != null) {
-            Enchantment featherFalling = Registry.ENCHANTMENT.get(NamespacedKey.minecraft("feather_falling"));
-            if (featherFalling != null) {
-                bootsMeta.addEnchant(featherFalling, 4, true);
-            }
-            bootsMeta.setUnbreakable(true);
-            boots.setItemMeta(bootsMeta);
-        }
-        inventory.setBoots(boots);
-
+        kits.get(KitCatalog.BEAST).apply(beast);
         return true;
     }
 
@@ -273,12 +173,44 @@ final class PlayerSupportService {
         }
     }
 
-    boolean isExitToken(ItemStack stack) {
-        if (stack == null || stack.getType() != org.bukkit.Material.NETHER_STAR) {
-            return false;
+    /**
+     * Identifies a managed item from its material first, so ordinary items never have their meta copied, and
+     * reads at most one persistent data key.
+     */
+    ManagedItemType classify(ItemStack stack) {
+        if (stack == null) {
+            return ManagedItemType.NONE;
+        }
+        NamespacedKey key;
+        ManagedItemType candidate;
+        switch (stack.getType()) {
+            case NETHER_STAR -> {
+                key = exitTokenKey;
+                candidate = ManagedItemType.EXIT_TOKEN;
+            }
+            case CLOCK -> {
+                key = timeTrialRestartKey;
+                candidate = ManagedItemType.TIME_TRIAL_RESTART;
+            }
+            case RED_WOOL, GREEN_WOOL -> {
+                return isPreferenceSelector(stack) ? ManagedItemType.PREFERENCE_SELECTOR : ManagedItemType.NONE;
+            }
+            default -> {
+                return ManagedItemType.NONE;
+            }
+        }
+        if (!stack.hasItemMeta()) {
+            return ManagedItemType.NONE;
         }
         ItemMeta meta = stack.getItemMeta();
-        return meta != null && meta.getPersistentDataContainer().has(exitTokenKey, PersistentDataType.BYTE);
+        return meta != null && meta.getPersistentDataContainer().has(key, PersistentDataType.BYTE)
+                ? candidate
+                : ManagedItemType.NONE;
+    }
+
+    boolean isExitToken(ItemStack stack) {
+        return stack != null && stack.getType() == org.bukkit.Material.NETHER_STAR
+                && classify(stack) == ManagedItemType.EXIT_TOKEN;
     }
 
     void giveTimeTrialRestartItem(Player player) {
@@ -307,11 +239,8 @@ final class PlayerSupportService {
     }
 
     boolean isTimeTrialRestartItem(ItemStack stack) {
-        if (stack == null || stack.getType() != org.bukkit.Material.CLOCK) {
-            return false;
-        }
-        ItemMeta meta = stack.getItemMeta();
-        return meta != null && meta.getPersistentDataContainer().has(timeTrialRestartKey, PersistentDataType.BYTE);
+        return stack != null && stack.getType() == org.bukkit.Material.CLOCK
+                && classify(stack) == ManagedItemType.TIME_TRIAL_RESTART;
     }
 
     void givePreferenceSelectors(Player player, GameManager.RolePreference selected) {
@@ -320,7 +249,7 @@ final class PlayerSupportService {
         }
         PlayerInventory inventory = player.getInventory();
         GameManager.RolePreference applied = selected != null ? selected : GameManager.RolePreference.ANY;
-        Bukkit.getScheduler().runTask(plugin, () -> {
+        tasks.runPlayer(player.getUniqueId(), "preference-selectors", 0L, () -> {
             clearPreferenceSelectors(inventory);
             inventory.setItem(GameManager.PREFERENCE_BEAST_SLOT,
                     createPreferenceSelector(GameManager.RolePreference.BEAST, applied));
@@ -396,7 +325,7 @@ final class PlayerSupportService {
     }
 
     GameManager.RolePreference readPreferenceType(ItemStack stack) {
-        if (stack == null || stack.getType().isAir()) {
+        if (stack == null || stack.getType().isAir() || !stack.hasItemMeta()) {
             return null;
         }
         ItemMeta meta = stack.getItemMeta();
@@ -418,163 +347,37 @@ final class PlayerSupportService {
         }
     }
 
-    ItemStack createHealingPotion() {
-        ItemStack potion = new ItemStack(org.bukkit.Material.SPLASH_POTION);
-        PotionMeta meta = (PotionMeta) potion.getItemMeta();
-        if (meta != null) {
-            meta.setBasePotionType(PotionType.STRONG_HEALING);
-            meta.setDisplayName(ChatColor.LIGHT_PURPLE + "" + ChatColor.BOLD + "Burst Heal");
-            potion.setItemMeta(meta);
-        }
-        return potion;
-    }
-
-    private ItemStack createEnchantedBow(int powerLevel) {
-        ItemStack bow = new ItemStack(org.bukkit.Material.BOW);
-        ItemMeta bowMeta = bow.getItemMeta();
-        if (bowMeta != null) {
-            Enchantment infinity = Registry.ENCHANTMENT.get(NamespacedKey.minecraft("infinity"));
-            Enchantment power = Registry.ENCHANTMENT.get(NamespacedKey.minecraft("power"));
-            if (infinity != null) {
-                bowMeta.addEnchant(infinity, 1, true);
-            }
-            if (power != null) {
-                bowMeta.addEnchant(power, Math.max(1, powerLevel), true);
-            }
-            bow.setItemMeta(bowMeta);
-        }
-        return bow;
-    }
-
-    private String effectKey(PotionEffectType type) {
-        if (type == null) {
-            return "";
-        }
-        NamespacedKey key = type.getKey();
-        if (key != null) {
-            return key.getKey().toLowerCase(Locale.ROOT);
-        }
-        String legacy = type.getName();
-        return legacy != null ? legacy.toLowerCase(Locale.ROOT) : "";
-    }
-
-    void hideTimeTrialParticipants(Collection<Player> participants) {
-        if (participants == null) {
+    /**
+     * Hides time-trial runners from each other; the hides are spread over the following ticks.
+     */
+    void hideTimeTrialParticipants(ActiveArena activeArena, Collection<Player> participants) {
+        if (activeArena == null || participants == null) {
             return;
         }
-        List<Player> active = new ArrayList<>();
         for (Player participant : participants) {
-            if (participant != null && participant.isOnline()) {
-                active.add(participant);
-            }
-        }
-        int size = active.size();
-        for (int i = 0; i < size; i++) {
-            Player first = active.get(i);
-            for (int j = i + 1; j < size; j++) {
-                Player second = active.get(j);
-                hideMutually(first, second);
-            }
+            visibility.join(activeArena, participant);
         }
     }
 
     void hideTimeTrialParticipant(Player runner, ActiveArena activeArena) {
-        if (runner == null || activeArena == null || !runner.isOnline()) {
+        if (runner == null || activeArena == null) {
             return;
         }
-        UUID targetId = runner.getUniqueId();
-        List<UUID> ids = new ArrayList<>(activeArena.getPlayerIds());
-        for (UUID uuid : ids) {
-            if (uuid == null || uuid.equals(targetId)) {
-                continue;
-            }
-            if (!activeArena.isRunner(uuid)) {
-                continue;
-            }
-            Player peer = Bukkit.getPlayer(uuid);
-            if (peer != null && peer.isOnline()) {
-                hideMutually(runner, peer);
-            }
-        }
+        visibility.join(activeArena, runner);
     }
 
     void revealTimeTrialParticipant(Player participant) {
-        if (participant == null) {
-            return;
-        }
-        UUID participantId = participant.getUniqueId();
-        Set<UUID> peers = hiddenTimeTrialPeers.remove(participantId);
-        if (peers == null || peers.isEmpty()) {
-            return;
-        }
-        List<UUID> snapshot = new ArrayList<>(peers);
-        for (UUID peerId : snapshot) {
-            Player peer = Bukkit.getPlayer(peerId);
-            if (peer != null && peer.isOnline()) {
-                showMutually(participant, peer);
-            }
-        }
+        visibility.leave(participant);
     }
 
     void revealTimeTrialParticipants(ActiveArena activeArena) {
         if (activeArena == null) {
             return;
         }
-    List<UUID> ids = new ArrayList<>(activeArena.getPlayerIds());
-    List<Player> players = new ArrayList<>();
-        for (UUID uuid : ids) {
-            Player player = Bukkit.getPlayer(uuid);
-            if (player != null && player.isOnline()) {
-                players.add(player);
-            }
-        }
-        for (Player player : players) {
-            revealTimeTrialParticipant(player);
-        }
-    }
-
-    private void hideMutually(Player first, Player second) {
-        if (first == null || second == null || first.equals(second)) {
-            return;
-        }
-        hideOneWay(first, second);
-        hideOneWay(second, first);
-    }
-
-    private void hideOneWay(Player viewer, Player target) {
-        if (viewer == null || target == null) {
-            return;
-        }
-        if (!viewer.isOnline() || !target.isOnline()) {
-            return;
-        }
-        viewer.hidePlayer(plugin, target);
-        hiddenTimeTrialPeers.computeIfAbsent(viewer.getUniqueId(), id -> ConcurrentHashMap.newKeySet())
-                .add(target.getUniqueId());
-    }
-
-    private void showMutually(Player first, Player second) {
-        if (first == null || second == null) {
-            return;
-        }
-        showOneWay(first, second);
-        showOneWay(second, first);
+        visibility.dissolve(activeArena);
     }
 
-    private void showOneWay(Player viewer, Player target) {
-        if (viewer == null || target == null) {
-            return;
-        }
-        if (!viewer.isOnline()) {
-            return;
-        }
-        viewer.showPlayer(plugin, target);
-        Set<UUID> hidden = hiddenTimeTrialPeers.get(viewer.getUniqueId());
-        if (hidden != null) {
-            hidden.remove(target.getUniqueId());
-            if (hidden.isEmpty()) {
-                hiddenTimeTrialPeers.remove(viewer.getUniqueId());
-            }
-        }
+    VisibilityGroups getVisibility() {
+        return visibility;
     }
 }
@@ -1,6 +1,5 @@
 package com.colin.beastmode.game;
 
-import com.colin.beastmode.Beastmode;
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
@@ -8,16 +7,19 @@ import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffectType;
 
 /**
- * Handles respawns and spectator transitions for arena participants.
+ * Handles respawns and spectator transitions for arena participants; the moves themselves go through the
+ * shared {@link TransitionScheduler}.
  */
 final class PlayerTransitionService {
 
-    private final Beastmode plugin;
+    private final TaskRegistry tasks;
     private final PlayerSupportService playerSupport;
+    private final TransitionScheduler scheduler;
 
-    PlayerTransitionService(Beastmode plugin, PlayerSupportService playerSupport) {
-        this.plugin = plugin;
+    PlayerTransitionService(TaskRegistry tasks, PlayerSupportService playerSupport, TransitionScheduler scheduler) {
+        this.tasks = tasks;
         this.playerSupport = playerSupport;
+        this.scheduler = scheduler;
     }
 
     void sendPlayerToSpawn(ActiveArena activeArena, Player player) {
@@ -32,14 +34,8 @@ final class PlayerTransitionService {
         playerSupport.removeExitToken(player);
         player.removePotionEffect(PotionEffectType.FIRE_RESISTANCE);
 
-        forceRespawn(player, () -> {
-            player.setGameMode(GameMode.ADVENTURE);
-            playerSupport.restoreVitals(player);
-            Location spawn = Bukkit.getWorlds().isEmpty() ? null : Bukkit.getWorlds().get(0).getSpawnLocation();
-            if (spawn != null) {
-                player.teleport(spawn.clone());
-            }
-        });
+        Location spawn = Bukkit.getWorlds().isEmpty() ? null : Bukkit.getWorlds().get(0).getSpawnLocation();
+        scheduler.submit(null, player, spawn, false, GameMode.ADVENTURE, playerSupport::restoreVitals);
     }
 
     void sendToSpectator(ActiveArena activeArena, Player player, Location location) {
@@ -51,17 +47,12 @@ final class PlayerTransitionService {
             activeArena.addSpectatingRunner(player.getUniqueId());
         }
 
-        Location destination = location != null ? location.clone() : null;
-        forceRespawn(player, () -> {
-            if (destination != null) {
-                player.teleport(destination);
-            }
-            playerSupport.removeExitToken(player);
-            player.removePotionEffect(PotionEffectType.FIRE_RESISTANCE);
-            applySpectatorState(activeArena, player);
-            Bukkit.getScheduler().runTaskLater(plugin,
-                    () -> applySpectatorState(activeArena, player),
-                    2L);
+        scheduler.submit(null, player, location, false, null, moved -> {
+            playerSupport.removeExitToken(moved);
+            moved.removePotionEffect(PotionEffectType.FIRE_RESISTANCE);
+            applySpectatorState(activeArena, moved);
+            tasks.runPlayer(moved.getUniqueId(), "spectator-state", 2L,
+                    () -> applySpectatorState(activeArena, moved));
         });
     }
 
@@ -76,33 +67,4 @@ final class PlayerTransitionService {
         player.setGameMode(GameMode.SPECTATOR);
         playerSupport.restoreVitals(player);
     }
-
-    private void forceRespawn(Player player, Runnable afterRespawn) {
-        if (player == null) {
-            return;
-        }
-
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            if (!player.isOnline()) {
-                return;
-            }
-
-            if (player.isDead()) {
-                try {
-                    player.spigot().respawn();
-                } catch (Exception ignored) {
-                    // Not every implementation supports force respawn.
-                }
-            }
-
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                if (!player.isOnline()) {
-                    return;
-                }
-                if (afterRespawn != null) {
-                    afterRespawn.run();
-                }
-            }, 1L);
-        }, 1L);
-    }
 }
@@ -0,0 +1,345 @@
+package com.colin.beastmode.game;
+
+import com.colin.beastmode.Beastmode;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Owns every scheduler task Beastmode starts, indexed by arena and by player so owners can be cancelled in O(1),
+ * with cumulative run-time accounting and a periodic audit that cancels tasks whose owner has gone away.
+ * Main-thread only.
+ */
+public final class TaskRegistry {
+
+    private static final long AUDIT_PERIOD_TICKS = 20L * 30L;
+
+    public enum Scope {
+        ARENA,
+        PLAYER,
+        GLOBAL
+    }
+
+    private final Beastmode plugin;
+    private final Map<Long, Handle> tasks = new HashMap<>();
+    private final Map<String, Set<Handle>> byArena = new HashMap<>();
+    private final Map<UUID, Set<Handle>> byPlayer = new HashMap<>();
+    private final Map<String, Usage> arenaUsage = new HashMap<>();
+    private final Usage[] scopeUsage = {new Usage(), new Usage(), new Usage()};
+    private BiPredicate<String, Object> arenaOwnerCheck = (key, owner) -> true;
+    private Handle auditTask;
+    private long nextId;
+    private long audits;
+    private long orphansCancelled;
+    private long staleRemoved;
+
+    TaskRegistry(Beastmode plugin) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+    }
+
+    Logger getLogger() {
+        return plugin.getLogger();
+    }
+
+    /**
+     * Schedules a task owned by an arena; {@code owner} identifies the arena instance so the audit can tell a
+     * replaced arena from the live one. A period of zero or less runs the task once.
+     */
+    Handle runArena(String arenaKey, Object owner, String name, long delayTicks, long periodTicks, Runnable action) {
+        Objects.requireNonNull(arenaKey, "arenaKey");
+        return submit(new Handle(this, nextId++, name, Scope.ARENA, arenaKey, owner, null, periodTicks > 0),
+                delayTicks, periodTicks, action);
+    }
+
+    Handle runPlayer(UUID playerId, String name, long delayTicks, Runnable action) {
+        Objects.requireNonNull(playerId, "playerId");
+        return submit(new Handle(this, nextId++, name, Scope.PLAYER, null, null, playerId, false),
+                delayTicks, 0L, action);
+    }
+
+    public Handle runGlobal(String name, long delayTicks, long periodTicks, Runnable action) {
+        return submit(new Handle(this, nextId++, name, Scope.GLOBAL, null, null, null, periodTicks > 0),
+                delayTicks, periodTicks, action);
+    }
+
+    void cancelPlayer(UUID playerId) {
+        cancelAll(playerId != null ? byPlayer.get(playerId) : null);
+    }
+
+    /**
+     * Runs {@code work} off the main thread and hands its result to {@code then} back on the main thread. The
+     * hand-off is skipped once the handle is cancelled or the plugin is disabling; shutdown cancels it like any
+     * other task.
+     */
+    <T> Handle runAsync(String name, Supplier<T> work, Consumer<T> then) {
+        Objects.requireNonNull(work, "work");
+        Objects.requireNonNull(then, "then");
+        Handle handle = new Handle(this, nextId++, name, Scope.GLOBAL, null, null, null, false);
+        tasks.put(handle.id, handle);
+        BukkitScheduler scheduler = Bukkit.getScheduler();
+        handle.task = scheduler.runTaskAsynchronously(plugin, () -> {
+            T result = work.get();
+            if (handle.cancelled || !plugin.isEnabled()) {
+                return;
+            }
+            handle.task = scheduler.runTask(plugin, () -> {
+                if (!handle.cancelled) {
+                    execute(handle, () -> then.accept(result));
+                }
+            });
+        });
+        return handle;
+    }
+
+    /**
+     * Starts the periodic leak audit; {@code arenaOwnerCheck} reports whether an arena key still maps to the
+     * given owner.
+     */
+    void startAudit(BiPredicate<String, Object> arenaOwnerCheck) {
+        this.arenaOwnerCheck = Objects.requireNonNull(arenaOwnerCheck, "arenaOwnerCheck");
+        if (auditTask == null || auditTask.isCancelled()) {
+            auditTask = runGlobal("task-audit", AUDIT_PERIOD_TICKS, AUDIT_PERIOD_TICKS, this::audit);
+        }
+    }
+
+    /**
+     * Cancels orphaned tasks and drops records of tasks the scheduler no longer knows about.
+     * Returns the number of entries removed.
+     */
+    int audit() {
+        audits++;
+        BukkitScheduler scheduler = Bukkit.getScheduler();
+        int removed = 0;
+        for (Handle handle : new ArrayList<>(tasks.values())) {
+            if (handle == auditTask) {
+                continue;
+            }
+            BukkitTask task = handle.task;
+            if (task == null || task.isCancelled()
+                    || (!scheduler.isQueued(task.getTaskId()) && !scheduler.isCurrentlyRunning(task.getTaskId()))) {
+                release(handle);
+                staleRemoved++;
+                removed++;
+                continue;
+            }
+            if (isOrphaned(handle)) {
+                getLogger().warning("Cancelling orphaned task '" + handle.name + "' (" + handle.describeOwner() + ").");
+                handle.cancel();
+                orphansCancelled++;
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    void shutdown() {
+        for (Handle handle : new ArrayList<>(tasks.values())) {
+            handle.cancel();
+        }
+        auditTask = null;
+    }
+
+    Report report() {
+        int[] active = new int[Scope.values().length];
+        Map<String, Integer> activeByArena = new HashMap<>();
+        for (Handle handle : tasks.values()) {
+            active[handle.scope.ordinal()]++;
+            if (handle.arenaKey != null) {
+                activeByArena.merge(handle.arenaKey, 1, Integer::sum);
+            }
+        }
+        List<ArenaUsage> arenas = new ArrayList<>(arenaUsage.size());
+        for (Map.Entry<String, Usage> entry : arenaUsage.entrySet()) {
+            Usage usage = entry.getValue();
+            arenas.add(new ArenaUsage(entry.getKey(), activeByArena.getOrDefault(entry.getKey(), 0),
+                    usage.runs, usage.nanos));
+        }
+        arenas.sort(Comparator.comparingLong(ArenaUsage::runNanos).reversed());
+
+        long runs = 0L;
+        long nanos = 0L;
+        for (Usage usage : scopeUsage) {
+            runs += usage.runs;
+            nanos += usage.nanos;
+        }
+        return new Report(active[Scope.ARENA.ordinal()], active[Scope.PLAYER.ordinal()],
+                active[Scope.GLOBAL.ordinal()], runs, nanos, audits, orphansCancelled, staleRemoved, arenas);
+    }
+
+    private Handle submit(Handle handle, long delayTicks, long periodTicks, Runnable action) {
+        Objects.requireNonNull(action, "action");
+        Runnable body = () -> execute(handle, action);
+        long delay = Math.max(delayTicks, 0L);
+        BukkitScheduler scheduler = Bukkit.getScheduler();
+        handle.task = periodTicks > 0
+                ? scheduler.runTaskTimer(plugin, body, delay, periodTicks)
+                : scheduler.runTaskLater(plugin, body, delay);
+        tasks.put(handle.id, handle);
+        if (handle.arenaKey != null) {
+            byArena.computeIfAbsent(handle.arenaKey, k -> new LinkedHashSet<>()).add(handle);
+        }
+        if (handle.playerId != null) {
+            byPlayer.computeIfAbsent(handle.playerId, k -> new LinkedHashSet<>()).add(handle);
+        }
+        return handle;
+    }
+
+    private void execute(Handle handle, Runnable action) {
+        long started = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            handle.runs++;
+            handle.runNanos += elapsed;
+            scopeUsage[handle.scope.ordinal()].add(elapsed);
+            if (handle.arenaKey != null) {
+                arenaUsage.computeIfAbsent(handle.arenaKey, k -> new Usage()).add(elapsed);
+            }
+            if (!handle.repeating) {
+                release(handle);
+            }
+        }
+    }
+
+    private boolean isOrphaned(Handle handle) {
+        return switch (handle.scope) {
+            case ARENA -> !arenaOwnerCheck.test(handle.arenaKey, handle.owner);
+            case PLAYER -> Bukkit.getPlayer(handle.playerId) == null;
+            case GLOBAL -> false;
+        };
+    }
+
+    private void cancelAll(Set<Handle> handles) {
+        if (handles == null || handles.isEmpty()) {
+            return;
+        }
+        for (Handle handle : new ArrayList<>(handles)) {
+            handle.cancel();
+        }
+    }
+
+    private void release(Handle handle) {
+        if (tasks.remove(handle.id) == null) {
+            return;
+        }
+        if (handle.arenaKey != null) {
+            removeFromIndex(byArena, handle.arenaKey, handle);
+        }
+        if (handle.playerId != null) {
+            removeFromIndex(byPlayer, handle.playerId, handle);
+        }
+    }
+
+    private static <K> void removeFromIndex(Map<K, Set<Handle>> index, K key, Handle handle) {
+        Set<Handle> owned = index.get(key);
+        if (owned != null && owned.remove(handle) && owned.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * A registered task; cancelling it unregisters it from every index.
+     */
+    public static final class Handle implements ArenaTimer {
+        private final TaskRegistry registry;
+        private final long id;
+        private final String name;
+        private final Scope scope;
+        private final String arenaKey;
+        private final Object owner;
+        private final UUID playerId;
+        private final boolean repeating;
+        private volatile BukkitTask task;
+        private volatile boolean cancelled;
+        private long runs;
+        private long runNanos;
+
+        private Handle(TaskRegistry registry, long id, String name, Scope scope, String arenaKey, Object owner,
+                       UUID playerId, boolean repeating) {
+            this.registry = registry;
+            this.id = id;
+            this.name = name != null ? name : "task";
+            this.scope = scope;
+            this.arenaKey = arenaKey;
+            this.owner = owner;
+            this.playerId = playerId;
+            this.repeating = repeating;
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            if (task != null) {
+                task.cancel();
+            }
+            registry.release(this);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Scope getScope() {
+            return scope;
+        }
+
+        private String describeOwner() {
+            return switch (scope) {
+                case ARENA -> "arena " + arenaKey;
+                case PLAYER -> "player " + playerId;
+                case GLOBAL -> "global";
+            };
+        }
+    }
+
+    private static final class Usage {
+        private long runs;
+        private long nanos;
+
+        private void add(long elapsed) {
+            runs++;
+            nanos += elapsed;
+        }
+    }
+
+    record ArenaUsage(String arenaKey, int activeTasks, long runs, long runNanos) {
+    }
+
+    record Report(int arenaTasks,
+                  int playerTasks,
+                  int globalTasks,
+                  long totalRuns,
+                  long totalRunNanos,
+                  long audits,
+                  long orphansCancelled,
+                  long staleRemoved,
+                  List<ArenaUsage> arenas) {
+
+        int totalTasks() {
+            return arenaTasks + playerTasks + globalTasks;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.colin.beastmode.game;
+
+import net.md_5.bungee.api.ChatColor;
+import net.md_5.bungee.api.ChatMessageType;
+import net.md_5.bungee.api.chat.BaseComponent;
+import net.md_5.bungee.api.chat.TextComponent;
+import org.bukkit.entity.Player;
+
+/**
+ * Renders the time-trial action bar from reusable buffers and components, skipping frames whose
+ * displayed centisecond value has not changed.
+ */
+final class TimeTrialHudRenderer {
+
+    private static final long MIN_DELTA_DISPLAY_MILLIS = 50L;
+    private static final TextComponent TIME_LABEL = component("Time ", ChatColor.GRAY);
+    private static final TextComponent PB_LABEL = component("  PB ", ChatColor.DARK_GRAY);
+
+    /**
+     * Ticks between HUD refreshes for one runner; small trials update smoothly, crowded ones back off.
+     */
+    int periodFor(int runners) {
+        if (runners <= 4) {
+            return 2;
+        }
+        if (runners <= 12) {
+            return 4;
+        }
+        if (runners <= 24) {
+            return 6;
+        }
+        return 10;
+    }
+
+    Frame createFrame(long personalBestMillis) {
+        return new Frame(personalBestMillis);
+    }
+
+    boolean render(Player runner, Frame frame, long elapsedMillis) {
+        if (runner == null || frame == null) {
+            return false;
+        }
+        long centis = Math.max(elapsedMillis, 0L) / 10L;
+        if (centis == frame.lastCentis) {
+            return false;
+        }
+        frame.lastCentis = centis;
+
+        char[] buffer = frame.buffer;
+        int length = DurationFormatter.write(buffer, 0, elapsedMillis, 2);
+        frame.time.setText(new String(buffer, 0, length));
+
+        BaseComponent[] line = frame.bare;
+        long best = frame.personalBestMillis;
+        if (best > 0) {
+            long delta = elapsedMillis - best;
+            if (Math.abs(delta) >= MIN_DELTA_DISPLAY_MILLIS) {
+                buffer[0] = ' ';
+                buffer[1] = '(';
+                buffer[2] = delta < 0 ? '-' : '+';
+                length = DurationFormatter.write(buffer, 3, Math.abs(delta), 2);
+                buffer[length++] = ')';
+                frame.delta.setText(new String(buffer, 0, length));
+                frame.delta.setColor(delta < 0 ? ChatColor.GREEN : ChatColor.RED);
+                line = frame.withDelta;
+            } else {
+                line = frame.withBest;
+            }
+        }
+
+        runner.spigot().sendMessage(ChatMessageType.ACTION_BAR, line);
+        return true;
+    }
+
+    private static TextComponent component(String text, ChatColor color) {
+        TextComponent component = new TextComponent(text);
+        component.setColor(color);
+        return component;
+    }
+
+    /**
+     * Per-runner render state: a scratch buffer, the mutable value components, and the last frame sent.
+     */
+    static final class Frame {
+        private final long personalBestMillis;
+        private final char[] buffer = new char[DurationFormatter.MAX_LENGTH + 4];
+        private final TextComponent time = component("", ChatColor.AQUA);
+        private final TextComponent delta = component("", ChatColor.GREEN);
+        private final BaseComponent[] bare;
+        private final BaseComponent[] withBest;
+        private final BaseComponent[] withDelta;
+        private long lastCentis = -1L;
+
+        private Frame(long personalBestMillis) {
+            this.personalBestMillis = personalBestMillis;
+            this.bare = new BaseComponent[]{TIME_LABEL, time};
+            if (personalBestMillis > 0) {
+                TextComponent best = component(DurationFormatter.formatCentis(personalBestMillis), ChatColor.GOLD);
+                this.withBest = new BaseComponent[]{TIME_LABEL, time, PB_LABEL, best};
+                this.withDelta = new BaseComponent[]{TIME_LABEL, time, PB_LABEL, best, delta};
+            } else {
+                this.withBest = bare;
+                this.withDelta = bare;
+            }
+        }
+
+        long getPersonalBestMillis() {
+            return personalBestMillis;
+        }
+    }
+}
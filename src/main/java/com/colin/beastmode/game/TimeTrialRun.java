@@ -0,0 +1,60 @@
+package com.colin.beastmode.game;
+
+import java.util.UUID;
+
+/**
+ * Session state for one runner's in-progress time-trial attempt.
+ */
+final class TimeTrialRun {
+
+    private final UUID playerId;
+    private final long startNanos;
+    private final long startTick;
+    private final long startLagNanos;
+    private final int hudSlot;
+    private final TimeTrialHudRenderer.Frame hudFrame;
+
+    TimeTrialRun(UUID playerId, ArenaClock clock, TimeTrialHudRenderer.Frame hudFrame) {
+        this.playerId = playerId;
+        this.startNanos = System.nanoTime();
+        this.startTick = clock.getTickCount();
+        this.startLagNanos = clock.getLagNanos();
+        this.hudSlot = playerId.hashCode() & Integer.MAX_VALUE;
+        this.hudFrame = hudFrame;
+    }
+
+    UUID getPlayerId() {
+        return playerId;
+    }
+
+    long getStartNanos() {
+        return startNanos;
+    }
+
+    long getStartTick() {
+        return startTick;
+    }
+
+    long getStartLagNanos() {
+        return startLagNanos;
+    }
+
+    long getElapsedMillis(long nowNanos) {
+        return Math.max(0L, nowNanos - startNanos) / 1_000_000L;
+    }
+
+    long getPersonalBestMillis() {
+        return hudFrame.getPersonalBestMillis();
+    }
+
+    /**
+     * Offset that staggers HUD refreshes so runners sharing a period do not all render on the same tick.
+     */
+    int getHudSlot() {
+        return hudSlot;
+    }
+
+    TimeTrialHudRenderer.Frame getHudFrame() {
+        return hudFrame;
+    }
+}
@@ -1,62 +1,53 @@
 package com.colin.beastmode.game;
 
-import com.colin.beastmode.Beastmode;
 import com.colin.beastmode.storage.TimeTrialStorage;
 import com.colin.beastmode.storage.TimeTrialStorage.RecordUpdate;
+import com.colin.beastmode.time.TimeTrialLeaderboard;
 import com.colin.beastmode.time.TimeTrialRecord;
 import net.md_5.bungee.api.ChatMessageType;
 import net.md_5.bungee.api.chat.BaseComponent;
 import net.md_5.bungee.api.chat.TextComponent;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
-import org.bukkit.Location;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
-import org.bukkit.event.player.PlayerTeleportEvent;
 
-import java.text.DecimalFormat;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.WeakHashMap;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages timing logic, countdowns, HUD updates, and leaderboard persistence for arena time trials.
  */
 public final class TimeTrialService {
 
-    private static final DecimalFormat MILLIS_FORMAT = new DecimalFormat("00.000");
     private static final int START_COUNTDOWN_SECONDS = 3;
-    private static final int HUD_PERIOD_TICKS = 5;
-    private static final long MIN_DELTA_DISPLAY_MILLIS = 50L;
+    private static final int FREEZE_VISUAL_TICKS = 45;
+    private static final long REPORTED_LAG_MILLIS = 100L;
 
-    private final Beastmode plugin;
     private final TimeTrialStorage storage;
     private final PlayerSupportService playerSupport;
     private final ArenaMessagingService messaging;
     private final String prefix;
-    private final Map<UUID, BukkitTask> countdownTasks = new ConcurrentHashMap<>();
-    private final Map<ActiveArena, BukkitTask> hudTasks = new WeakHashMap<>();
-    private final Map<UUID, FreezeHandle> freezeTasks = new ConcurrentHashMap<>();
+    private final CountdownFreezeService freezeService;
+    private final TimeTrialTiming timing;
+    private final TimeTrialHudRenderer hudRenderer = new TimeTrialHudRenderer();
 
-     TimeTrialService(Beastmode plugin,
-                            TimeTrialStorage storage,
-                            PlayerSupportService playerSupport,
+    TimeTrialService(TimeTrialStorage storage,
+                     PlayerSupportService playerSupport,
                      ArenaMessagingService messaging,
+                     CountdownFreezeService freezeService,
+                     TimeTrialTiming timing,
                      String prefix) {
-        this.plugin = Objects.requireNonNull(plugin, "plugin");
         this.storage = Objects.requireNonNull(storage, "storage");
         this.playerSupport = Objects.requireNonNull(playerSupport, "playerSupport");
         this.messaging = Objects.requireNonNull(messaging, "messaging");
+        this.freezeService = Objects.requireNonNull(freezeService, "freezeService");
+        this.timing = Objects.requireNonNull(timing, "timing");
         this.prefix = Objects.requireNonNull(prefix, "prefix");
     }
 
@@ -64,7 +55,7 @@ public final class TimeTrialService {
         if (activeArena == null || participants == null || !activeArena.isMatchActive()) {
             return;
         }
-        activeArena.clearTimeTrialStarts();
+        activeArena.clearTimeTrialRuns();
 
         for (Player participant : participants) {
             if (participant == null || !participant.isOnline()) {
@@ -101,8 +92,8 @@ public final class TimeTrialService {
         }
 
         UUID uuid = runner.getUniqueId();
-        cancelCountdown(uuid);
-        activeArena.removeTimeTrialStart(uuid);
+        cancelCountdown(activeArena, uuid);
+        activeArena.removeTimeTrialRun(uuid);
 
         playerSupport.resetLoadout(runner);
         playerSupport.clearNegativeEffects(runner);
@@ -127,17 +118,15 @@ public final class TimeTrialService {
         }
 
         UUID uuid = finisher.getUniqueId();
-        cancelCountdown(uuid);
+        cancelCountdown(activeArena, uuid);
         playerSupport.clearNegativeEffects(finisher);
 
-        Long start = activeArena.removeTimeTrialStart(uuid);
-        if (start == null) {
-            start = System.currentTimeMillis();
-        }
-
-        long elapsed = Math.max(0L, System.currentTimeMillis() - start);
+        TimeTrialRun run = activeArena.removeTimeTrialRun(uuid);
+        TimeTrialTiming.Measurement measurement = timing.measure(run, activeArena.getClock());
+        long elapsed = measurement.resultMillis();
         String arenaName = activeArena.getArena().getName();
-        RecordUpdate update = storage.updateRecord(arenaName, uuid, finisher.getName(), elapsed);
+        RecordUpdate update = storage.updateRecord(arenaName, uuid, finisher.getName(), elapsed,
+                measurement.lagMillis());
         boolean personalBest = update.improved();
         int rank = update.rank();
         long bestTime = update.bestTimeMillis();
@@ -153,6 +142,10 @@ public final class TimeTrialService {
                     + ChatColor.YELLOW + ". Personal best: " + ChatColor.AQUA + bestFormatted + ChatColor.YELLOW + ".");
             finisher.playSound(finisher.getLocation(), Sound.UI_BUTTON_CLICK, 1.0f, 1.0f);
         }
+        if (measurement.lagMillis() >= REPORTED_LAG_MILLIS) {
+            finisher.sendMessage(prefix + ChatColor.GRAY + "Server lag during this run: " + measurement.lagMillis()
+                    + "ms" + (timing.getPolicy() == TimeTrialTiming.Policy.RAW ? "." : " (not counted)."));
+        }
 
         return new TimeTrialResult(elapsed, personalBest, rank, bestTime);
     }
@@ -161,6 +154,10 @@ public final class TimeTrialService {
         return storage.getTopRecords(arenaName, limit);
     }
 
+    public TimeTrialLeaderboard getLeaderboard(String arenaName) {
+        return storage.getLeaderboard(arenaName);
+    }
+
     public long getPersonalBest(String arenaName, java.util.UUID playerId) {
         if (arenaName == null || playerId == null) {
             return -1L;
@@ -177,14 +174,7 @@ public final class TimeTrialService {
     }
 
     public String formatDuration(long millis) {
-        if (millis < 0) {
-            return "-";
-        }
-        long totalSeconds = millis / 1000;
-        long minutes = totalSeconds / 60;
-        long seconds = totalSeconds % 60;
-        long remainder = millis % 1000;
-        return minutes + ":" + MILLIS_FORMAT.format(seconds + remainder / 1000.0);
+        return DurationFormatter.formatMillis(millis);
     }
 
     private void beginCountdown(ActiveArena activeArena, Player runner, int seconds, boolean restarting) {
@@ -193,62 +183,49 @@ public final class TimeTrialService {
         }
 
         UUID uuid = runner.getUniqueId();
-        cancelCountdown(uuid);
+        cancelCountdown(activeArena, uuid);
 
     playerSupport.giveTimeTrialRestartItem(runner);
     playerSupport.restoreVitals(runner);
     applyCountdownFreeze(activeArena, runner, seconds);
 
-        BukkitTask[] holder = new BukkitTask[1];
-        BukkitRunnable runnable = new BukkitRunnable() {
-            private int remaining = Math.max(seconds, 1);
-
-            @Override
-            public void run() {
-                if (!runner.isOnline() || !activeArena.isMatchActive() || !activeArena.isRunner(uuid)) {
-                    cancel();
-                    return;
-                }
-
-                if (remaining <= 0) {
-                    cancel();
-                    startTimer(activeArena, runner);
-                    return;
-                }
+        int[] remaining = {Math.max(seconds, 1)};
+        runner.sendMessage(prefix + (restarting
+                ? ChatColor.YELLOW + "Hold steady for the restart countdown."
+                : ChatColor.YELLOW + "Wait for the countdown before moving."));
 
-                sendCountdownActionBar(runner, remaining);
-                remaining--;
+        ArenaTimer countdown = activeArena.getClock().runRepeating(0L, 20L, timer -> {
+            if (!runner.isOnline() || !activeArena.isMatchActive() || !activeArena.isRunner(uuid)) {
+                timer.cancel();
+                activeArena.removeTimeTrialCountdown(uuid, timer);
+                return;
             }
 
-            @Override
-            public synchronized void cancel() throws IllegalStateException {
-                super.cancel();
-                BukkitTask handle = holder[0];
-                if (handle != null) {
-                    activeArena.unregisterTask(handle);
-                    countdownTasks.remove(uuid, handle);
-                }
+            if (remaining[0] <= 0) {
+                timer.cancel();
+                activeArena.removeTimeTrialCountdown(uuid, timer);
+                startTimer(activeArena, runner);
+                return;
             }
-        };
 
-        runner.sendMessage(prefix + (restarting
-                ? ChatColor.YELLOW + "Hold steady for the restart countdown."
-                : ChatColor.YELLOW + "Wait for the countdown before moving."));
-
-        holder[0] = runnable.runTaskTimer(plugin, 0L, 20L);
-        activeArena.registerTask(holder[0]);
-        countdownTasks.put(uuid, holder[0]);
+            sendCountdownActionBar(runner, remaining[0]);
+            if (runner.getFreezeTicks() < FREEZE_VISUAL_TICKS) {
+                runner.setFreezeTicks(FREEZE_VISUAL_TICKS);
+            }
+            remaining[0]--;
+        });
+        activeArena.putTimeTrialCountdown(uuid, countdown);
     }
 
-    private void cancelCountdown(UUID uuid) {
+    private void cancelCountdown(ActiveArena activeArena, UUID uuid) {
         if (uuid == null) {
             return;
         }
-        BukkitTask task = countdownTasks.remove(uuid);
-        if (task != null) {
-            task.cancel();
+        ArenaTimer timer = activeArena.removeTimeTrialCountdown(uuid);
+        if (timer != null) {
+            timer.cancel();
         }
-            stopFreezeTask(uuid);
+        freezeService.release(uuid);
     }
 
     private void applyCountdownFreeze(ActiveArena activeArena, Player runner, int seconds) {
@@ -260,7 +237,8 @@ public final class TimeTrialService {
         runner.setFreezeTicks(durationTicks);
         PotionEffect slow = new PotionEffect(PotionEffectType.SLOWNESS, durationTicks, 255, false, false, true);
         runner.addPotionEffect(slow);
-        startFreezeTask(activeArena, runner, durationTicks);
+        runner.setFallDistance(0f);
+        freezeService.freeze(activeArena, runner, durationTicks);
     }
 
     private void startTimer(ActiveArena activeArena, Player runner) {
@@ -272,157 +250,52 @@ public final class TimeTrialService {
         runner.setFreezeTicks(0);
 
         UUID uuid = runner.getUniqueId();
-            stopFreezeTask(uuid);
-        activeArena.setTimeTrialStart(uuid, System.currentTimeMillis());
+        freezeService.release(uuid);
+        String arenaName = activeArena.getArena().getName();
+        long best = storage.getBestTime(arenaName, uuid);
+        activeArena.putTimeTrialRun(new TimeTrialRun(uuid, activeArena.getClock(), hudRenderer.createFrame(best)));
 
-        messaging.broadcastGo(List.of(runner));
+        messaging.broadcastGo(activeArena, List.of(runner));
         runner.sendMessage(prefix + ChatColor.GREEN + "Go! Timer started.");
 
         ensureHudUpdaterRunning(activeArena);
     }
 
     private void ensureHudUpdaterRunning(ActiveArena activeArena) {
-        if (activeArena == null || hudTasks.containsKey(activeArena)) {
+        if (activeArena == null) {
             return;
         }
-
-        BukkitTask[] holder = new BukkitTask[1];
-        BukkitRunnable runnable = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!activeArena.isMatchActive()) {
-                    cancel();
-                    return;
-                }
-
-                Map<UUID, Long> starts = activeArena.getTimeTrialStartSnapshot();
-                if (starts.isEmpty()) {
-                    cancel();
-                    return;
-                }
-
-                String arenaName = activeArena.getArena() != null ? activeArena.getArena().getName() : null;
-                List<UUID> stale = new ArrayList<>();
-
-                for (Map.Entry<UUID, Long> entry : starts.entrySet()) {
-                    UUID uuid = entry.getKey();
-                    Player runner = Bukkit.getPlayer(uuid);
-                    if (runner == null || !runner.isOnline() || !activeArena.isRunner(uuid)) {
-                        stale.add(uuid);
-                        continue;
-                    }
-
-                    long start = entry.getValue();
-                    long elapsed = Math.max(0L, System.currentTimeMillis() - start);
-                    long best = arenaName != null ? storage.getBestTime(arenaName, uuid) : -1L;
-                    sendHud(runner, elapsed, best);
-                }
-
-                for (UUID uuid : stale) {
-                    activeArena.removeTimeTrialStart(uuid);
-                }
-            }
-
-            @Override
-            public synchronized void cancel() throws IllegalStateException {
-                super.cancel();
-                BukkitTask handle = holder[0];
-                if (handle != null) {
-                    activeArena.unregisterTask(handle);
-                    hudTasks.remove(activeArena, handle);
-                }
-            }
-        };
-
-        holder[0] = runnable.runTaskTimer(plugin, 0L, HUD_PERIOD_TICKS);
-        activeArena.registerTask(holder[0]);
-        hudTasks.put(activeArena, holder[0]);
-    }
-
-    private void startFreezeTask(ActiveArena activeArena, Player runner, int durationTicks) {
-        if (runner == null) {
+        ArenaTimer existing = activeArena.getTimeTrialHud();
+        if (existing != null && !existing.isCancelled()) {
             return;
         }
-        UUID uuid = runner.getUniqueId();
-        stopFreezeTask(uuid);
-
-    Location anchor = runner.getLocation().clone();
-    FreezeHandle handle = new FreezeHandle(activeArena, anchor);
-        freezeTasks.put(uuid, handle);
 
-        BukkitTask[] holder = new BukkitTask[1];
-        BukkitRunnable runnable = new BukkitRunnable() {
-            private int remaining = Math.max(durationTicks, 20);
-
-            @Override
-            public void run() {
-                if (!runner.isOnline()) {
-                    cancel();
-                    return;
-                }
-                if (remaining-- <= 0) {
-                    cancel();
-                    return;
-                }
-                runner.setVelocity(new Vector(0, 0, 0));
-                runner.setFallDistance(0f);
-                if (handle.anchor != null && handle.anchor.getWorld() != null) {
-                    runner.teleport(handle.anchor.clone(), PlayerTeleportEvent.TeleportCause.PLUGIN);
-                }
-                if (runner.getFreezeTicks() < 5) {
-                    runner.setFreezeTicks(5);
-                }
+        long[] hudTick = {0L};
+        ArenaTimer hud = activeArena.getClock().runRepeating(0L, 1L, timer -> {
+            Collection<TimeTrialRun> runs = activeArena.getTimeTrialRuns();
+            if (!activeArena.isMatchActive() || runs.isEmpty()) {
+                timer.cancel();
+                activeArena.setTimeTrialHud(null);
+                return;
             }
 
-            @Override
-            public synchronized void cancel() throws IllegalStateException {
-                super.cancel();
-                BukkitTask task = holder[0];
-                if (task != null && handle.arena != null) {
-                    handle.arena.unregisterTask(task);
+            long tick = hudTick[0]++;
+            int period = hudRenderer.periodFor(runs.size());
+            long now = System.nanoTime();
+            for (TimeTrialRun run : runs) {
+                if ((tick + run.getHudSlot()) % period != 0) {
+                    continue;
                 }
-                freezeTasks.remove(uuid, handle);
-            }
-        };
-
-        holder[0] = runnable.runTaskTimer(plugin, 0L, 1L);
-        handle.task = holder[0];
-        if (activeArena != null) {
-            activeArena.registerTask(holder[0]);
-        }
-    }
-
-    private void stopFreezeTask(UUID uuid) {
-        if (uuid == null) {
-            return;
-        }
-        FreezeHandle handle = freezeTasks.remove(uuid);
-        if (handle != null && handle.task != null) {
-            handle.task.cancel();
-        }
-    }
-
-    private void sendHud(Player runner, long elapsed, long best) {
-        StringBuilder builder = new StringBuilder();
-        builder.append(ChatColor.GRAY).append("Time ")
-                .append(ChatColor.AQUA).append(formatDuration(elapsed));
-
-        if (best > 0) {
-            builder.append(ChatColor.DARK_GRAY).append("  PB ")
-                    .append(ChatColor.GOLD).append(formatDuration(best));
-            long delta = elapsed - best;
-            if (Math.abs(delta) >= MIN_DELTA_DISPLAY_MILLIS) {
-                ChatColor color = delta < 0 ? ChatColor.GREEN : ChatColor.RED;
-                String prefix = delta < 0 ? "-" : "+";
-                builder.append(color)
-                        .append(" (")
-                        .append(prefix)
-                        .append(formatDuration(Math.abs(delta)))
-                        .append(")");
+                UUID uuid = run.getPlayerId();
+                Player runner = Bukkit.getPlayer(uuid);
+                if (runner == null || !runner.isOnline() || !activeArena.isRunner(uuid)) {
+                    activeArena.removeTimeTrialRun(uuid);
+                    continue;
+                }
+                hudRenderer.render(runner, run.getHudFrame(), run.getElapsedMillis(now));
             }
-        }
-
-        runner.spigot().sendMessage(ChatMessageType.ACTION_BAR, toLegacyComponents(builder.toString()));
+        });
+        activeArena.setTimeTrialHud(hud);
     }
 
     private void sendCountdownActionBar(Player runner, int remaining) {
@@ -435,17 +308,6 @@ public final class TimeTrialService {
         return TextComponent.fromLegacyText(message);
     }
 
-    private static final class FreezeHandle {
-        final ActiveArena arena;
-        final Location anchor;
-        BukkitTask task;
-
-        FreezeHandle(ActiveArena arena, Location anchor) {
-            this.arena = arena;
-            this.anchor = anchor;
-        }
-    }
-
     record TimeTrialResult(long elapsedMillis, boolean personalBest, int rank, long bestMillis) {
     }
 }
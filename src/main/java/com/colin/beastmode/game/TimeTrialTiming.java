@@ -0,0 +1,63 @@
+package com.colin.beastmode.game;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Turns a run's monotonic start/finish samples into a leaderboard time according to the configured policy.
+ */
+final class TimeTrialTiming {
+
+    static final long TICK_NANOS = 50_000_000L;
+
+    enum Policy {
+        /** Monotonic elapsed time, stalls included. */
+        RAW,
+        /** Server ticks elapsed multiplied by the nominal tick length. */
+        TICK,
+        /** Monotonic elapsed time minus the tick overruns observed during the run. */
+        LAG_COMPENSATED;
+
+        static Policy fromConfig(String value) {
+            if (value == null) {
+                return LAG_COMPENSATED;
+            }
+            return switch (value.trim().toLowerCase(Locale.ROOT).replace('_', '-')) {
+                case "raw" -> RAW;
+                case "tick", "ticks" -> TICK;
+                default -> LAG_COMPENSATED;
+            };
+        }
+    }
+
+    private final Policy policy;
+
+    TimeTrialTiming(Policy policy) {
+        this.policy = Objects.requireNonNull(policy, "policy");
+    }
+
+    Policy getPolicy() {
+        return policy;
+    }
+
+    Measurement measure(TimeTrialRun run, ArenaClock clock) {
+        if (run == null || clock == null) {
+            return new Measurement(0L, 0L, 0L, 0L);
+        }
+        long rawNanos = Math.max(0L, System.nanoTime() - run.getStartNanos());
+        long ticks = Math.max(0L, clock.getTickCount() - run.getStartTick());
+        long lagNanos = Math.min(rawNanos, Math.max(0L, clock.getLagNanos() - run.getStartLagNanos()));
+        long resultNanos = switch (policy) {
+            case RAW -> rawNanos;
+            case TICK -> ticks * TICK_NANOS;
+            case LAG_COMPENSATED -> rawNanos - lagNanos;
+        };
+        return new Measurement(resultNanos / 1_000_000L, rawNanos / 1_000_000L, ticks, lagNanos / 1_000_000L);
+    }
+
+    /**
+     * Outcome of one run: the time that counts, the uncorrected monotonic time, ticks elapsed and lag observed.
+     */
+    record Measurement(long resultMillis, long rawMillis, long ticks, long lagMillis) {
+    }
+}
@@ -0,0 +1,258 @@
+package com.colin.beastmode.game;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Hierarchical timing wheel that fires tick-based timers in deadline, then scheduling, order.
+ */
+final class TimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOT_COUNT = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOT_COUNT - 1;
+    private static final int LEVELS = 3;
+
+    private final Bucket[][] wheels = new Bucket[LEVELS][SLOT_COUNT];
+    private final Bucket overflow = new Bucket();
+    private final Logger logger;
+    private long currentTick;
+    private long nextSequence;
+    private int pending;
+    private Entry firing;
+
+    TimingWheel(Logger logger) {
+        this.logger = Objects.requireNonNull(logger, "logger");
+        for (Bucket[] wheel : wheels) {
+            for (int slot = 0; slot < SLOT_COUNT; slot++) {
+                wheel[slot] = new Bucket();
+            }
+        }
+    }
+
+    ArenaTimer schedule(long delayTicks, long periodTicks, Consumer<ArenaTimer> action) {
+        Objects.requireNonNull(action, "action");
+        Entry entry = new Entry(currentTick + Math.max(delayTicks, 1L), Math.max(periodTicks, 0L),
+                nextSequence++, action);
+        place(entry);
+        return entry;
+    }
+
+    void advance() {
+        currentTick++;
+        if ((currentTick & SLOT_MASK) == 0) {
+            cascade(1);
+        }
+
+        Bucket bucket = wheels[0][(int) (currentTick & SLOT_MASK)];
+        Entry entry;
+        while ((entry = bucket.poll()) != null) {
+            pending--;
+            fire(entry);
+        }
+    }
+
+    void cancelAll() {
+        for (Bucket[] wheel : wheels) {
+            for (Bucket bucket : wheel) {
+                cancelChain(bucket.detachAll());
+            }
+        }
+        cancelChain(overflow.detachAll());
+        if (firing != null) {
+            firing.cancelled = true;
+        }
+        pending = 0;
+    }
+
+    long getCurrentTick() {
+        return currentTick;
+    }
+
+    int size() {
+        return pending;
+    }
+
+    boolean isEmpty() {
+        return pending == 0;
+    }
+
+    private void fire(Entry entry) {
+        firing = entry;
+        try {
+            entry.action.accept(entry);
+        } catch (RuntimeException ex) {
+            logger.log(Level.SEVERE, "Arena timer threw an exception", ex);
+        } finally {
+            firing = null;
+        }
+
+        if (entry.cancelled) {
+            return;
+        }
+        if (entry.period > 0) {
+            entry.deadline += entry.period;
+            place(entry);
+        } else {
+            entry.completed = true;
+        }
+    }
+
+    private void cancel(Entry entry) {
+        if (entry.cancelled || entry.completed) {
+            return;
+        }
+        entry.cancelled = true;
+        if (entry.bucket != null) {
+            entry.bucket.unlink(entry);
+            pending--;
+        }
+    }
+
+    private void place(Entry entry) {
+        long delta = entry.deadline - currentTick;
+        Bucket bucket;
+        if (delta < SLOT_COUNT) {
+            bucket = wheels[0][(int) (entry.deadline & SLOT_MASK)];
+        } else if (delta < 1L << (SLOT_BITS * 2)) {
+            bucket = wheels[1][(int) ((entry.deadline >>> SLOT_BITS) & SLOT_MASK)];
+        } else if (delta < 1L << (SLOT_BITS * 3)) {
+            bucket = wheels[2][(int) ((entry.deadline >>> (SLOT_BITS * 2)) & SLOT_MASK)];
+        } else {
+            bucket = overflow;
+        }
+        bucket.insert(entry);
+        pending++;
+    }
+
+    private void cascade(int level) {
+        if (level == LEVELS) {
+            redistribute(overflow);
+            return;
+        }
+        int slot = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        if (slot == 0) {
+            cascade(level + 1);
+        }
+        redistribute(wheels[level][slot]);
+    }
+
+    private void redistribute(Bucket bucket) {
+        Entry entry = bucket.detachAll();
+        while (entry != null) {
+            Entry next = entry.next;
+            entry.next = null;
+            entry.prev = null;
+            pending--;
+            place(entry);
+            entry = next;
+        }
+    }
+
+    private void cancelChain(Entry entry) {
+        while (entry != null) {
+            Entry next = entry.next;
+            entry.next = null;
+            entry.prev = null;
+            entry.cancelled = true;
+            entry = next;
+        }
+    }
+
+    private final class Entry implements ArenaTimer {
+        private final long period;
+        private final long sequence;
+        private final Consumer<ArenaTimer> action;
+        private long deadline;
+        private boolean cancelled;
+        private boolean completed;
+        private Bucket bucket;
+        private Entry prev;
+        private Entry next;
+
+        private Entry(long deadline, long period, long sequence, Consumer<ArenaTimer> action) {
+            this.deadline = deadline;
+            this.period = period;
+            this.sequence = sequence;
+            this.action = action;
+        }
+
+        @Override
+        public void cancel() {
+            TimingWheel.this.cancel(this);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private static final class Bucket {
+        private Entry head;
+        private Entry tail;
+
+        void insert(Entry entry) {
+            entry.bucket = this;
+            Entry after = tail;
+            while (after != null && after.sequence > entry.sequence) {
+                after = after.prev;
+            }
+            if (after == null) {
+                entry.prev = null;
+                entry.next = head;
+                if (head != null) {
+                    head.prev = entry;
+                } else {
+                    tail = entry;
+                }
+                head = entry;
+                return;
+            }
+            entry.prev = after;
+            entry.next = after.next;
+            if (after.next != null) {
+                after.next.prev = entry;
+            } else {
+                tail = entry;
+            }
+            after.next = entry;
+        }
+
+        void unlink(Entry entry) {
+            if (entry.prev != null) {
+                entry.prev.next = entry.next;
+            } else {
+                head = entry.next;
+            }
+            if (entry.next != null) {
+                entry.next.prev = entry.prev;
+            } else {
+                tail = entry.prev;
+            }
+            entry.prev = null;
+            entry.next = null;
+            entry.bucket = null;
+        }
+
+        Entry poll() {
+            Entry entry = head;
+            if (entry != null) {
+                unlink(entry);
+            }
+            return entry;
+        }
+
+        Entry detachAll() {
+            Entry first = head;
+            for (Entry entry = first; entry != null; entry = entry.next) {
+                entry.bucket = null;
+            }
+            head = null;
+            tail = null;
+            return first;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.colin.beastmode.game;
+
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Queues teleports and game mode changes and applies them in submission order under a per-tick budget, so a full
+ * arena moving at once is spread over several ticks instead of one spike. Shared spawn points can be jittered to
+ * spread the players (and their chunk sends) across neighbouring blocks. Main-thread only.
+ */
+final class TransitionScheduler {
+
+    static final int DEFAULT_PER_TICK = 10;
+    static final double DEFAULT_JITTER = 1.5D;
+
+    private final TaskRegistry tasks;
+    private final ArrayDeque<Transition> pending = new ArrayDeque<>();
+    private int perTick;
+    private double jitter;
+    private TaskRegistry.Handle drainTask;
+    private long applied;
+    private long dropped;
+
+    TransitionScheduler(TaskRegistry tasks, int perTick, double jitter) {
+        this.tasks = Objects.requireNonNull(tasks, "tasks");
+        configure(perTick, jitter);
+    }
+
+    void configure(int perTick, double jitter) {
+        this.perTick = perTick > 0 ? perTick : DEFAULT_PER_TICK;
+        this.jitter = Math.max(0.0D, jitter);
+    }
+
+    /**
+     * Queues a move for {@code player}: a dead player is respawned first, then teleported to {@code destination}
+     * (if any), switched to {@code mode} (if any) and handed to {@code arrival}. Entries owned by an arena are
+     * skipped once the player is no longer part of it. Runs no earlier than the next tick.
+     */
+    void submit(ActiveArena owner, Player player, Location destination, boolean spread, GameMode mode,
+                Consumer<Player> arrival) {
+        if (player == null) {
+            return;
+        }
+        Location target = destination != null ? destination.clone() : null;
+        enqueue(new Transition(owner, player, target, spread, mode, arrival, null));
+    }
+
+    /**
+     * Runs {@code action} right after every transition queued so far has been applied; dropped with the owner's
+     * other entries by {@link #cancel(ActiveArena)}.
+     */
+    void afterQueued(ActiveArena owner, Runnable action) {
+        enqueue(new Transition(owner, null, null, false, null, null, Objects.requireNonNull(action, "action")));
+    }
+
+    /**
+     * Drops every queued entry owned by {@code owner}.
+     */
+    void cancel(ActiveArena owner) {
+        if (owner == null) {
+            return;
+        }
+        int before = pending.size();
+        pending.removeIf(transition -> transition.owner == owner);
+        dropped += before - pending.size();
+    }
+
+    int pendingTransitions() {
+        return pending.size();
+    }
+
+    long appliedTransitions() {
+        return applied;
+    }
+
+    long droppedTransitions() {
+        return dropped;
+    }
+
+    private void enqueue(Transition transition) {
+        pending.addLast(transition);
+        if (drainTask == null || drainTask.isCancelled()) {
+            drainTask = tasks.runGlobal("transition-drain", 1L, 1L, this::drain);
+        }
+    }
+
+    private void drain() {
+        int budget = perTick;
+        while (budget > 0 && !pending.isEmpty()) {
+            Transition transition = pending.pollFirst();
+            if (transition.marker != null) {
+                transition.marker.run();
+                continue;
+            }
+            if (transition.apply(jitter)) {
+                applied++;
+                budget--;
+            } else {
+                dropped++;
+            }
+        }
+        // Markers queued behind the last move of this tick run now rather than a tick later.
+        while (!pending.isEmpty() && pending.peekFirst().marker != null) {
+            pending.pollFirst().marker.run();
+        }
+        if (pending.isEmpty() && drainTask != null) {
+            drainTask.cancel();
+            drainTask = null;
+        }
+    }
+
+    private static Location spread(Location origin, double radius) {
+        if (radius <= 0.0D || origin.getWorld() == null) {
+            return origin;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Location candidate = origin.clone().add(random.nextDouble(-radius, radius), 0.0D,
+                random.nextDouble(-radius, radius));
+        Block feet = candidate.getBlock();
+        if (feet.getType().isSolid() || feet.getRelative(0, 1, 0).getType().isSolid()
+                || !feet.getRelative(0, -1, 0).getType().isSolid()) {
+            return origin;
+        }
+        return candidate;
+    }
+
+    private record Transition(ActiveArena owner, Player player, Location destination, boolean spread, GameMode mode,
+                              Consumer<Player> arrival, Runnable marker) {
+
+        /**
+         * Applies the move; returns false when the player is offline or has left the owning arena.
+         */
+        private boolean apply(double jitter) {
+            if (!player.isOnline() || (owner != null && !owner.contains(player.getUniqueId()))) {
+                return false;
+            }
+            if (player.isDead()) {
+                try {
+                    player.spigot().respawn();
+                } catch (Exception ignored) {
+                    // Not every implementation supports force respawn.
+                }
+            }
+            if (destination != null) {
+                player.teleport(spread ? TransitionScheduler.spread(destination, jitter) : destination);
+            }
+            if (mode != null) {
+                player.setGameMode(mode);
+            }
+            if (arrival != null) {
+                arrival.accept(player);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.colin.beastmode.game;
+
+import com.colin.beastmode.Beastmode;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Members of a group cannot see each other. Joining or leaving queues only the pairs involving that player,
+ * and the queue is drained under a per-tick budget; a queued change that is reversed before it runs is dropped.
+ * Main-thread only.
+ */
+final class VisibilityGroups {
+
+    static final int OPERATIONS_PER_TICK = 120;
+
+    private final Beastmode plugin;
+    private final TaskRegistry tasks;
+    private final Map<Object, Map<UUID, Player>> groups = new HashMap<>();
+    private final Map<UUID, Object> memberships = new HashMap<>();
+    private final Map<Pair, Operation> pending = new LinkedHashMap<>();
+    private TaskRegistry.Handle drainTask;
+    private long applied;
+    private long cancelled;
+
+    VisibilityGroups(Beastmode plugin, TaskRegistry tasks) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+        this.tasks = Objects.requireNonNull(tasks, "tasks");
+    }
+
+    /**
+     * Adds {@code player} to {@code group}, leaving any other group first.
+     */
+    void join(Object group, Player player) {
+        Objects.requireNonNull(group, "group");
+        if (player == null || !player.isOnline()) {
+            return;
+        }
+        UUID playerId = player.getUniqueId();
+        Object current = memberships.get(playerId);
+        if (group.equals(current)) {
+            return;
+        }
+        if (current != null) {
+            leave(player);
+        }
+        Map<UUID, Player> members = groups.computeIfAbsent(group, key -> new LinkedHashMap<>());
+        for (Player member : members.values()) {
+            enqueue(player, member, true);
+            enqueue(member, player, true);
+        }
+        members.put(playerId, player);
+        memberships.put(playerId, group);
+    }
+
+    void leave(Player player) {
+        if (player == null) {
+            return;
+        }
+        UUID playerId = player.getUniqueId();
+        Object group = memberships.remove(playerId);
+        Map<UUID, Player> members = group != null ? groups.get(group) : null;
+        if (members == null) {
+            return;
+        }
+        members.remove(playerId);
+        for (Player member : members.values()) {
+            enqueue(player, member, false);
+            enqueue(member, player, false);
+        }
+        if (members.isEmpty()) {
+            groups.remove(group);
+        }
+    }
+
+    /**
+     * Removes every member of {@code group}, making them visible to each other again.
+     */
+    void dissolve(Object group) {
+        Map<UUID, Player> members = group != null ? groups.get(group) : null;
+        if (members == null) {
+            return;
+        }
+        for (Player member : members.values().toArray(new Player[0])) {
+            leave(member);
+        }
+    }
+
+    int pendingOperations() {
+        return pending.size();
+    }
+
+    long appliedOperations() {
+        return applied;
+    }
+
+    long cancelledOperations() {
+        return cancelled;
+    }
+
+    private void enqueue(Player viewer, Player target, boolean hide) {
+        Pair pair = new Pair(viewer.getUniqueId(), target.getUniqueId());
+        Operation queued = pending.remove(pair);
+        if (queued != null && queued.hide != hide) {
+            cancelled++;
+            return;
+        }
+        pending.put(pair, new Operation(viewer, target, hide));
+        if (drainTask == null || drainTask.isCancelled()) {
+            drainTask = tasks.runGlobal("visibility-drain", 0L, 1L, this::drain);
+        }
+    }
+
+    private void drain() {
+        int budget = OPERATIONS_PER_TICK;
+        Iterator<Operation> iterator = pending.values().iterator();
+        while (budget > 0 && iterator.hasNext()) {
+            Operation operation = iterator.next();
+            iterator.remove();
+            if (operation.apply(plugin)) {
+                applied++;
+                budget--;
+            }
+        }
+        if (pending.isEmpty() && drainTask != null) {
+            drainTask.cancel();
+            drainTask = null;
+        }
+    }
+
+    private record Pair(UUID viewer, UUID target) {
+    }
+
+    private record Operation(Player viewer, Player target, boolean hide) {
+
+        /**
+         * Applies the change; returns false when the viewer (or, for a hide, the target) is offline.
+         */
+        private boolean apply(Beastmode plugin) {
+            if (!viewer.isOnline()) {
+                return false;
+            }
+            if (hide) {
+                if (!target.isOnline()) {
+                    return false;
+                }
+                viewer.hidePlayer(plugin, target);
+            } else {
+                viewer.showPlayer(plugin, target);
+            }
+            return true;
+        }
+    }
+}
@@ -1,11 +1,9 @@
 package com.colin.beastmode.listeners;
 
 import com.colin.beastmode.game.GameManager;
-import org.bukkit.ChatColor;
+import com.colin.beastmode.game.ManagedItemType;
+import org.bukkit.Location;
 import org.bukkit.block.Block;
-import org.bukkit.block.Sign;
-import org.bukkit.block.sign.Side;
-import org.bukkit.block.sign.SignSide;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -28,13 +26,20 @@ import org.bukkit.inventory.ItemStack;
 public class GameListener implements Listener {
 
     private final GameManager gameManager;
+    private final SignListener signListener;
 
-    public GameListener(GameManager gameManager) {
+    public GameListener(GameManager gameManager, SignListener signListener) {
         this.gameManager = gameManager;
+        this.signListener = signListener;
     }
 
     @EventHandler(ignoreCancelled = true)
     public void onPlayerMove(PlayerMoveEvent event) {
+        Location correction = gameManager.resolveFreezeCorrection(event.getPlayer(), event.getTo());
+        if (correction != null) {
+            event.setTo(correction);
+            return;
+        }
         gameManager.handlePlayerMove(event.getPlayer(), event.getFrom(), event.getTo());
     }
 
@@ -70,44 +75,33 @@ public class GameListener implements Listener {
 
         ItemStack main = player.getInventory().getItemInMainHand();
         ItemStack off = player.getInventory().getItemInOffHand();
+        ManagedItemType held = hand == EquipmentSlot.HAND ? gameManager.classifyItem(main)
+                : hand == EquipmentSlot.OFF_HAND ? gameManager.classifyItem(off)
+                : ManagedItemType.NONE;
 
         if (action == Action.RIGHT_CLICK_AIR || action == Action.RIGHT_CLICK_BLOCK) {
-            if (hand == EquipmentSlot.HAND && gameManager.isPreferenceSelector(main)) {
-                event.setCancelled(true);
-                gameManager.handlePreferenceItemUse(player, main);
-                return;
-            }
-            if (hand == EquipmentSlot.OFF_HAND && gameManager.isPreferenceSelector(off)) {
+            if (held == ManagedItemType.PREFERENCE_SELECTOR) {
                 event.setCancelled(true);
-                gameManager.handlePreferenceItemUse(player, off);
+                gameManager.handlePreferenceItemUse(player, hand == EquipmentSlot.HAND ? main : off);
                 return;
             }
-            if (hand == EquipmentSlot.HAND && gameManager.isTimeTrialRestartItem(main)) {
-                event.setCancelled(true);
-                gameManager.handleTimeTrialRestart(player);
-                return;
-            }
-            if (hand == EquipmentSlot.OFF_HAND && gameManager.isTimeTrialRestartItem(off)) {
+            if (held == ManagedItemType.TIME_TRIAL_RESTART) {
                 event.setCancelled(true);
                 gameManager.handleTimeTrialRestart(player);
                 return;
             }
         }
 
-        boolean usingExitToken = false;
-        if (hand == EquipmentSlot.HAND) {
-            usingExitToken = gameManager.isExitToken(main);
-        } else if (hand == EquipmentSlot.OFF_HAND) {
-            usingExitToken = gameManager.isExitToken(off);
-        } else {
-            usingExitToken = gameManager.isExitToken(main) || gameManager.isExitToken(off);
-        }
+        boolean usingExitToken = hand != null
+                ? held == ManagedItemType.EXIT_TOKEN
+                : gameManager.classifyItem(main) == ManagedItemType.EXIT_TOKEN
+                        || gameManager.classifyItem(off) == ManagedItemType.EXIT_TOKEN;
 
         boolean inArena = gameManager.isPlayerInArena(player.getUniqueId());
         Block clickedBlock = event.getClickedBlock();
 
         if (usingExitToken && inArena) {
-            if (event.getAction() == Action.RIGHT_CLICK_BLOCK && isJoinSign(clickedBlock)) {
+            if (event.getAction() == Action.RIGHT_CLICK_BLOCK && signListener.isJoinSign(clickedBlock)) {
                 // Allow the join sign to process without triggering the exit token.
             } else {
                 event.setCancelled(true);
@@ -169,7 +163,7 @@ public class GameListener implements Listener {
 
     @EventHandler(ignoreCancelled = true)
     public void onPlayerDrop(PlayerDropItemEvent event) {
-        if (gameManager.isManagedItem(event.getItemDrop().getItemStack())) {
+        if (gameManager.classifyItem(event.getItemDrop().getItemStack()).isManaged()) {
             event.setCancelled(true);
         }
     }
@@ -179,7 +173,8 @@ public class GameListener implements Listener {
         if (!(event.getWhoClicked() instanceof Player)) {
             return;
         }
-        if (gameManager.isManagedItem(event.getCurrentItem()) || gameManager.isManagedItem(event.getCursor())) {
+        if (gameManager.classifyItem(event.getCurrentItem()).isManaged()
+                || gameManager.classifyItem(event.getCursor()).isManaged()) {
             event.setCancelled(true);
         }
     }
@@ -190,25 +185,10 @@ public class GameListener implements Listener {
             return;
         }
         for (ItemStack stack : event.getNewItems().values()) {
-            if (gameManager.isManagedItem(stack)) {
+            if (gameManager.classifyItem(stack).isManaged()) {
                 event.setCancelled(true);
                 return;
             }
         }
     }
-
-    private boolean isJoinSign(Block block) {
-        if (block == null) {
-            return false;
-        }
-        if (!(block.getState() instanceof Sign sign)) {
-            return false;
-        }
-        SignSide front = sign.getSide(Side.FRONT);
-        String header = front.getLine(0);
-        if (header == null) {
-            return false;
-        }
-        return ChatColor.stripColor(header).equalsIgnoreCase("[beastmode]");
-    }
 }
@@ -0,0 +1,40 @@
+package com.colin.beastmode.listeners;
+
+import org.bukkit.Bukkit;
+import org.bukkit.block.Block;
+
+/**
+ * World coordinates of a tracked join sign.
+ */
+record SignKey(String world, int x, int y, int z) {
+
+    static SignKey fromBlock(Block block) {
+        if (block == null) {
+            return null;
+        }
+        return new SignKey(block.getWorld().getName(), block.getX(), block.getY(), block.getZ());
+    }
+
+    ChunkKey chunk() {
+        return new ChunkKey(world, x >> 4, z >> 4);
+    }
+
+    boolean isChunkLoaded() {
+        var worldInstance = world != null ? Bukkit.getWorld(world) : null;
+        return worldInstance != null && worldInstance.isChunkLoaded(x >> 4, z >> 4);
+    }
+
+    /**
+     * Returns the block without checking its chunk; only call for signs in the active (loaded) set.
+     */
+    Block block() {
+        var worldInstance = world != null ? Bukkit.getWorld(world) : null;
+        return worldInstance != null ? worldInstance.getBlockAt(x, y, z) : null;
+    }
+
+    /**
+     * A world chunk holding one or more tracked signs.
+     */
+    record ChunkKey(String world, int x, int z) {
+    }
+}
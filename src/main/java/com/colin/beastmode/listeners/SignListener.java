@@ -3,44 +3,59 @@ package com.colin.beastmode.listeners;
 import com.colin.beastmode.game.ArenaStatus;
 import com.colin.beastmode.game.GameManager;
 import com.colin.beastmode.game.GameModeType;
+import com.colin.beastmode.game.TaskRegistry;
 import com.colin.beastmode.model.ArenaDefinition;
 import com.colin.beastmode.storage.ArenaStorage;
-import org.bukkit.Bukkit;
+import com.colin.beastmode.storage.SignStorage;
+import com.colin.beastmode.storage.SignStorage.StoredSign;
 import org.bukkit.ChatColor;
-import org.bukkit.Location;
 import org.bukkit.block.Block;
 import org.bukkit.block.Sign;
 import org.bukkit.block.sign.Side;
 import org.bukkit.block.sign.SignSide;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.Chunk;
+import org.bukkit.Tag;
 import org.bukkit.event.block.SignChangeEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
 
-import java.util.Iterator;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 public class SignListener implements Listener {
 
-    private static final String SIGN_KEY_HUNT = ChatColor.BLUE + "[Beastmode]";
-    private static final String SIGN_KEY_TRIAL = ChatColor.GREEN + "[Trial]";
-    private static final long REFRESH_INTERVAL_TICKS = 60L;
+    private static final long SAVE_DELAY_TICKS = 40L;
+
     private final ArenaStorage arenaStorage;
+    private final SignStorage signStorage;
     private final GameManager gameManager;
     private final String prefix;
-    private final Map<SignKey, SignRegistration> trackedSigns = new ConcurrentHashMap<>();
-
-    public SignListener(JavaPlugin plugin, ArenaStorage arenaStorage, GameManager gameManager, String prefix) {
+    private final SignRenderer renderer = new SignRenderer();
+    private final Map<SignKey, SignRegistration> trackedSigns = new HashMap<>();
+    private final Map<SignKey.ChunkKey, Set<SignKey>> signsByChunk = new HashMap<>();
+    private final Map<SignKey, SignRegistration> activeSigns = new HashMap<>();
+    private final Map<String, Set<SignKey>> activeByArena = new HashMap<>();
+    private final Map<SignKey.ChunkKey, Set<SignKey>> plainSigns = new HashMap<>();
+    private TaskRegistry.Handle pendingSave;
+
+    public SignListener(ArenaStorage arenaStorage, SignStorage signStorage, GameManager gameManager, String prefix) {
         this.arenaStorage = arenaStorage;
+        this.signStorage = signStorage;
         this.gameManager = gameManager;
         this.prefix = prefix;
-        plugin.getServer().getScheduler().runTaskTimer(plugin, this::refreshTrackedSigns,
-                REFRESH_INTERVAL_TICKS, REFRESH_INTERVAL_TICKS);
+        loadStoredSigns();
     this.gameManager.registerStatusListener(this::handleArenaStatusChange);
     }
 
@@ -57,6 +72,10 @@ public class SignListener implements Listener {
         if (!huntHeader && !trialHeader) {
             return;
         }
+        SignKey signKey = SignKey.fromBlock(event.getBlock());
+        if (signKey != null) {
+            removeFromIndex(plainSigns, signKey.chunk(), signKey);
+        }
 
         GameModeType mode = determineMode(rawHeader, event.getLine(2), event.getLine(3));
 
@@ -68,7 +87,7 @@ public class SignListener implements Listener {
         String arenaName = event.getLine(1) != null ? event.getLine(1).trim() : "";
         if (arenaName.isEmpty()) {
             player.sendMessage(prefix + ChatColor.RED + "Specify an arena name on the second line.");
-            event.setLine(0, headerFor(mode));
+            event.setLine(0, renderer.headerFor(mode));
             event.setLine(1, ChatColor.RED + "<arena>");
             return;
         }
@@ -76,7 +95,7 @@ public class SignListener implements Listener {
         ArenaDefinition arena = arenaStorage.getArena(arenaName);
         if (arena == null) {
             player.sendMessage(prefix + ChatColor.RED + "Arena '" + arenaName + "' does not exist.");
-            event.setLine(0, headerFor(mode));
+            event.setLine(0, renderer.headerFor(mode));
             event.setLine(1, ChatColor.RED + "Unknown");
             event.setLine(2, ChatColor.GRAY + "Click to join");
             return;
@@ -84,7 +103,7 @@ public class SignListener implements Listener {
 
         ArenaStatus status = gameManager.getArenaStatus(arena.getName(), mode);
         applyLines(event, status, mode);
-        registerSign(event.getBlock(), arena.getName(), mode);
+        renderer.forget(registerSign(event.getBlock(), arena.getName(), mode));
         if (mode.isTimeTrial()) {
             player.sendMessage(prefix + ChatColor.GREEN + "Time trial sign created for arena '" + arena.getName() + "'.");
         } else {
@@ -99,194 +118,232 @@ public class SignListener implements Listener {
         }
 
         Block block = event.getClickedBlock();
-        if (block == null) {
+        if (block == null || !Tag.ALL_SIGNS.isTagged(block.getType())) {
             return;
         }
 
-        if (!(block.getState() instanceof Sign sign)) {
-            return;
-        }
-
-        SignSide front = sign.getSide(Side.FRONT);
-        if (front == null) {
-            return;
-        }
-
-        String header = front.getLine(0);
-        if (header == null) {
+        SignKey key = SignKey.fromBlock(block);
+        if (key == null) {
             return;
         }
-
-        String strippedHeader = ChatColor.stripColor(header);
-        if (!strippedHeader.equalsIgnoreCase("[beastmode]")
-                && !strippedHeader.equalsIgnoreCase("[trial]")
-                && !strippedHeader.equalsIgnoreCase("[timetrial]")) {
-            return;
+        SignRegistration registration = trackedSigns.get(key);
+        if (registration == null) {
+            registration = adoptLegacySign(key, block, event);
+            if (registration == null) {
+                return;
+            }
         }
 
-        GameModeType mode = resolveMode(sign, front);
-
         event.setCancelled(true);
         Player player = event.getPlayer();
-        String arenaName = ChatColor.stripColor(front.getLine(1));
-        if (arenaName == null || arenaName.isBlank()) {
-            player.sendMessage(prefix + ChatColor.RED + "This sign is missing an arena name.");
+        ArenaDefinition arena = arenaStorage.getArena(registration.arenaName());
+        if (arena == null) {
+            player.sendMessage(prefix + ChatColor.RED + "Arena '" + registration.arenaName() + "' no longer exists.");
             return;
         }
-
-        ArenaDefinition arena = arenaStorage.getArena(arenaName);
-        if (arena == null) {
-            applyMissing(front, mode);
-            applyMissing(sign.getSide(Side.BACK), mode);
-            registerSign(block, arenaName, mode);
-            sign.update();
-            player.sendMessage(prefix + ChatColor.RED + "Arena '" + arenaName + "' no longer exists.");
+        if (!isStillSign(key, registration)) {
+            untrack(key);
             return;
         }
 
-        registerSign(block, arena.getName(), mode);
-        updateSign(sign, arena.getName(), mode);
-        if (mode.isTimeTrial()) {
+        // The join publishes a new status; the batched status notification re-renders this sign.
+        if (registration.mode().isTimeTrial()) {
             gameManager.joinTimeTrial(player, arena.getName());
         } else {
             gameManager.joinArena(player, arena.getName());
         }
-        updateSign(sign, arena.getName(), mode);
+    }
+
+    /**
+     * Registers a join sign written before signs were persisted, read from its header once. Signs without a
+     * Beastmode header are remembered until their chunk unloads so later clicks skip the block state snapshot.
+     */
+    private SignRegistration adoptLegacySign(SignKey key, Block block, PlayerInteractEvent event) {
+        Set<SignKey> plain = plainSigns.get(key.chunk());
+        if (plain != null && plain.contains(key)) {
+            return null;
+        }
+        if (!(block.getState() instanceof Sign sign)) {
+            return null;
+        }
+        SignSide front = sign.getSide(Side.FRONT);
+        String header = front != null ? strip(front.getLine(0)) : "";
+        if (!header.equalsIgnoreCase("[beastmode]")
+                && !header.equalsIgnoreCase("[trial]")
+                && !header.equalsIgnoreCase("[timetrial]")) {
+            plainSigns.computeIfAbsent(key.chunk(), k -> new HashSet<>()).add(key);
+            return null;
+        }
+
+        String arenaName = strip(front.getLine(1));
+        if (arenaName.isEmpty()) {
+            event.setCancelled(true);
+            event.getPlayer().sendMessage(prefix + ChatColor.RED + "This sign is missing an arena name.");
+            return null;
+        }
+        GameModeType mode = determineMode(front.getLine(0), front.getLine(2), front.getLine(3));
+        ArenaDefinition arena = arenaStorage.getArena(arenaName);
+        registerSign(block, arena != null ? arena.getName() : arenaName, mode);
+        return trackedSigns.get(key);
     }
 
     private void applyLines(SignChangeEvent event, ArenaStatus status, GameModeType mode) {
-        if (!status.isAvailable()) {
-            event.setLine(0, headerFor(mode));
-            event.setLine(1, ChatColor.RED + "Unknown");
-            event.setLine(2, ChatColor.DARK_RED + "Arena missing");
-            event.setLine(3, ChatColor.RED + "Status: Offline");
-            return;
+        String[] lines = renderer.lines(status, mode);
+        for (int i = 0; i < lines.length; i++) {
+            event.setLine(i, lines[i]);
         }
-        event.setLine(0, headerFor(mode));
-        event.setLine(1, ChatColor.AQUA + status.getArenaName());
-        event.setLine(2, formatLineTwo(status, mode));
-        event.setLine(3, formatStatusLine(status, mode));
     }
 
-    private void updateSign(Sign sign, String arenaName, GameModeType mode) {
-        ArenaStatus status = gameManager.getArenaStatus(arenaName, mode);
-        if (!status.isAvailable()) {
-            applyMissing(sign.getSide(Side.FRONT), mode);
-            applyMissing(sign.getSide(Side.BACK), mode);
-        } else {
-            applyLines(sign.getSide(Side.FRONT), status, mode);
-            applyLines(sign.getSide(Side.BACK), status, mode);
+    private SignKey registerSign(Block block, String arenaName, GameModeType mode) {
+        SignKey key = SignKey.fromBlock(block);
+        if (key == null) {
+            return null;
+        }
+        if (arenaName == null) {
+            return null;
+        }
+        String trimmed = arenaName.trim();
+        if (trimmed.isEmpty()) {
+            return null;
         }
-        sign.update();
+        SignRegistration registration = new SignRegistration(trimmed, mode);
+        if (!registration.equals(trackedSigns.get(key))) {
+            track(key, registration);
+            activate(key);
+            persist();
+        }
+        return key;
     }
 
-    private void applyLines(SignSide side, ArenaStatus status, GameModeType mode) {
-        if (side == null) {
-            return;
+    private void loadStoredSigns() {
+        for (StoredSign stored : signStorage.loadSigns()) {
+            SignKey key = new SignKey(stored.world(), stored.x(), stored.y(), stored.z());
+            track(key, new SignRegistration(stored.arenaName(), stored.mode()));
+            if (key.isChunkLoaded()) {
+                activate(key);
+            }
+        }
+    }
+
+    private void track(SignKey key, SignRegistration registration) {
+        SignRegistration previous = trackedSigns.put(key, registration);
+        if (previous != null) {
+            deactivate(key);
+        } else {
+            signsByChunk.computeIfAbsent(key.chunk(), k -> new HashSet<>()).add(key);
         }
-        if (!status.isAvailable()) {
-            applyMissing(side, mode);
+        renderer.forget(key);
+    }
+
+    private void untrack(SignKey key) {
+        if (trackedSigns.remove(key) == null) {
             return;
         }
-        side.setLine(0, headerFor(mode));
-        side.setLine(1, ChatColor.AQUA + status.getArenaName());
-        side.setLine(2, formatLineTwo(status, mode));
-        side.setLine(3, formatStatusLine(status, mode));
+        deactivate(key);
+        removeFromIndex(signsByChunk, key.chunk(), key);
+        renderer.forget(key);
+        persist();
     }
 
-    private String formatLineTwo(ArenaStatus status, GameModeType mode) {
-        if (mode.isTimeTrial()) {
-            int count = Math.max(0, status.getPlayerCount());
-            String label = count == 1 ? "Runner" : "Runners";
-            return ChatColor.YELLOW + label + ": " + count;
+    private void activate(SignKey key) {
+        SignRegistration registration = trackedSigns.get(key);
+        if (registration != null && activeSigns.put(key, registration) == null) {
+            activeByArena.computeIfAbsent(arenaKey(registration.arenaName()), k -> new HashSet<>()).add(key);
         }
-        int count = status.getPlayerCount();
-        if (status.hasCapacityLimit() && status.getCapacity() > 0) {
-            return ChatColor.YELLOW + "Players: " + count + "/" + status.getCapacity();
+    }
+
+    private void deactivate(SignKey key) {
+        SignRegistration registration = activeSigns.remove(key);
+        if (registration != null) {
+            removeFromIndex(activeByArena, arenaKey(registration.arenaName()), key);
         }
-        return ChatColor.YELLOW + "Players: " + count;
     }
 
-    private String formatStatusLine(ArenaStatus status, GameModeType mode) {
-        if (!status.isAvailable()) {
-            return ChatColor.RED + "Status: Offline";
+    private static <K> void removeFromIndex(Map<K, Set<SignKey>> index, K indexKey, SignKey key) {
+        Set<SignKey> keys = index.get(indexKey);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            index.remove(indexKey);
         }
-        if (!status.isComplete()) {
-            return ChatColor.RED + "Status: Setup";
+    }
+
+    /**
+     * Schedules a save of the sign registry; changes made within the delay are written together.
+     */
+    private void persist() {
+        if (pendingSave == null) {
+            pendingSave = gameManager.getTaskRegistry().runGlobal("sign-save", SAVE_DELAY_TICKS, 0L, this::saveSigns);
         }
-        if (mode.isTimeTrial()) {
-            if (status.isMatchActive()) {
-                return ChatColor.AQUA + "Status: Active";
-            }
-            if (status.isRunning() || status.isSelecting()) {
-                return ChatColor.GOLD + "Status: Loading";
-            }
-            return ChatColor.GREEN + "Status: Ready";
+    }
+
+    /**
+     * Writes any pending sign changes immediately; called while the plugin disables.
+     */
+    public void flushPendingSave() {
+        if (pendingSave != null) {
+            pendingSave.cancel();
+            saveSigns();
         }
-        if (status.isMatchActive()) {
-            return mode.isTimeTrial()
-                    ? ChatColor.RED + "Status: Running"
-                    : ChatColor.RED + "Status: In-Game";
+    }
+
+    private void saveSigns() {
+        pendingSave = null;
+        List<StoredSign> stored = new ArrayList<>(trackedSigns.size());
+        for (Map.Entry<SignKey, SignRegistration> entry : trackedSigns.entrySet()) {
+            SignKey key = entry.getKey();
+            SignRegistration registration = entry.getValue();
+            stored.add(new StoredSign(key.world(), key.x(), key.y(), key.z(),
+                    registration.arenaName(), registration.mode()));
         }
-        if (status.isSelecting()) {
-            return mode.isTimeTrial()
-                    ? ChatColor.GOLD + "Status: Loading"
-                    : ChatColor.GOLD + "Status: Selecting";
+        signStorage.saveSigns(stored);
+    }
+
+    @EventHandler
+    public void onChunkLoad(ChunkLoadEvent event) {
+        Set<SignKey> keys = signsByChunk.get(chunkKey(event.getChunk()));
+        if (keys == null) {
+            return;
         }
-        if (status.isRunning()) {
-            return mode.isTimeTrial()
-                    ? ChatColor.YELLOW + "Status: Starting"
-                    : ChatColor.YELLOW + "Status: Waiting";
+        for (SignKey key : List.copyOf(keys)) {
+            activate(key);
+            refresh(key, activeSigns.get(key));
         }
-        return ChatColor.GREEN + "Status: Ready";
     }
 
-    private void applyMissing(SignSide side, GameModeType mode) {
-        if (side == null) {
+    @EventHandler
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        SignKey.ChunkKey chunk = chunkKey(event.getChunk());
+        plainSigns.remove(chunk);
+        Set<SignKey> keys = signsByChunk.get(chunk);
+        if (keys == null) {
             return;
         }
-        side.setLine(0, headerFor(mode));
-        side.setLine(1, ChatColor.RED + "Unknown");
-        side.setLine(2, ChatColor.DARK_RED + "Arena missing");
-        side.setLine(3, ChatColor.RED + "Status: Offline");
+        for (SignKey key : keys) {
+            deactivate(key);
+        }
     }
 
-    private void registerSign(Block block, String arenaName, GameModeType mode) {
+    /**
+     * Stops tracking a join sign as soon as it is broken; signs removed any other way are dropped the next time a
+     * status change finds their block is no longer a sign.
+     */
+    @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
+    public void onBlockBreak(BlockBreakEvent event) {
+        Block block = event.getBlock();
+        if (!Tag.ALL_SIGNS.isTagged(block.getType())) {
+            return;
+        }
         SignKey key = SignKey.fromBlock(block);
         if (key == null) {
             return;
         }
-        if (arenaName == null) {
-            return;
+        removeFromIndex(plainSigns, key.chunk(), key);
+        if (trackedSigns.containsKey(key)) {
+            untrack(key);
         }
-        String trimmed = arenaName.trim();
-        if (trimmed.isEmpty()) {
-            return;
-        }
-        trackedSigns.put(key, new SignRegistration(trimmed, mode));
     }
 
-    private void refreshTrackedSigns() {
-        Iterator<Map.Entry<SignKey, SignRegistration>> iterator = trackedSigns.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<SignKey, SignRegistration> entry = iterator.next();
-            Block block = entry.getKey().block();
-            if (block == null) {
-                continue;
-            }
-            if (!(block.getState() instanceof Sign sign)) {
-                iterator.remove();
-                continue;
-            }
-
-            SignRegistration registration = entry.getValue();
-            if (registration == null || registration.arenaName() == null || registration.arenaName().isBlank()) {
-                iterator.remove();
-                continue;
-            }
-
-            updateSign(sign, registration.arenaName(), registration.mode());
-        }
+    private SignKey.ChunkKey chunkKey(Chunk chunk) {
+        return new SignKey.ChunkKey(chunk.getWorld().getName(), chunk.getX(), chunk.getZ());
     }
 
     private void handleArenaStatusChange(String arenaName) {
@@ -297,39 +354,59 @@ public class SignListener implements Listener {
         if (target.isEmpty()) {
             return;
         }
-        for (Map.Entry<SignKey, SignRegistration> entry : trackedSigns.entrySet()) {
-            SignRegistration registration = entry.getValue();
-            if (registration == null) {
-                continue;
-            }
-            String trackedArena = registration.arenaName();
-            if (trackedArena == null || !trackedArena.equalsIgnoreCase(target)) {
-                continue;
-            }
-            Block block = entry.getKey().block();
-            if (block == null) {
-                continue;
-            }
-            if (!(block.getState() instanceof Sign sign)) {
-                trackedSigns.remove(entry.getKey());
-                continue;
-            }
-            updateSign(sign, trackedArena, registration.mode());
+        Set<SignKey> keys = activeByArena.get(arenaKey(target));
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+        for (SignKey key : List.copyOf(keys)) {
+            refresh(key, activeSigns.get(key));
         }
     }
 
-    private GameModeType resolveMode(Sign sign, SignSide front) {
-        SignKey key = SignKey.fromBlock(sign.getBlock());
-        if (key != null) {
-            SignRegistration registration = trackedSigns.get(key);
-            if (registration != null && registration.mode() != null) {
-                return registration.mode();
-            }
+    private void refresh(SignKey key, SignRegistration registration) {
+        if (!isStillSign(key, registration)) {
+            untrack(key);
+        }
+    }
+
+    /**
+     * Re-renders a tracked sign if its arena's status version moved; returns false once the block is gone.
+     */
+    private boolean isStillSign(SignKey key, SignRegistration registration) {
+        if (registration == null) {
+            return false;
+        }
+        ArenaStatus status = gameManager.getArenaStatus(registration.arenaName(), registration.mode());
+        if (renderer.isCurrent(key, status, registration.mode())) {
+            return true;
+        }
+        Block block = key.block();
+        if (block == null) {
+            return true;
+        }
+        return renderer.render(key, block, status, registration.mode());
+    }
+
+    private String arenaKey(String arenaName) {
+        return arenaName.trim().toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * True for a hunt join sign; tracked signs are answered from the registry without a block state snapshot.
+     */
+    public boolean isJoinSign(Block block) {
+        if (block == null || !Tag.ALL_SIGNS.isTagged(block.getType())) {
+            return false;
         }
-        String header = front != null ? front.getLine(0) : null;
-        String line2 = front != null ? front.getLine(2) : null;
-        String line3 = front != null ? front.getLine(3) : null;
-        return determineMode(header, line2, line3);
+        SignRegistration registration = trackedSigns.get(SignKey.fromBlock(block));
+        if (registration != null) {
+            return registration.mode() == GameModeType.HUNT;
+        }
+        if (!(block.getState() instanceof Sign sign)) {
+            return false;
+        }
+        String header = sign.getSide(Side.FRONT).getLine(0);
+        return header != null && ChatColor.stripColor(header).equalsIgnoreCase("[beastmode]");
     }
 
     private GameModeType determineMode(String header, String line2, String line3) {
@@ -355,10 +432,6 @@ public class SignListener implements Listener {
                 || normalized.equals("timetrial");
     }
 
-    private String headerFor(GameModeType mode) {
-        return mode.isTimeTrial() ? SIGN_KEY_TRIAL : SIGN_KEY_HUNT;
-    }
-
     private String strip(String value) {
         if (value == null) {
             return "";
@@ -368,33 +441,4 @@ public class SignListener implements Listener {
 
     private record SignRegistration(String arenaName, GameModeType mode) {
     }
-
-    private record SignKey(String world, int x, int y, int z) {
-        private static SignKey fromBlock(Block block) {
-            if (block == null) {
-                return null;
-            }
-            Location location = block.getLocation();
-            if (location.getWorld() == null) {
-                return null;
-            }
-            return new SignKey(location.getWorld().getName(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
-        }
-
-        private Block block() {
-            if (world == null) {
-                return null;
-            }
-            var worldInstance = Bukkit.getWorld(world);
-            if (worldInstance == null) {
-                return null;
-            }
-            int chunkX = x >> 4;
-            int chunkZ = z >> 4;
-            if (!worldInstance.isChunkLoaded(chunkX, chunkZ)) {
-                return null;
-            }
-            return worldInstance.getBlockAt(x, y, z);
-        }
-    }
 }
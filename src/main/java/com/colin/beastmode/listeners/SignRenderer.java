@@ -0,0 +1,163 @@
+package com.colin.beastmode.listeners;
+
+import com.colin.beastmode.game.ArenaStatus;
+import com.colin.beastmode.game.GameModeType;
+import org.bukkit.ChatColor;
+import org.bukkit.block.Block;
+import org.bukkit.block.Sign;
+import org.bukkit.block.sign.Side;
+import org.bukkit.block.sign.SignSide;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Renders join-sign text and only touches the world when the lines for a sign side actually change.
+ */
+final class SignRenderer {
+
+    static final String SIGN_KEY_HUNT = ChatColor.BLUE + "[Beastmode]";
+    static final String SIGN_KEY_TRIAL = ChatColor.GREEN + "[Trial]";
+    private static final Side[] SIDES = {Side.FRONT, Side.BACK};
+
+    private final Map<SignKey, Rendered> rendered = new HashMap<>();
+
+    /**
+     * True when the sign was last rendered from this status version and needs no work at all.
+     */
+    boolean isCurrent(SignKey key, ArenaStatus status, GameModeType mode) {
+        Rendered previous = rendered.get(key);
+        if (previous != null && previous.version == status.getVersion() && previous.mode == mode
+                && status.getVersion() != 0L) {
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Brings the sign at {@code key} up to date with {@code status}. Returns false if the block is no longer a sign.
+     */
+    boolean render(SignKey key, Block block, ArenaStatus status, GameModeType mode) {
+        String[] lines = lines(status, mode);
+        Rendered previous = rendered.get(key);
+        if (previous != null && previous.mode == mode && previous.matches(lines)) {
+            previous.version = status.getVersion();
+            return true;
+        }
+        if (!(block.getState() instanceof Sign sign)) {
+            rendered.remove(key);
+            return false;
+        }
+        write(key, sign, lines, status.getVersion(), mode);
+        return true;
+    }
+
+    void forget(SignKey key) {
+        if (key != null) {
+            rendered.remove(key);
+        }
+    }
+
+    String[] lines(ArenaStatus status, GameModeType mode) {
+        if (!status.isAvailable()) {
+            return missingLines(mode);
+        }
+        return new String[]{
+                headerFor(mode),
+                ChatColor.AQUA + status.getArenaName(),
+                formatLineTwo(status, mode),
+                formatStatusLine(status, mode)
+        };
+    }
+
+    String[] missingLines(GameModeType mode) {
+        return new String[]{
+                headerFor(mode),
+                ChatColor.RED + "Unknown",
+                ChatColor.DARK_RED + "Arena missing",
+                ChatColor.RED + "Status: Offline"
+        };
+    }
+
+    String headerFor(GameModeType mode) {
+        return mode.isTimeTrial() ? SIGN_KEY_TRIAL : SIGN_KEY_HUNT;
+    }
+
+    private void write(SignKey key, Sign sign, String[] lines, long version, GameModeType mode) {
+        boolean changed = false;
+        for (Side side : SIDES) {
+            SignSide signSide = sign.getSide(side);
+            if (signSide == null) {
+                continue;
+            }
+            for (int i = 0; i < lines.length; i++) {
+                if (!lines[i].equals(signSide.getLine(i))) {
+                    signSide.setLine(i, lines[i]);
+                    changed = true;
+                }
+            }
+        }
+        if (changed) {
+            sign.update();
+        }
+        rendered.put(key, new Rendered(lines, version, mode));
+    }
+
+    private String formatLineTwo(ArenaStatus status, GameModeType mode) {
+        if (mode.isTimeTrial()) {
+            int count = Math.max(0, status.getPlayerCount());
+            String label = count == 1 ? "Runner" : "Runners";
+            return ChatColor.YELLOW + label + ": " + count;
+        }
+        int count = status.getPlayerCount();
+        if (status.hasCapacityLimit() && status.getCapacity() > 0) {
+            return ChatColor.YELLOW + "Players: " + count + "/" + status.getCapacity();
+        }
+        return ChatColor.YELLOW + "Players: " + count;
+    }
+
+    private String formatStatusLine(ArenaStatus status, GameModeType mode) {
+        if (!status.isAvailable()) {
+            return ChatColor.RED + "Status: Offline";
+        }
+        if (!status.isComplete()) {
+            return ChatColor.RED + "Status: Setup";
+        }
+        if (mode.isTimeTrial()) {
+            if (status.isMatchActive()) {
+                return ChatColor.AQUA + "Status: Active";
+            }
+            if (status.isRunning() || status.isSelecting()) {
+                return ChatColor.GOLD + "Status: Loading";
+            }
+            return ChatColor.GREEN + "Status: Ready";
+        }
+        if (status.isMatchActive()) {
+            return ChatColor.RED + "Status: In-Game";
+        }
+        if (status.isSelecting()) {
+            return ChatColor.GOLD + "Status: Selecting";
+        }
+        if (status.isRunning()) {
+            return ChatColor.YELLOW + "Status: Waiting";
+        }
+        return ChatColor.GREEN + "Status: Ready";
+    }
+
+    private static final class Rendered {
+        private final String[] lines;
+        private final GameModeType mode;
+        private long version;
+
+        private Rendered(String[] lines, long version, GameModeType mode) {
+            this.lines = lines;
+            this.version = version;
+            this.mode = mode;
+        }
+
+        private boolean matches(String[] candidate) {
+            return Arrays.equals(lines, candidate);
+        }
+    }
+}
@@ -421,7 +421,32 @@ public class ArenaDefinition {
                 .build();
     }
 
+    /**
+     * Returns a copy with every spawn, wall and finish position shifted by the offset; used for arena instances.
+     */
+    public ArenaDefinition translate(double dx, double dy, double dz) {
+        return builder(name)
+                .runnerWall(runnerWall != null ? runnerWall.translate(dx, dy, dz) : null)
+                .beastWall(beastWall != null ? beastWall.translate(dx, dy, dz) : null)
+                .runnerSpawn(shift(runnerSpawn, dx, dy, dz))
+                .beastSpawn(shift(beastSpawn, dx, dy, dz))
+                .waitingSpawn(shift(waitingSpawn, dx, dy, dz))
+                .gameMode(gameMode)
+                .runnerWallDelaySeconds(runnerWallDelaySeconds)
+                .beastReleaseDelaySeconds(beastReleaseDelaySeconds)
+                .beastSpeedLevel(beastSpeedLevel)
+                .finishButton(shift(finishButton, dx, dy, dz))
+                .finishRegion(finishRegion != null ? finishRegion.translate(dx, dy, dz) : null)
+                .minRunners(minRunners)
+                .maxRunners(maxRunners)
+                .build();
+    }
+
     public Cuboid getFinishRegion() {
         return finishRegion;
     }
+
+    private static Location shift(Location location, double dx, double dy, double dz) {
+        return location != null ? location.clone().add(dx, dy, dz) : null;
+    }
 }
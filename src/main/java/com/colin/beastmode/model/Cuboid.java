@@ -55,6 +55,10 @@ public class Cuboid {
         return max.clone();
     }
 
+    public Cuboid translate(double dx, double dy, double dz) {
+        return new Cuboid(worldName, min.clone().add(dx, dy, dz), max.clone().add(dx, dy, dz));
+    }
+
     public boolean contains(Location location) {
         if (location == null) {
             return false;
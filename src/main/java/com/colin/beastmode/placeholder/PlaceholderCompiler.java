@@ -0,0 +1,195 @@
+package com.colin.beastmode.placeholder;
+
+import com.colin.beastmode.game.ArenaStatus;
+import com.colin.beastmode.game.GameManager;
+import com.colin.beastmode.game.GameModeType;
+import com.colin.beastmode.game.TimeTrialService;
+import com.colin.beastmode.time.TimeTrialLeaderboard;
+import com.colin.beastmode.time.TimeTrialRecord;
+import org.bukkit.ChatColor;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Parses placeholder keys into resolvers. Fixed fields are read from the right, so arena names may contain
+ * underscores: {@code trial_my_arena_1_name} targets arena {@code my_arena}.
+ */
+final class PlaceholderCompiler {
+
+    private final GameManager gameManager;
+    private final TimeTrialService trials;
+
+    PlaceholderCompiler(GameManager gameManager) {
+        this.gameManager = Objects.requireNonNull(gameManager, "gameManager");
+        this.trials = gameManager.getTimeTrials();
+    }
+
+    PlaceholderResolver compile(String params) {
+        if (params == null || params.isEmpty()) {
+            return PlaceholderResolver.EMPTY;
+        }
+        int keywordEnd = params.indexOf('_');
+        if (keywordEnd <= 0) {
+            return PlaceholderResolver.EMPTY;
+        }
+        String keyword = params.substring(0, keywordEnd).toLowerCase(Locale.ENGLISH);
+        String rest = params.substring(keywordEnd + 1);
+        return switch (keyword) {
+            case "trial" -> trials != null ? compileLeaderboard(rest) : PlaceholderResolver.EMPTY;
+            case "trialbest" -> trials != null ? compilePersonalBest(rest) : PlaceholderResolver.EMPTY;
+            case "arena" -> compileArena(rest);
+            case "total" -> rest.equalsIgnoreCase("players")
+                    ? player -> Integer.toString(gameManager.getTotalArenaPlayers())
+                    : PlaceholderResolver.EMPTY;
+            case "busiest" -> rest.equalsIgnoreCase("arena")
+                    ? player -> {
+                        ArenaStatus busiest = gameManager.getBusiestArena();
+                        return busiest != null ? busiest.getArenaName() : "";
+                    }
+                    : PlaceholderResolver.EMPTY;
+            default -> PlaceholderResolver.EMPTY;
+        };
+    }
+
+    /**
+     * {@code arena_<arena>_<players|capacity|state|mode|beast|runners>}, read from the arena's published
+     * status snapshot.
+     */
+    private PlaceholderResolver compileArena(String rest) {
+        int fieldStart = rest.lastIndexOf('_');
+        if (fieldStart <= 0) {
+            return PlaceholderResolver.EMPTY;
+        }
+        String arena = rest.substring(0, fieldStart);
+        return switch (rest.substring(fieldStart + 1).toLowerCase(Locale.ENGLISH)) {
+            case "players" -> player -> Integer.toString(status(arena).getPlayerCount());
+            case "capacity" -> player -> {
+                ArenaStatus status = status(arena);
+                return status.hasCapacityLimit() ? Integer.toString(status.getCapacity()) : "";
+            };
+            case "state" -> player -> status(arena).getState();
+            case "mode" -> player -> status(arena).getMode() == GameModeType.TIME_TRIAL ? "time-trial" : "hunt";
+            case "beast" -> player -> {
+                String beast = status(arena).getBeastName();
+                return beast != null ? beast : "";
+            };
+            case "runners" -> player -> Integer.toString(status(arena).getRunnersRemaining());
+            default -> PlaceholderResolver.EMPTY;
+        };
+    }
+
+    private ArenaStatus status(String arena) {
+        return gameManager.getArenaStatus(arena, null);
+    }
+
+    /**
+     * {@code trial_<arena>_<slot>_<name|time|raw|display>}
+     */
+    private PlaceholderResolver compileLeaderboard(String rest) {
+        int fieldStart = rest.lastIndexOf('_');
+        if (fieldStart <= 0) {
+            return PlaceholderResolver.EMPTY;
+        }
+        int slotStart = rest.lastIndexOf('_', fieldStart - 1);
+        if (slotStart <= 0) {
+            return PlaceholderResolver.EMPTY;
+        }
+        String arena = rest.substring(0, slotStart);
+        Field field = Field.parse(rest.substring(fieldStart + 1));
+        int slot;
+        try {
+            slot = Integer.parseInt(rest.substring(slotStart + 1, fieldStart));
+        } catch (NumberFormatException ex) {
+            return PlaceholderResolver.EMPTY;
+        }
+        if (slot < 1 || field == null) {
+            return PlaceholderResolver.EMPTY;
+        }
+        if (field == Field.NAME) {
+            return player -> {
+                TimeTrialRecord record = trials.getLeaderboard(arena).getAtRank(slot);
+                return record != null ? ChatColor.stripColor(record.getPlayerName()) : "";
+            };
+        }
+        Memo memo = new Memo();
+        return player -> {
+            TimeTrialRecord record = trials.getLeaderboard(arena).getAtRank(slot);
+            return record != null ? memo.format(record, record.getTimeMillis(), field) : "";
+        };
+    }
+
+    /**
+     * {@code trialbest_<arena>_<time|raw|display>}
+     */
+    private PlaceholderResolver compilePersonalBest(String rest) {
+        int fieldStart = rest.lastIndexOf('_');
+        if (fieldStart <= 0) {
+            return PlaceholderResolver.EMPTY;
+        }
+        String arena = rest.substring(0, fieldStart);
+        Field field = Field.parse(rest.substring(fieldStart + 1));
+        if (field == null || field == Field.NAME) {
+            return PlaceholderResolver.EMPTY;
+        }
+        return player -> {
+            if (player == null || player.getUniqueId() == null) {
+                return "";
+            }
+            TimeTrialLeaderboard leaderboard = trials.getLeaderboard(arena);
+            TimeTrialRecord record = leaderboard.getRecord(player.getUniqueId());
+            if (record == null) {
+                return field == Field.RAW ? "-1" : "";
+            }
+            return switch (field) {
+                case TIME -> trials.formatDuration(record.getTimeMillis());
+                case RAW -> Long.toString(record.getTimeMillis());
+                case DISPLAY -> ChatColor.AQUA + trials.formatDuration(record.getTimeMillis());
+                case NAME -> "";
+            };
+        };
+    }
+
+    private enum Field {
+        NAME,
+        TIME,
+        RAW,
+        DISPLAY;
+
+        static Field parse(String value) {
+            return switch (value.toLowerCase(Locale.ENGLISH)) {
+                case "name" -> NAME;
+                case "time" -> TIME;
+                case "raw" -> RAW;
+                case "display" -> DISPLAY;
+                default -> null;
+            };
+        }
+    }
+
+    /**
+     * Remembers the last formatted value for a leaderboard slot so an unchanged record is not reformatted.
+     */
+    private final class Memo {
+        private volatile Entry last;
+
+        private String format(TimeTrialRecord record, long millis, Field field) {
+            Entry entry = last;
+            if (entry != null && entry.record == record) {
+                return entry.text;
+            }
+            String text = switch (field) {
+                case TIME -> trials.formatDuration(millis);
+                case RAW -> Long.toString(millis);
+                case DISPLAY -> ChatColor.GOLD + record.getPlayerName() + ChatColor.GRAY + ": "
+                        + ChatColor.AQUA + trials.formatDuration(millis);
+                case NAME -> ChatColor.stripColor(record.getPlayerName());
+            };
+            last = new Entry(record, text);
+            return text;
+        }
+    }
+
+    private record Entry(TimeTrialRecord record, String text) {
+    }
+}
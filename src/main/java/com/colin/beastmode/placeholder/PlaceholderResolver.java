@@ -0,0 +1,14 @@
+package com.colin.beastmode.placeholder;
+
+import org.bukkit.OfflinePlayer;
+
+/**
+ * A placeholder key parsed once into the lookup it stands for.
+ */
+@FunctionalInterface
+interface PlaceholderResolver {
+
+    PlaceholderResolver EMPTY = player -> "";
+
+    String resolve(OfflinePlayer player);
+}
@@ -13,8 +13,11 @@ import org.bukkit.configuration.file.FileConfiguration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -23,6 +26,8 @@ public class ArenaStorage {
     private final Beastmode plugin;
     private final Map<String, ArenaDefinition> arenas = new HashMap<>();
     private final Logger logger;
+    private final List<Consumer<String>> changeListeners = new CopyOnWriteArrayList<>();
+    private final Map<String, WorldAlias> worldAliases = new HashMap<>();
     private static final String WORLD_KEY = "world";
 
     public ArenaStorage(Beastmode plugin) {
@@ -31,6 +36,37 @@ public class ArenaStorage {
         reload();
     }
 
+    /**
+     * Registers a listener told the name of every arena that is saved, deleted or re-read.
+     */
+    public void addChangeListener(Consumer<String> listener) {
+        if (listener != null) {
+            changeListeners.add(listener);
+        }
+    }
+
+    private void fireChanged(String arenaName) {
+        for (Consumer<String> listener : changeListeners) {
+            listener.accept(arenaName);
+        }
+    }
+
+    /**
+     * Reads the arena's locations stored in {@code storedWorld} from {@code loadedWorld} instead, e.g. a copy of the
+     * build world, and writes them back under the stored name. A {@code null} loaded world removes the alias.
+     */
+    public void setWorldAlias(String arenaName, String storedWorld, String loadedWorld) {
+        if (arenaName == null) {
+            return;
+        }
+        String key = arenaName.toLowerCase(Locale.ENGLISH);
+        if (storedWorld == null || loadedWorld == null) {
+            worldAliases.remove(key);
+        } else {
+            worldAliases.put(key, new WorldAlias(storedWorld, loadedWorld));
+        }
+    }
+
     public void reload() {
         arenas.clear();
         FileConfiguration config = plugin.getConfig();
@@ -45,64 +81,92 @@ public class ArenaStorage {
                 continue;
             }
 
-            Cuboid runnerWall = readCuboid(section.getConfigurationSection("runnerWall"));
-            Cuboid beastWall = readCuboid(section.getConfigurationSection("beastWall"));
-            Location finishButton = readLocation(section.getConfigurationSection("finishButton"));
-            Cuboid legacyFinish = readCuboid(section.getConfigurationSection("finishRegion"));
-            if (finishButton == null && legacyFinish != null) {
-                World world = legacyFinish.getWorld();
-                if (world != null) {
-                    Location min = legacyFinish.getMin();
-                    Location max = legacyFinish.getMax();
-                    double centerX = (min.getX() + max.getX()) / 2.0;
-                    double centerY = (min.getY() + max.getY()) / 2.0;
-                    double centerZ = (min.getZ() + max.getZ()) / 2.0;
-                    finishButton = new Location(world, Math.floor(centerX), Math.floor(centerY), Math.floor(centerZ));
-                }
+            arenas.put(key.toLowerCase(), readArena(key, section));
+        }
+    }
+
+    /**
+     * Re-reads a single arena, e.g. once the world it lives in has been loaded; returns the fresh definition or
+     * {@code null} when the arena is not configured.
+     */
+    public ArenaDefinition reloadArena(String name) {
+        if (name == null) {
+            return null;
+        }
+        ConfigurationSection root = plugin.getConfig().getConfigurationSection("arenas");
+        if (root == null) {
+            return null;
+        }
+        for (String key : root.getKeys(false)) {
+            ConfigurationSection section = root.getConfigurationSection(key);
+            if (section != null && key.equalsIgnoreCase(name)) {
+                ArenaDefinition arena = readArena(key, section);
+                arenas.put(key.toLowerCase(), arena);
+                fireChanged(key);
+                return arena;
             }
-        Location runnerSpawn = readLocation(section.getConfigurationSection("runnerSpawn"));
-        Location beastSpawn = readLocation(section.getConfigurationSection("beastSpawn"));
-        Location waitingSpawn = readLocation(section.getConfigurationSection("waitingSpawn"));
-            String modeName = section.getString("gameMode", GameModeType.HUNT.name());
-            GameModeType mode;
-            try {
-                mode = modeName != null ? GameModeType.valueOf(modeName.toUpperCase(Locale.ENGLISH)) : GameModeType.HUNT;
-            } catch (IllegalArgumentException ex) {
-                logger.log(Level.WARNING, "Unknown game mode '{0}' for arena {1}; defaulting to HUNT.", new Object[]{modeName, key});
-                mode = GameModeType.HUNT;
+        }
+        return null;
+    }
+
+    private ArenaDefinition readArena(String key, ConfigurationSection section) {
+        WorldAlias alias = worldAliases.get(key.toLowerCase(Locale.ENGLISH));
+        Cuboid runnerWall = readCuboid(section.getConfigurationSection("runnerWall"), alias);
+        Cuboid beastWall = readCuboid(section.getConfigurationSection("beastWall"), alias);
+        Location finishButton = readLocation(section.getConfigurationSection("finishButton"), alias);
+        Cuboid legacyFinish = readCuboid(section.getConfigurationSection("finishRegion"), alias);
+        if (finishButton == null && legacyFinish != null) {
+            World world = legacyFinish.getWorld();
+            if (world != null) {
+                Location min = legacyFinish.getMin();
+                Location max = legacyFinish.getMax();
+                double centerX = (min.getX() + max.getX()) / 2.0;
+                double centerY = (min.getY() + max.getY()) / 2.0;
+                double centerZ = (min.getZ() + max.getZ()) / 2.0;
+                finishButton = new Location(world, Math.floor(centerX), Math.floor(centerY), Math.floor(centerZ));
             }
+        }
+        Location runnerSpawn = readLocation(section.getConfigurationSection("runnerSpawn"), alias);
+        Location beastSpawn = readLocation(section.getConfigurationSection("beastSpawn"), alias);
+        Location waitingSpawn = readLocation(section.getConfigurationSection("waitingSpawn"), alias);
+        String modeName = section.getString("gameMode", GameModeType.HUNT.name());
+        GameModeType mode;
+        try {
+            mode = modeName != null ? GameModeType.valueOf(modeName.toUpperCase(Locale.ENGLISH)) : GameModeType.HUNT;
+        } catch (IllegalArgumentException ex) {
+            logger.log(Level.WARNING, "Unknown game mode '{0}' for arena {1}; defaulting to HUNT.", new Object[]{modeName, key});
+            mode = GameModeType.HUNT;
+        }
 
-            int runnerDelay = section.getInt("runnerWallDelaySeconds", mode.isTimeTrial() ? 0 : -1);
-            int beastDelay = section.getInt("beastReleaseDelaySeconds", -1);
-            int beastSpeed = Math.max(section.getInt("beastSpeedLevel", 1), 0);
+        int runnerDelay = section.getInt("runnerWallDelaySeconds", mode.isTimeTrial() ? 0 : -1);
+        int beastDelay = section.getInt("beastReleaseDelaySeconds", -1);
+        int beastSpeed = Math.max(section.getInt("beastSpeedLevel", 1), 0);
         int minRunners = Math.max(section.getInt("minRunners", 1), 1);
         int maxRunners = section.getInt("maxRunners", 0);
         if (maxRunners < 0) {
-        maxRunners = 0;
+            maxRunners = 0;
         }
         if (maxRunners > 0 && maxRunners < minRunners) {
-        logger.log(Level.WARNING, "Arena {0} has maxRunners {1} smaller than minRunners {2}; clamping to match minimum.",
-            new Object[]{key, maxRunners, minRunners});
-        maxRunners = minRunners;
-        }
-
-            ArenaDefinition arena = ArenaDefinition.builder(key)
-                    .runnerWall(runnerWall)
-                    .beastWall(beastWall)
-            .gameMode(mode)
-            .finishRegion(legacyFinish)
-            .finishButton(finishButton)
-                    .runnerSpawn(runnerSpawn)
-                    .beastSpawn(beastSpawn)
-            .waitingSpawn(waitingSpawn)
-                    .runnerWallDelaySeconds(runnerDelay)
-                    .beastReleaseDelaySeconds(beastDelay)
-            .beastSpeedLevel(beastSpeed)
-            .minRunners(minRunners)
-            .maxRunners(maxRunners)
-                    .build();
-            arenas.put(key.toLowerCase(), arena);
+            logger.log(Level.WARNING, "Arena {0} has maxRunners {1} smaller than minRunners {2}; clamping to match minimum.",
+                    new Object[]{key, maxRunners, minRunners});
+            maxRunners = minRunners;
         }
+
+        return ArenaDefinition.builder(key)
+                .runnerWall(runnerWall)
+                .beastWall(beastWall)
+                .gameMode(mode)
+                .finishRegion(legacyFinish)
+                .finishButton(finishButton)
+                .runnerSpawn(runnerSpawn)
+                .beastSpawn(beastSpawn)
+                .waitingSpawn(waitingSpawn)
+                .runnerWallDelaySeconds(runnerDelay)
+                .beastReleaseDelaySeconds(beastDelay)
+                .beastSpeedLevel(beastSpeed)
+                .minRunners(minRunners)
+                .maxRunners(maxRunners)
+                .build();
     }
 
     public void saveArena(ArenaDefinition arena) {
@@ -110,15 +174,16 @@ public class ArenaStorage {
         String path = "arenas." + arena.getName();
         config.set(path, null);
         ConfigurationSection section = config.createSection(path);
+        WorldAlias alias = worldAliases.get(arena.getName().toLowerCase(Locale.ENGLISH));
 
-        writeCuboid(section.createSection("runnerWall"), arena.getRunnerWall());
-        writeCuboid(section.createSection("beastWall"), arena.getBeastWall());
+        writeCuboid(section.createSection("runnerWall"), arena.getRunnerWall(), alias);
+        writeCuboid(section.createSection("beastWall"), arena.getBeastWall(), alias);
         section.set("finishRegion", null);
         section.set("gameMode", arena.getGameModeType().name());
-        writeLocation(section.createSection("finishButton"), arena.getFinishButton());
-        writeLocation(section.createSection("runnerSpawn"), arena.getRunnerSpawn());
-        writeLocation(section.createSection("beastSpawn"), arena.getBeastSpawn());
-    writeLocation(section.createSection("waitingSpawn"), arena.getWaitingSpawn());
+        writeLocation(section.createSection("finishButton"), arena.getFinishButton(), alias);
+        writeLocation(section.createSection("runnerSpawn"), arena.getRunnerSpawn(), alias);
+        writeLocation(section.createSection("beastSpawn"), arena.getBeastSpawn(), alias);
+    writeLocation(section.createSection("waitingSpawn"), arena.getWaitingSpawn(), alias);
         section.set("runnerWallDelaySeconds", arena.getRunnerWallDelaySeconds());
         section.set("beastReleaseDelaySeconds", arena.getBeastReleaseDelaySeconds());
         section.set("beastSpeedLevel", arena.getBeastSpeedLevel());
@@ -127,6 +192,23 @@ public class ArenaStorage {
 
         plugin.saveConfig();
         reload();
+        fireChanged(arena.getName());
+    }
+
+    /**
+     * The world name stored with the arena's runner spawn, readable even while that world is not loaded.
+     */
+    public String getConfiguredWorld(String name) {
+        ConfigurationSection root = plugin.getConfig().getConfigurationSection("arenas");
+        if (root == null || name == null) {
+            return null;
+        }
+        for (String key : root.getKeys(false)) {
+            if (key.equalsIgnoreCase(name)) {
+                return root.getString(key + ".runnerSpawn." + WORLD_KEY);
+            }
+        }
+        return null;
     }
 
     public ArenaDefinition getArena(String name) {
@@ -257,14 +339,15 @@ public class ArenaStorage {
         config.set("arenas." + arena.getName(), null);
         plugin.saveConfig();
         reload();
+        fireChanged(arena.getName());
         return true;
     }
 
-    private Location readLocation(ConfigurationSection section) {
+    private Location readLocation(ConfigurationSection section, WorldAlias alias) {
         if (section == null) {
             return null;
         }
-    String worldName = section.getString(WORLD_KEY);
+    String worldName = WorldAlias.toLoaded(alias, section.getString(WORLD_KEY));
         double x = section.getDouble("x");
         double y = section.getDouble("y");
         double z = section.getDouble("z");
@@ -285,11 +368,11 @@ public class ArenaStorage {
         return new Location(world, x, y, z, yaw, pitch);
     }
 
-    private Cuboid readCuboid(ConfigurationSection section) {
+    private Cuboid readCuboid(ConfigurationSection section, WorldAlias alias) {
         if (section == null) {
             return null;
         }
-        String worldName = section.getString(WORLD_KEY);
+        String worldName = WorldAlias.toLoaded(alias, section.getString(WORLD_KEY));
         ConfigurationSection pos1Sec = section.getConfigurationSection("pos1");
         ConfigurationSection pos2Sec = section.getConfigurationSection("pos2");
         if (worldName == null || pos1Sec == null || pos2Sec == null) {
@@ -319,11 +402,11 @@ public class ArenaStorage {
         }
     }
 
-    private void writeLocation(ConfigurationSection section, Location location) {
+    private void writeLocation(ConfigurationSection section, Location location, WorldAlias alias) {
         if (section == null || location == null || location.getWorld() == null) {
             return;
         }
-    section.set(WORLD_KEY, location.getWorld().getName());
+    section.set(WORLD_KEY, WorldAlias.toStored(alias, location.getWorld().getName()));
         section.set("x", location.getX());
         section.set("y", location.getY());
         section.set("z", location.getZ());
@@ -331,11 +414,11 @@ public class ArenaStorage {
         section.set("pitch", location.getPitch());
     }
 
-    private void writeCuboid(ConfigurationSection section, Cuboid cuboid) {
+    private void writeCuboid(ConfigurationSection section, Cuboid cuboid, WorldAlias alias) {
         if (section == null || cuboid == null) {
             return;
         }
-    section.set(WORLD_KEY, cuboid.getWorldName());
+    section.set(WORLD_KEY, WorldAlias.toStored(alias, cuboid.getWorldName()));
         writePoint(section.createSection("pos1"), cuboid.getMin());
         writePoint(section.createSection("pos2"), cuboid.getMax());
     }
@@ -348,4 +431,15 @@ public class ArenaStorage {
         section.set("y", location.getY());
         section.set("z", location.getZ());
     }
+
+    private record WorldAlias(String stored, String loaded) {
+
+        private static String toLoaded(WorldAlias alias, String worldName) {
+            return alias != null && alias.stored.equalsIgnoreCase(worldName) ? alias.loaded : worldName;
+        }
+
+        private static String toStored(WorldAlias alias, String worldName) {
+            return alias != null && alias.loaded.equalsIgnoreCase(worldName) ? alias.stored : worldName;
+        }
+    }
 }
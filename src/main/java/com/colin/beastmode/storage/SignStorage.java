@@ -0,0 +1,97 @@
+package com.colin.beastmode.storage;
+
+import com.colin.beastmode.Beastmode;
+import com.colin.beastmode.game.GameModeType;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Level;
+
+/**
+ * Persists placed join signs so they keep refreshing across restarts.
+ */
+public class SignStorage {
+
+    private static final String SIGNS_KEY = "signs";
+
+    private final Beastmode plugin;
+    private final File storageFile;
+
+    public SignStorage(Beastmode plugin) {
+        this.plugin = plugin;
+        this.storageFile = new File(plugin.getDataFolder(), "signs.yml");
+    }
+
+    public List<StoredSign> loadSigns() {
+        if (!storageFile.exists()) {
+            return List.of();
+        }
+        YamlConfiguration yaml = YamlConfiguration.loadConfiguration(storageFile);
+        List<StoredSign> signs = new ArrayList<>();
+        for (Map<?, ?> entry : yaml.getMapList(SIGNS_KEY)) {
+            Object world = entry.get("world");
+            Object arena = entry.get("arena");
+            if (!(world instanceof String worldName) || !(arena instanceof String arenaName)) {
+                plugin.getLogger().log(Level.WARNING, "Skipping malformed sign entry {0}", entry);
+                continue;
+            }
+            try {
+                signs.add(new StoredSign(worldName,
+                        toInt(entry.get("x")), toInt(entry.get("y")), toInt(entry.get("z")),
+                        arenaName, parseMode(entry.get("mode"))));
+            } catch (IllegalArgumentException ex) {
+                plugin.getLogger().log(Level.WARNING, "Skipping malformed sign entry {0}", entry);
+            }
+        }
+        return signs;
+    }
+
+    public void saveSigns(Collection<StoredSign> signs) {
+        YamlConfiguration yaml = new YamlConfiguration();
+        List<Map<String, Object>> entries = new ArrayList<>(signs.size());
+        for (StoredSign sign : signs) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("world", sign.world());
+            entry.put("x", sign.x());
+            entry.put("y", sign.y());
+            entry.put("z", sign.z());
+            entry.put("arena", sign.arenaName());
+            entry.put("mode", sign.mode().name());
+            entries.add(entry);
+        }
+        yaml.set(SIGNS_KEY, entries);
+        try {
+            plugin.getDataFolder().mkdirs();
+            yaml.save(storageFile);
+        } catch (IOException ex) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to save signs.yml", ex);
+        }
+    }
+
+    private int toInt(Object value) {
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        if (value instanceof String text) {
+            return Integer.parseInt(text.trim());
+        }
+        throw new IllegalArgumentException("Not a coordinate: " + value);
+    }
+
+    private GameModeType parseMode(Object value) {
+        if (value instanceof String text && text.trim().toUpperCase(Locale.ENGLISH).equals(GameModeType.TIME_TRIAL.name())) {
+            return GameModeType.TIME_TRIAL;
+        }
+        return GameModeType.HUNT;
+    }
+
+    public record StoredSign(String world, int x, int y, int z, String arenaName, GameModeType mode) {
+    }
+}
@@ -1,19 +1,18 @@
 package com.colin.beastmode.storage;
 
 import com.colin.beastmode.Beastmode;
+import com.colin.beastmode.time.TimeTrialLeaderboard;
 import com.colin.beastmode.time.TimeTrialRecord;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
 /**
@@ -27,6 +26,7 @@ public class TimeTrialStorage {
     private final File storageFile;
     private YamlConfiguration configuration;
     private final Map<String, Map<UUID, TimeTrialRecord>> records = new HashMap<>();
+    private final Map<String, TimeTrialLeaderboard> leaderboards = new ConcurrentHashMap<>();
 
     public TimeTrialStorage(Beastmode plugin) {
         this.plugin = plugin;
@@ -45,6 +45,7 @@ public class TimeTrialStorage {
         }
         configuration = YamlConfiguration.loadConfiguration(storageFile);
         records.clear();
+        leaderboards.clear();
 
         ConfigurationSection arenasSection = configuration.getConfigurationSection(ARENAS_KEY);
         if (arenasSection == null) {
@@ -72,31 +73,36 @@ public class TimeTrialStorage {
                 String name = recordSection.getString("name", "Unknown");
                 long time = recordSection.getLong("time");
                 long recorded = recordSection.getLong("recorded", System.currentTimeMillis());
-                arenaRecords.put(playerId, new TimeTrialRecord(playerId, name, time, recorded));
+                long lag = recordSection.getLong("lag", 0L);
+                arenaRecords.put(playerId, new TimeTrialRecord(playerId, name, time, recorded, lag));
             }
             if (!arenaRecords.isEmpty()) {
                 records.put(arenaKey.toLowerCase(), arenaRecords);
+                rebuildLeaderboard(arenaKey.toLowerCase());
             }
         }
     }
 
-    public synchronized List<TimeTrialRecord> getTopRecords(String arenaName, int limit) {
-        Map<UUID, TimeTrialRecord> arenaRecords = records.getOrDefault(key(arenaName), Collections.emptyMap());
-        if (arenaRecords.isEmpty()) {
-            return List.of();
-        }
-        List<TimeTrialRecord> entries = new ArrayList<>(arenaRecords.values());
-        entries.sort(Comparator.naturalOrder());
-        if (limit > 0 && entries.size() > limit) {
-            return List.copyOf(entries.subList(0, limit));
-        }
-        return List.copyOf(entries);
+    /**
+     * Returns the current ranked snapshot for an arena without locking; it is replaced, never mutated, on change.
+     */
+    public TimeTrialLeaderboard getLeaderboard(String arenaName) {
+        return leaderboards.getOrDefault(key(arenaName), TimeTrialLeaderboard.EMPTY);
+    }
+
+    public List<TimeTrialRecord> getTopRecords(String arenaName, int limit) {
+        return getLeaderboard(arenaName).getTop(limit);
+    }
+
+    public RecordUpdate updateRecord(String arenaName, UUID playerId, String playerName, long timeMillis) {
+        return updateRecord(arenaName, playerId, playerName, timeMillis, 0L);
     }
 
     public synchronized RecordUpdate updateRecord(String arenaName,
                                                   UUID playerId,
                                                   String playerName,
-                                                  long timeMillis) {
+                                                  long timeMillis,
+                                                  long lagMillis) {
         String key = key(arenaName);
         Map<UUID, TimeTrialRecord> arenaRecords = records.computeIfAbsent(key, ignored -> new HashMap<>());
         TimeTrialRecord existing = arenaRecords.get(playerId);
@@ -106,40 +112,25 @@ public class TimeTrialStorage {
             // Update stored name if it changed but keep best time.
             if (!existing.getPlayerName().equals(playerName)) {
                 arenaRecords.put(playerId, existing.withUpdatedName(playerName));
+                rebuildLeaderboard(key);
                 save();
             }
-            int rank = findRank(arenaRecords.values(), playerId);
+            int rank = getLeaderboard(arenaName).getRank(playerId);
             return new RecordUpdate(false, rank, existing.getTimeMillis());
         }
 
-        TimeTrialRecord updated = new TimeTrialRecord(playerId, playerName, timeMillis, System.currentTimeMillis());
+        TimeTrialRecord updated = new TimeTrialRecord(playerId, playerName, timeMillis, System.currentTimeMillis(),
+                lagMillis);
         arenaRecords.put(playerId, updated);
+        rebuildLeaderboard(key);
         save();
 
-        int rank = findRank(arenaRecords.values(), playerId);
+        int rank = getLeaderboard(arenaName).getRank(playerId);
         return new RecordUpdate(true, rank, timeMillis);
     }
 
-    private int findRank(Iterable<TimeTrialRecord> records, UUID targetId) {
-        List<TimeTrialRecord> sorted = new ArrayList<>();
-        for (TimeTrialRecord record : records) {
-            sorted.add(record);
-        }
-        sorted.sort(Comparator.naturalOrder());
-        for (int i = 0; i < sorted.size(); i++) {
-            if (sorted.get(i).getPlayerId().equals(targetId)) {
-                return i + 1;
-            }
-        }
-        return -1;
-    }
-
-    public synchronized long getBestTime(String arenaName, UUID playerId) {
-        Map<UUID, TimeTrialRecord> arenaRecords = records.get(key(arenaName));
-        if (arenaRecords == null) {
-            return -1L;
-        }
-        TimeTrialRecord record = arenaRecords.get(playerId);
+    public long getBestTime(String arenaName, UUID playerId) {
+        TimeTrialRecord record = getLeaderboard(arenaName).getRecord(playerId);
         return record != null ? record.getTimeMillis() : -1L;
     }
 
@@ -154,6 +145,7 @@ public class TimeTrialStorage {
         if (arenaRecords.isEmpty()) {
             records.remove(key(arenaName));
         }
+        rebuildLeaderboard(key(arenaName));
         save();
         return true;
     }
@@ -177,6 +169,15 @@ public class TimeTrialStorage {
         return targetId != null && deleteRecord(arenaName, targetId);
     }
 
+    private void rebuildLeaderboard(String key) {
+        Map<UUID, TimeTrialRecord> arenaRecords = records.get(key);
+        if (arenaRecords == null || arenaRecords.isEmpty()) {
+            leaderboards.remove(key);
+            return;
+        }
+        leaderboards.put(key, TimeTrialLeaderboard.of(arenaRecords.values()));
+    }
+
     private void save() {
         YamlConfiguration yaml = new YamlConfiguration();
         ConfigurationSection arenasSection = yaml.createSection(ARENAS_KEY);
@@ -187,6 +188,9 @@ public class TimeTrialStorage {
                 recordSection.set("name", record.getPlayerName());
                 recordSection.set("time", record.getTimeMillis());
                 recordSection.set("recorded", record.getRecordedAt());
+                if (record.getLagMillis() > 0) {
+                    recordSection.set("lag", record.getLagMillis());
+                }
             }
         }
         try {
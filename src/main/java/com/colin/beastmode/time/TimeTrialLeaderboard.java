@@ -0,0 +1,78 @@
+package com.colin.beastmode.time;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable ranked snapshot of one arena's time-trial records, rebuilt whenever the arena's records change.
+ */
+public final class TimeTrialLeaderboard {
+
+    public static final TimeTrialLeaderboard EMPTY = new TimeTrialLeaderboard(List.of(), Map.of(), Map.of());
+
+    private final List<TimeTrialRecord> ranked;
+    private final Map<UUID, TimeTrialRecord> byPlayer;
+    private final Map<UUID, Integer> ranks;
+
+    private TimeTrialLeaderboard(List<TimeTrialRecord> ranked,
+                                 Map<UUID, TimeTrialRecord> byPlayer,
+                                 Map<UUID, Integer> ranks) {
+        this.ranked = ranked;
+        this.byPlayer = byPlayer;
+        this.ranks = ranks;
+    }
+
+    public static TimeTrialLeaderboard of(Collection<TimeTrialRecord> records) {
+        if (records == null || records.isEmpty()) {
+            return EMPTY;
+        }
+        List<TimeTrialRecord> sorted = new ArrayList<>(records);
+        sorted.sort(Comparator.naturalOrder());
+        Map<UUID, TimeTrialRecord> byPlayer = new HashMap<>();
+        Map<UUID, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            TimeTrialRecord record = sorted.get(i);
+            byPlayer.put(record.getPlayerId(), record);
+            ranks.put(record.getPlayerId(), i + 1);
+        }
+        return new TimeTrialLeaderboard(Collections.unmodifiableList(sorted),
+                Collections.unmodifiableMap(byPlayer), Collections.unmodifiableMap(ranks));
+    }
+
+    public List<TimeTrialRecord> getRanked() {
+        return ranked;
+    }
+
+    public List<TimeTrialRecord> getTop(int limit) {
+        if (limit <= 0 || limit >= ranked.size()) {
+            return ranked;
+        }
+        return ranked.subList(0, limit);
+    }
+
+    /**
+     * Returns the record at a 1-based rank, or {@code null} if no one holds it.
+     */
+    public TimeTrialRecord getAtRank(int rank) {
+        return rank >= 1 && rank <= ranked.size() ? ranked.get(rank - 1) : null;
+    }
+
+    public TimeTrialRecord getRecord(UUID playerId) {
+        return playerId != null ? byPlayer.get(playerId) : null;
+    }
+
+    public int getRank(UUID playerId) {
+        Integer rank = playerId != null ? ranks.get(playerId) : null;
+        return rank != null ? rank : -1;
+    }
+
+    public int size() {
+        return ranked.size();
+    }
+}
@@ -12,12 +12,18 @@ public final class TimeTrialRecord implements Comparable<TimeTrialRecord> {
     private final String playerName;
     private final long timeMillis;
     private final long recordedAt;
+    private final long lagMillis;
 
     public TimeTrialRecord(UUID playerId, String playerName, long timeMillis, long recordedAt) {
+        this(playerId, playerName, timeMillis, recordedAt, 0L);
+    }
+
+    public TimeTrialRecord(UUID playerId, String playerName, long timeMillis, long recordedAt, long lagMillis) {
         this.playerId = Objects.requireNonNull(playerId, "playerId");
         this.playerName = Objects.requireNonNull(playerName, "playerName");
         this.timeMillis = timeMillis;
         this.recordedAt = recordedAt;
+        this.lagMillis = Math.max(lagMillis, 0L);
     }
 
     public UUID getPlayerId() {
@@ -36,8 +42,15 @@ public final class TimeTrialRecord implements Comparable<TimeTrialRecord> {
         return recordedAt;
     }
 
+    /**
+     * Server lag observed during the attempt that set this record.
+     */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
     public TimeTrialRecord withUpdatedName(String name) {
-        return new TimeTrialRecord(playerId, name, timeMillis, recordedAt);
+        return new TimeTrialRecord(playerId, name, timeMillis, recordedAt, lagMillis);
     }
 
     @Override